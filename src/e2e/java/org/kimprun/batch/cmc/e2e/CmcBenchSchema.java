@@ -0,0 +1,53 @@
+package org.kimprun.batch.cmc.e2e;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * E2E 벤치마크 데이터베이스 초기화
+ *
+ * - Spring Batch 메타 테이블 (@EnableBatchProcessing 사용으로 Boot 의 스키마 초기화가 동작하지 않음)
+ * - cmc_* / coin 테이블 (schema/cmc-schema.sql, Flyway 배치 마이그레이션이 이 테이블에 인덱스를 만들므로 기동 전에 생성)
+ * - 심볼 매핑 대상이 될 기존 coin 행 (일부는 유니버스에 없는 심볼)
+ */
+final class CmcBenchSchema {
+
+    private static final String BATCH_SCHEMA = "org/springframework/batch/core/schema-postgresql.sql";
+    private static final String CMC_SCHEMA = "schema/cmc-schema.sql";
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private CmcBenchSchema() {
+    }
+
+    static void prepare(String jdbcUrl, String username, String password,
+                        SyntheticCmcUniverse universe, int existingCoins) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(BATCH_SCHEMA));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(CMC_SCHEMA));
+            seedExistingCoins(connection, universe, existingCoins);
+        }
+    }
+
+    private static void seedExistingCoins(Connection connection, SyntheticCmcUniverse universe,
+                                          int existingCoins) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO coin (symbol, name) VALUES (?, ?)")) {
+            for (int i = 1; i <= existingCoins; i++) {
+                // 20건 중 1건은 CMC 에 없는 심볼 (미매칭 집계 확인용)
+                String symbol = i % 20 == 0 ? "UNLISTED" + i : universe.symbol(i);
+                statement.setString(1, symbol);
+                statement.setString(2, "Existing " + symbol);
+                statement.addBatch();
+                if (i % SEED_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package org.kimprun.batch.cmc.e2e;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.BatchApplication;
+import org.kimprun.batch.cmc.e2e.CmcE2eRunResult.StepResult;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.kimprun.batch.support.IntegrationInfrastructure;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * cmcDataSyncJob E2E 처리량 벤치마크
+ *
+ * 유니버스 크기마다 새 데이터베이스 + 로컬 CMC 대역 서버로 실제 애플리케이션 컨텍스트를 띄워 Job 을 1회 실행하고
+ * Step 별 소요 시간, rows/sec, 처리 건당 DB 구문 수, 최대 힙 사용량을 기록한다.
+ * 배치 / 동시성 변경 전후로 같은 설정으로 실행해 결과 JSON 을 비교한다.
+ *
+ * 인자는 --key=value 형식의 애플리케이션 프로퍼티로, 벤치마크 기본값을 덮어쓴다.
+ * 예) --cmc.batch.coin-map.load-mode=FOREACH --batch.executor.cmc.max-concurrency=8
+ */
+@Slf4j
+public final class CmcE2eBenchmark {
+
+    private static final String STATEMENT_TIMER = "batch.db.statement.duration";
+    private static final int LISTING_PAGE_SIZE = 5000;
+
+    private CmcE2eBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        E2eSettings settings = E2eSettings.fromSystemProperties();
+        Map<String, String> overrides = parseOverrides(args);
+
+        List<CmcE2eRunResult> results = new ArrayList<>();
+        try (IntegrationInfrastructure infrastructure = IntegrationInfrastructure.fromSystemProperties("e2e")) {
+            for (int coins : settings.universes()) {
+                results.add(runUniverse(settings, infrastructure, coins, overrides));
+            }
+        }
+
+        writeReport(settings.reportPath(), results);
+    }
+
+    private static CmcE2eRunResult runUniverse(E2eSettings settings, IntegrationInfrastructure infrastructure,
+                                               int coins, Map<String, String> overrides) throws Exception {
+        SyntheticCmcUniverse universe = new SyntheticCmcUniverse(coins, settings.exchanges());
+        String jdbcUrl = infrastructure.createDatabase("cmc_e2e_" + coins);
+        CmcBenchSchema.prepare(jdbcUrl, infrastructure.postgresUsername(), infrastructure.postgresPassword(),
+            universe, settings.existingCoinsFor(coins));
+        infrastructure.clearApplicationKeys();
+
+        try (CmcStandInServer standIn = new CmcStandInServer(universe, settings.latencyMs(), settings.latencyJitterMs())) {
+            standIn.start();
+
+            Map<String, Object> properties = applicationProperties(settings, infrastructure, jdbcUrl, standIn, coins);
+            properties.putAll(overrides);
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BatchApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // 로컬 application.yml 이 있어도 운영 DB / CMC 로 나가지 않도록 가장 높은 우선순위로 등록
+                    .initializers(ctx -> ctx.getEnvironment().getPropertySources()
+                        .addFirst(new MapPropertySource("cmcE2eBenchmark", properties)))
+                    .run()) {
+
+                JobLauncher jobLauncher = context.getBean(JobLauncher.class);
+                Job job = context.getBean("cmcDataSyncJob", Job.class);
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+                log.info("E2E 실행 시작 - 코인: {}, 거래소: {}, 지연: {}ms", coins, settings.exchanges(), settings.latencyMs());
+                System.gc();
+
+                HeapPeakSampler heapPeakSampler = HeapPeakSampler.start();
+                long startNanos = System.nanoTime();
+                JobExecution jobExecution;
+                try {
+                    jobExecution = jobLauncher.run(job, new JobParametersBuilder()
+                        .addLocalDateTime("executeTime", LocalDateTime.now())
+                        .addString("mode", "e2e-bench")
+                        .toJobParameters());
+                } finally {
+                    heapPeakSampler.close();
+                }
+                long wallMillis = (System.nanoTime() - startNanos) / 1_000_000;
+                long peakHeapBytes = heapPeakSampler.peakBytes();
+
+                CmcE2eRunResult result = toResult(settings, coins, jobExecution, wallMillis, peakHeapBytes,
+                    statementsByStep(meterRegistry), standIn.requestCounts());
+                logResult(result);
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 벤치마크 기본 프로퍼티 (전체 유니버스를 한 번에 동기화하도록 페이지 / 증분 상한을 유니버스 크기에 맞춤)
+     */
+    private static Map<String, Object> applicationProperties(E2eSettings settings, IntegrationInfrastructure infrastructure,
+                                                             String jdbcUrl, CmcStandInServer standIn, int coins) {
+        return applicationProperties(jdbcUrl, infrastructure.postgresUsername(), infrastructure.postgresPassword(),
+            infrastructure.redisHost(), infrastructure.redisPort(), standIn, coins, settings.rateLimit());
+    }
+
+    /**
+     * 대역 서버 / 데이터베이스 / Redis 를 가리키는 애플리케이션 프로퍼티 (재시작 테스트도 같은 설정으로 기동)
+     */
+    static Map<String, Object> applicationProperties(String jdbcUrl, String username, String password,
+                                                     String redisHost, int redisPort,
+                                                     CmcStandInServer standIn, int coins, int rateLimit) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.application.name", "kimprun-batch-e2e");
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+        properties.put("spring.data.redis.host", redisHost);
+        properties.put("spring.data.redis.port", String.valueOf(redisPort));
+        properties.put("mybatis.mapper-locations", "classpath:mapper/**/*.xml");
+        properties.put("mybatis.configuration.map-underscore-to-camel-case", "true");
+
+        properties.put("cmc.api.key", "e2e-bench");
+        properties.put("cmc.api.url", standIn.baseUrl());
+        properties.put("cmc.api.coinmap_url", CmcStandInServer.COIN_MAP_PATH + "?listing_status=active&start=%d&limit=%d");
+        properties.put("cmc.api.latest_url", CmcStandInServer.LISTINGS_LATEST_PATH + "?start=%d&limit=%d");
+        properties.put("cmc.api.coin_info_url", CmcStandInServer.COIN_INFO_PATH + "?id=%s");
+        properties.put("cmc.api.exchange_map_url", CmcStandInServer.EXCHANGE_MAP_PATH + "?start=%d&limit=%d");
+        properties.put("cmc.api.exchange_info_url", CmcStandInServer.EXCHANGE_INFO_PATH + "?id=%s");
+
+        properties.put("cmc.batch.listing.max-pages", String.valueOf(coins / LISTING_PAGE_SIZE + 1));
+        properties.put("cmc.batch.coin-info.delta.max-coins-per-run", String.valueOf(coins));
+        properties.put("ratelimit.cmc.limit", String.valueOf(rateLimit));
+        properties.put("slack.webhook.url", "");
+        return properties;
+    }
+
+    private static Map<String, Long> statementsByStep(MeterRegistry meterRegistry) {
+        Map<String, Long> statements = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(STATEMENT_TIMER).timers()) {
+            String step = timer.getId().getTag(MetricTags.STEP);
+            statements.merge(step == null ? MetricTags.NO_STEP : step, timer.count(), Long::sum);
+        }
+        return statements;
+    }
+
+    private static CmcE2eRunResult toResult(E2eSettings settings, int coins, JobExecution jobExecution,
+                                            long wallMillis, long peakHeapBytes,
+                                            Map<String, Long> statementsByStep, Map<String, Long> standInRequests) {
+        List<StepResult> steps = jobExecution.getStepExecutions().stream()
+            .sorted(Comparator.comparing(StepExecution::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())))
+            .map(stepExecution -> StepResult.of(stepExecution,
+                statementsByStep.getOrDefault(stepExecution.getStepName(), 0L)))
+            .toList();
+        return new CmcE2eRunResult(coins, settings.exchanges(), settings.latencyMs(), jobExecution.getStatus().name(),
+            wallMillis, peakHeapBytes, steps, statementsByStep, standInRequests);
+    }
+
+    private static void logResult(CmcE2eRunResult result) {
+        log.info("E2E 실행 완료 - 코인: {}, 상태: {}, 전체: {}ms, 최대 힙: {}MB",
+            result.coins(), result.status(), result.wallMillis(), result.peakHeapBytes() / (1024 * 1024));
+        log.info(String.format("%-40s %-10s %10s %10s %12s %10s %12s",
+            "step", "status", "wall(ms)", "items", "rows/sec", "stmts", "stmts/item"));
+        for (StepResult step : result.steps()) {
+            log.info(String.format("%-40s %-10s %10d %10d %12.1f %10d %12.3f",
+                step.name(), step.status(), step.wallMillis(), step.items(), step.rowsPerSecond(),
+                step.statements(), step.statementsPerItem()));
+        }
+        log.info("Step 밖 구문 수: {}, 대역 서버 요청 수: {}",
+            result.statementsByStep().getOrDefault(MetricTags.NO_STEP, 0L), result.standInRequests());
+    }
+
+    private static void writeReport(String reportPath, List<CmcE2eRunResult> results) throws Exception {
+        File reportFile = new File(reportPath);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, results);
+        log.info("E2E 결과 저장 - {}", reportFile.getAbsolutePath());
+    }
+
+    private static Map<String, String> parseOverrides(String[] args) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이 아닌 인자: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            overrides.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return overrides;
+    }
+}
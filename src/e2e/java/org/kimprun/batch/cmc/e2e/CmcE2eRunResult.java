@@ -0,0 +1,48 @@
+package org.kimprun.batch.cmc.e2e;
+
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유니버스 1회 실행 결과 (results-*.json 으로 직렬화)
+ *
+ * @param statementsByStep Step 태그별 MyBatis 구문 수 (Step 밖에서 실행된 구문은 none, COPY 적재는 포함되지 않음)
+ * @param standInRequests  대역 서버 엔드포인트별 요청 수
+ */
+record CmcE2eRunResult(int coins,
+                       int exchanges,
+                       long latencyMs,
+                       String status,
+                       long wallMillis,
+                       long peakHeapBytes,
+                       List<StepResult> steps,
+                       Map<String, Long> statementsByStep,
+                       Map<String, Long> standInRequests) {
+
+    /**
+     * Step 실행 1건 (파티션 워커 Step 포함)
+     *
+     * @param items 처리 건수 (writeCount, 쓰기가 없는 Step 은 readCount)
+     */
+    record StepResult(String name,
+                      String status,
+                      long wallMillis,
+                      long items,
+                      double rowsPerSecond,
+                      long statements,
+                      double statementsPerItem) {
+
+        static StepResult of(StepExecution stepExecution, long statements) {
+            long wallMillis = stepExecution.getStartTime() == null || stepExecution.getEndTime() == null ? 0
+                : Duration.between(stepExecution.getStartTime(), stepExecution.getEndTime()).toMillis();
+            long items = stepExecution.getWriteCount() > 0 ? stepExecution.getWriteCount() : stepExecution.getReadCount();
+            double rowsPerSecond = wallMillis == 0 ? 0 : items * 1000.0 / wallMillis;
+            double statementsPerItem = items == 0 ? 0 : (double) statements / items;
+            return new StepResult(stepExecution.getStepName(), stepExecution.getStatus().name(), wallMillis,
+                items, rowsPerSecond, statements, statementsPerItem);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.kimprun.batch.cmc.e2e;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CoinMarketCap API 5개 엔드포인트의 로컬 대역 서버 (JDK HttpServer)
+ *
+ * 응답 지연은 요청마다 latencyMs + [0, jitterMs) 만큼 sleep 으로 흉내내고,
+ * 요청 처리는 가상 스레드에서 하므로 배치 쪽 동시 요청 수만큼 지연이 겹친다.
+ */
+@Slf4j
+final class CmcStandInServer implements AutoCloseable {
+
+    static final String COIN_MAP_PATH = "/v1/cryptocurrency/map";
+    static final String LISTINGS_LATEST_PATH = "/v1/cryptocurrency/listings/latest";
+    static final String COIN_INFO_PATH = "/v2/cryptocurrency/info";
+    static final String EXCHANGE_MAP_PATH = "/v1/exchange/map";
+    static final String EXCHANGE_INFO_PATH = "/v1/exchange/info";
+
+    private final SyntheticCmcUniverse universe;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestedIdCounts = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    CmcStandInServer(SyntheticCmcUniverse universe, long latencyMs, long jitterMs) throws IOException {
+        this.universe = universe;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        server.createContext(COIN_MAP_PATH, exchange -> handle(exchange, (g, query) ->
+            universe.writeCoinMap(g, intParam(query, "start", 1), intParam(query, "limit", 5000))));
+        server.createContext(LISTINGS_LATEST_PATH, exchange -> handle(exchange, (g, query) ->
+            universe.writeListingsLatest(g, intParam(query, "start", 1), intParam(query, "limit", 100))));
+        server.createContext(COIN_INFO_PATH, exchange -> handle(exchange, (g, query) ->
+            universe.writeCoinInfo(g, idsParam(query))));
+        server.createContext(EXCHANGE_MAP_PATH, exchange -> handle(exchange, (g, query) ->
+            universe.writeExchangeMap(g, intParam(query, "start", 1), intParam(query, "limit", 5000))));
+        server.createContext(EXCHANGE_INFO_PATH, exchange -> handle(exchange, (g, query) ->
+            universe.writeExchangeInfo(g, idsParam(query))));
+        server.setExecutor(executor);
+    }
+
+    void start() {
+        server.start();
+        log.info("CMC 대역 서버 시작 - {}, 코인: {}, 거래소: {}, 지연: {}ms (+{}ms)",
+            baseUrl(), universe.coins(), universe.exchanges(), latencyMs, jitterMs);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 엔드포인트별 처리한 요청 수
+     */
+    Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        requestCounts.forEach((path, count) -> counts.put(path, count.sum()));
+        return counts;
+    }
+
+    /**
+     * ID 목록으로 조회하는 엔드포인트(info)별 요청된 ID 수 (중복 요청 포함)
+     */
+    Map<String, Long> requestedIdCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        requestedIdCounts.forEach((path, count) -> counts.put(path, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, ResponseWriter writer) throws IOException {
+        try (exchange) {
+            String contextPath = exchange.getHttpContext().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            requestCounts.computeIfAbsent(contextPath, path -> new LongAdder()).increment();
+            if (query.containsKey("id")) {
+                requestedIdCounts.computeIfAbsent(contextPath, path -> new LongAdder()).add(idsParam(query).size());
+            }
+            simulateLatency();
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            // 길이를 미리 알 수 없으므로 chunked 응답
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody();
+                 JsonGenerator g = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+                writer.write(g, query);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("CMC 대역 서버 응답 실패 - {}", exchange.getRequestURI(), e);
+            throw e;
+        }
+    }
+
+    private void simulateLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static List<Long> idsParam(Map<String, String> query) {
+        String value = query.get("id");
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).map(Long::valueOf).toList();
+    }
+
+    @FunctionalInterface
+    private interface ResponseWriter {
+        void write(JsonGenerator g, Map<String, String> query) throws IOException;
+    }
+}
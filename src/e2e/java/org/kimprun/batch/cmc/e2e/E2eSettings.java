@@ -0,0 +1,47 @@
+package org.kimprun.batch.cmc.e2e;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * E2E 벤치마크 설정 (시스템 프로퍼티 e2e.*, gradle e2eBench 태스크가 -Pe2e.* 를 그대로 전달)
+ *
+ * 서버 설정(e2e.postgresUrl / e2e.redisHost 등)은 IntegrationInfrastructure 가 같은 e2e.* 프로퍼티에서 읽는다.
+ *
+ * @param universes       유니버스 크기 (코인 수) 목록
+ * @param latencyMs       대역 서버 응답 지연 (ms)
+ * @param latencyJitterMs 응답 지연에 더할 랜덤 값 상한 (ms)
+ * @param exchanges       거래소 수
+ * @param existingCoins   기존 coin 테이블 시드 건수 (0 이하면 유니버스의 5%)
+ * @param rateLimit       CMC API 분당 허용 요청 수 (ratelimit.cmc.limit)
+ */
+record E2eSettings(List<Integer> universes,
+                   long latencyMs,
+                   long latencyJitterMs,
+                   int exchanges,
+                   int existingCoins,
+                   int rateLimit,
+                   String reportPath) {
+
+    static E2eSettings fromSystemProperties() {
+        return new E2eSettings(
+            Arrays.stream(property("universes", "10000,50000,200000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList(),
+            Long.parseLong(property("latencyMs", "50")),
+            Long.parseLong(property("latencyJitterMs", "0")),
+            Integer.parseInt(property("exchanges", "1000")),
+            Integer.parseInt(property("existingCoins", "0")),
+            Integer.parseInt(property("rateLimit", "100000")),
+            property("report", "build/reports/e2e/results.json"));
+    }
+
+    int existingCoinsFor(int coins) {
+        return existingCoins > 0 ? Math.min(existingCoins, coins) : Math.max(1, coins / 20);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("e2e." + name, defaultValue);
+    }
+}
@@ -0,0 +1,54 @@
+package org.kimprun.batch.cmc.e2e;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job 실행 중 힙 사용량 최대값 샘플링
+ *
+ * 힙 풀별 peak usage 합은 풀마다 최대 시점이 달라 과대 추정되므로, 전체 힙 사용량을 주기적으로 읽어 최대값을 취한다.
+ * 샘플 사이의 순간 최대값은 놓칠 수 있다.
+ */
+final class HeapPeakSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MS = 20;
+
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakBytes = new AtomicLong();
+    private final Thread sampler;
+    private volatile boolean running = true;
+
+    private HeapPeakSampler() {
+        sample();
+        sampler = Thread.ofPlatform().daemon().name("e2e-heap-sampler").start(() -> {
+            while (running) {
+                sample();
+                try {
+                    Thread.sleep(SAMPLE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    static HeapPeakSampler start() {
+        return new HeapPeakSampler();
+    }
+
+    long peakBytes() {
+        return peakBytes.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        sampler.interrupt();
+        sample();
+    }
+
+    private void sample() {
+        peakBytes.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+}
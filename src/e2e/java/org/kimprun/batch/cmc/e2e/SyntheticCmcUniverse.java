@@ -0,0 +1,287 @@
+package org.kimprun.batch.cmc.e2e;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * E2E 벤치마크용 합성 CMC 데이터
+ *
+ * 코인 ID 1..coins, 거래소 ID 1..exchanges 를 ID 만으로 결정적으로 생성하므로 응답을 미리 만들어 두지 않고
+ * 요청마다 JsonGenerator 로 스트리밍한다 (200k 코인 유니버스도 대역 서버 메모리를 거의 쓰지 않음).
+ *
+ * - 3 의 배수 ID 는 토큰 (platform 있음, is_mainnet = false)
+ * - 심볼 공간을 코인 수의 90% 로 잡아 약 10% 의 코인이 심볼을 공유 (심볼 매핑의 모호 케이스)
+ */
+final class SyntheticCmcUniverse {
+
+    private static final String TIMESTAMP = "2024-07-03T12:40:00.000Z";
+    private static final String DESCRIPTION =
+        "Synthetic coin generated for the end-to-end batch benchmark. The text length is close to the median "
+            + "CoinMarketCap description so that upsert and hash costs stay realistic.";
+
+    private final int coins;
+    private final int exchanges;
+    private final int symbolSpace;
+
+    SyntheticCmcUniverse(int coins, int exchanges) {
+        this.coins = coins;
+        this.exchanges = exchanges;
+        this.symbolSpace = Math.max(1, coins * 9 / 10);
+    }
+
+    int coins() {
+        return coins;
+    }
+
+    int exchanges() {
+        return exchanges;
+    }
+
+    /**
+     * 코인 심볼 (기존 coin 테이블 시드에도 같은 규칙 사용)
+     */
+    String symbol(long id) {
+        return "S" + Long.toString(id % symbolSpace, 36).toUpperCase();
+    }
+
+    /**
+     * /v1/cryptocurrency/map
+     */
+    void writeCoinMap(JsonGenerator g, int start, int limit) throws IOException {
+        int end = endOf(start, limit, coins);
+        writeStatus(g, Math.max(1, (end - start + 1) / 5000), coins);
+        g.writeArrayFieldStart("data");
+        for (long id = start; id <= end; id++) {
+            g.writeStartObject();
+            g.writeNumberField("id", id);
+            g.writeNumberField("rank", id);
+            g.writeStringField("name", "Coin " + id);
+            g.writeStringField("symbol", symbol(id));
+            g.writeStringField("slug", "coin-" + id);
+            g.writeBooleanField("is_active", true);
+            g.writeBooleanField("status", true);
+            g.writeStringField("first_historical_data", "2021-01-01T00:00:00.000Z");
+            g.writeStringField("last_historical_data", TIMESTAMP);
+            writePlatform(g, id);
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeEndObject();
+    }
+
+    /**
+     * /v1/cryptocurrency/listings/latest
+     */
+    void writeListingsLatest(JsonGenerator g, int start, int limit) throws IOException {
+        int end = endOf(start, limit, coins);
+        writeStatus(g, Math.max(1, (end - start + 1) / 200), coins);
+        g.writeArrayFieldStart("data");
+        for (long id = start; id <= end; id++) {
+            g.writeStartObject();
+            g.writeNumberField("id", id);
+            g.writeStringField("name", "Coin " + id);
+            g.writeStringField("symbol", symbol(id));
+            g.writeStringField("slug", "coin-" + id);
+            g.writeNumberField("num_market_pairs", 1 + id % 500);
+            g.writeStringField("date_added", "2021-01-01T00:00:00.000Z");
+            g.writeArrayFieldStart("tags");
+            g.writeString("mineable");
+            g.writeString("layer-1");
+            g.writeEndArray();
+            g.writeNumberField("max_supply", 21_000_000L + id);
+            g.writeNumberField("circulating_supply", 19_000_000L + id);
+            g.writeNumberField("total_supply", 19_500_000L + id);
+            g.writeBooleanField("infinite_supply", false);
+            writePlatform(g, id);
+            g.writeNumberField("cmc_rank", id);
+            g.writeNullField("self_reported_circulating_supply");
+            g.writeNullField("self_reported_market_cap");
+            g.writeNullField("tvl_ratio");
+            g.writeStringField("last_updated", TIMESTAMP);
+            g.writeObjectFieldStart("quote");
+            g.writeObjectFieldStart("USD");
+            g.writeNumberField("price", 1000.0 / id);
+            g.writeNumberField("volume_24h", 1_000_000.0 / id);
+            g.writeNumberField("volume_change_24h", 1.5);
+            g.writeNumberField("percent_change_1h", -0.2);
+            g.writeNumberField("percent_change_24h", 3.1);
+            g.writeNumberField("percent_change_7d", -2.6);
+            g.writeNumberField("percent_change_30d", 11.1);
+            g.writeNumberField("percent_change_60d", 0.8);
+            g.writeNumberField("percent_change_90d", -8.4);
+            g.writeNumberField("market_cap", 1.0e12 / id);
+            g.writeNumberField("market_cap_dominance", 50.0 / id);
+            g.writeNumberField("fully_diluted_market_cap", 1.1e12 / id);
+            g.writeNullField("tvl");
+            g.writeStringField("last_updated", TIMESTAMP);
+            g.writeEndObject();
+            g.writeEndObject();
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeEndObject();
+    }
+
+    /**
+     * /v2/cryptocurrency/info (data 는 ID 를 키로 하는 객체, 유니버스 밖 ID 는 생략)
+     */
+    void writeCoinInfo(JsonGenerator g, List<Long> ids) throws IOException {
+        writeStatus(g, Math.max(1, ids.size() / 100), ids.size());
+        g.writeObjectFieldStart("data");
+        for (long id : ids) {
+            if (id < 1 || id > coins) {
+                continue;
+            }
+            g.writeObjectFieldStart(String.valueOf(id));
+            g.writeNumberField("id", id);
+            g.writeStringField("name", "Coin " + id);
+            g.writeStringField("symbol", symbol(id));
+            g.writeStringField("category", isToken(id) ? "token" : "coin");
+            g.writeStringField("description", DESCRIPTION);
+            g.writeStringField("slug", "coin-" + id);
+            g.writeStringField("logo", "https://static.example.com/coins/64x64/" + id + ".png");
+            g.writeStringField("subreddit", "");
+            g.writeStringField("notice", "");
+            g.writeObjectFieldStart("urls");
+            writeStringArray(g, "website", "https://coin-" + id + ".example.com/");
+            writeStringArray(g, "twitter");
+            writeStringArray(g, "explorer", "https://explorer-a.example.com/" + id, "https://explorer-b.example.com/" + id);
+            writeStringArray(g, "source_code");
+            g.writeEndObject();
+            writePlatform(g, id);
+            g.writeStringField("date_added", "2021-01-01T00:00:00.000Z");
+            g.writeNumberField("is_hidden", 0);
+            g.writeStringField("date_launched", "2021-01-01T00:00:00.000Z");
+            g.writeArrayFieldStart("contract_address");
+            if (isToken(id)) {
+                g.writeStartObject();
+                g.writeStringField("contract_address", tokenAddress(id));
+                g.writeFieldName("platform");
+                writePlatformObject(g, id);
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeNullField("self_reported_circulating_supply");
+            g.writeNullField("self_reported_market_cap");
+            g.writeBooleanField("infinite_supply", id % 7 == 0);
+            g.writeEndObject();
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+    }
+
+    /**
+     * /v1/exchange/map
+     */
+    void writeExchangeMap(JsonGenerator g, int start, int limit) throws IOException {
+        int end = endOf(start, limit, exchanges);
+        writeStatus(g, 1, exchanges);
+        g.writeArrayFieldStart("data");
+        for (long id = start; id <= end; id++) {
+            g.writeStartObject();
+            g.writeNumberField("id", id);
+            g.writeStringField("name", "Exchange " + id);
+            g.writeStringField("slug", "exchange-" + id);
+            g.writeBooleanField("is_active", true);
+            g.writeBooleanField("is_listed", true);
+            g.writeBooleanField("is_redistributable", true);
+            g.writeStringField("first_historical_data", "2018-01-01T00:00:00.000Z");
+            g.writeStringField("last_historical_data", TIMESTAMP);
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeEndObject();
+    }
+
+    /**
+     * /v1/exchange/info
+     */
+    void writeExchangeInfo(JsonGenerator g, List<Long> ids) throws IOException {
+        writeStatus(g, Math.max(1, ids.size() / 100), ids.size());
+        g.writeObjectFieldStart("data");
+        for (long id : ids) {
+            if (id < 1 || id > exchanges) {
+                continue;
+            }
+            g.writeObjectFieldStart(String.valueOf(id));
+            g.writeNumberField("id", id);
+            g.writeStringField("name", "Exchange " + id);
+            g.writeStringField("slug", "exchange-" + id);
+            g.writeStringField("description", "Synthetic exchange " + id);
+            g.writeStringField("notice", "");
+            g.writeStringField("logo", "https://static.example.com/exchanges/64x64/" + id + ".png");
+            writeStringArray(g, "countries");
+            writeStringArray(g, "fiats", "EUR", "KRW", "USD");
+            g.writeObjectFieldStart("urls");
+            writeStringArray(g, "website", "https://exchange-" + id + ".example.com/");
+            writeStringArray(g, "twitter");
+            writeStringArray(g, "register");
+            g.writeEndObject();
+            g.writeStringField("date_launched", "2018-01-01T00:00:00.000Z");
+            g.writeBooleanField("is_hidden", false);
+            g.writeBooleanField("is_redistributable", true);
+            g.writeNumberField("market_fee", 0.02);
+            g.writeNumberField("taker_fee", 0.04);
+            g.writeNumberField("spot_volume_usd", 1.0e9 / id);
+            g.writeStringField("spot_volume_last_updated", TIMESTAMP);
+            g.writeNumberField("weekly_visited", 1_000_000L / id);
+            g.writeEndObject();
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+    }
+
+    private boolean isToken(long id) {
+        return id % 3 == 0;
+    }
+
+    private String tokenAddress(long id) {
+        return String.format("0x%040x", id);
+    }
+
+    private void writePlatform(JsonGenerator g, long id) throws IOException {
+        g.writeFieldName("platform");
+        if (isToken(id)) {
+            writePlatformObject(g, id);
+        } else {
+            g.writeNull();
+        }
+    }
+
+    private void writePlatformObject(JsonGenerator g, long id) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("id", 1027);
+        g.writeStringField("name", "Ethereum");
+        g.writeStringField("symbol", "ETH");
+        g.writeStringField("slug", "ethereum");
+        g.writeStringField("token_address", tokenAddress(id));
+        g.writeEndObject();
+    }
+
+    private void writeStatus(JsonGenerator g, int creditCount, int totalCount) throws IOException {
+        g.writeStartObject();
+        g.writeObjectFieldStart("status");
+        g.writeStringField("timestamp", TIMESTAMP);
+        g.writeNumberField("error_code", 0);
+        g.writeNullField("error_message");
+        g.writeNumberField("elapsed", 10);
+        g.writeNumberField("credit_count", creditCount);
+        g.writeNullField("notice");
+        g.writeNumberField("total_count", totalCount);
+        g.writeEndObject();
+    }
+
+    private void writeStringArray(JsonGenerator g, String field, String... values) throws IOException {
+        g.writeArrayFieldStart(field);
+        for (String value : values) {
+            g.writeString(value);
+        }
+        g.writeEndArray();
+    }
+
+    private static int endOf(int start, int limit, int size) {
+        return Math.min(size, start + limit - 1);
+    }
+}
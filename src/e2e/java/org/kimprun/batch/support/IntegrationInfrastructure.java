@@ -0,0 +1,186 @@
+package org.kimprun.batch.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 통합 테스트 / E2E 벤치마크용 PostgreSQL / Redis
+ *
+ * 시스템 프로퍼티 &lt;prefix&gt;.postgresUrl / &lt;prefix&gt;.redisHost 를 지정하면 해당 서버를 사용하고,
+ * 없으면 처음 사용할 때 Testcontainers 로 컨테이너를 띄운다 (gradle test / e2eBench 태스크가 -Ptest.* / -Pe2e.* 를 그대로 전달).
+ *
+ * 외부 서버는 개발용 공유 서버일 수 있으므로 다른 데이터를 지우지 않는다.
+ * - 데이터베이스는 실행마다 고유한 이름으로 만들고, 종료 시 이 인스턴스가 만든 것만 삭제
+ * - Redis 는 애플리케이션 키(응답 캐시, Rate Limiter)만 삭제
+ */
+@Slf4j
+public final class IntegrationInfrastructure implements AutoCloseable {
+
+    private static final int REDIS_PORT = 6379;
+    // 애플리케이션이 쓰는 Redis 키 (CmcResponseCache, DistributedRateLimiterImpl / LeasedPermitBucket)
+    private static final List<String> APPLICATION_KEY_PATTERNS = List.of("kimprun:cmc:*", "kimprun:ratelimit:*");
+
+    private final String prefix;
+    // 데이터베이스 이름 뒤에 붙여 이전 실행 / 다른 사용자의 데이터베이스와 겹치지 않게 함
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final List<String> createdDatabases = new ArrayList<>();
+
+    private PostgreSQLContainer<?> postgres;
+    private GenericContainer<?> redis;
+
+    private IntegrationInfrastructure(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * &lt;prefix&gt;.* 시스템 프로퍼티로 서버 설정 (postgresUrl, postgresUser, postgresPassword, redisHost, redisPort,
+     * postgresImage, redisImage)
+     */
+    public static IntegrationInfrastructure fromSystemProperties(String prefix) {
+        return new IntegrationInfrastructure(prefix);
+    }
+
+    /**
+     * 컨테이너를 띄워야 하는데 Docker 를 사용할 수 없는지 여부
+     */
+    public boolean isUnavailable() {
+        return (!usesExternalPostgres() || !usesExternalRedis()) && !DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * 빈 데이터베이스를 name_&lt;실행 ID&gt; 로 생성 후 JDBC URL 반환 (기존 데이터베이스는 건드리지 않음)
+     */
+    public synchronized String createDatabase(String name) throws SQLException {
+        String database = name + "_" + runId;
+        try (Connection connection = DriverManager.getConnection(postgresAdminUrl(), postgresUsername(), postgresPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + database);
+        }
+        createdDatabases.add(database);
+
+        String adminJdbcUrl = postgresAdminUrl();
+        int queryStart = adminJdbcUrl.indexOf('?');
+        String base = queryStart < 0 ? adminJdbcUrl : adminJdbcUrl.substring(0, queryStart);
+        String query = queryStart < 0 ? "" : adminJdbcUrl.substring(queryStart);
+        return base.substring(0, base.lastIndexOf('/') + 1) + database + query;
+    }
+
+    public String postgresUsername() {
+        return usesExternalPostgres() ? property("postgresUser", "postgres") : postgresContainer().getUsername();
+    }
+
+    public String postgresPassword() {
+        return usesExternalPostgres() ? property("postgresPassword", "postgres") : postgresContainer().getPassword();
+    }
+
+    public String redisHost() {
+        return usesExternalRedis() ? property("redisHost", "") : redisContainer().getHost();
+    }
+
+    public int redisPort() {
+        return usesExternalRedis()
+            ? Integer.parseInt(property("redisPort", String.valueOf(REDIS_PORT)))
+            : redisContainer().getMappedPort(REDIS_PORT);
+    }
+
+    /**
+     * Redis 에 연결된 새 Redisson 클라이언트 (종료는 호출자가 처리)
+     */
+    public RedissonClient newRedissonClient() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redisHost() + ":" + redisPort());
+        return Redisson.create(config);
+    }
+
+    /**
+     * 이전 실행이 남긴 응답 캐시 / Rate Limiter 키 삭제 (SCAN 후 삭제, 다른 키는 유지)
+     */
+    public void clearApplicationKeys() {
+        RedissonClient client = newRedissonClient();
+        try {
+            APPLICATION_KEY_PATTERNS.forEach(pattern -> client.getKeys().deleteByPattern(pattern));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * 외부 서버면 이 인스턴스가 만든 데이터베이스만 삭제하고, 컨테이너면 중지
+     */
+    @Override
+    public synchronized void close() {
+        if (usesExternalPostgres()) {
+            dropCreatedDatabases();
+        } else if (postgres != null) {
+            postgres.stop();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    private void dropCreatedDatabases() {
+        if (createdDatabases.isEmpty()) {
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(postgresAdminUrl(), postgresUsername(), postgresPassword());
+             Statement statement = connection.createStatement()) {
+            for (String database : createdDatabases) {
+                statement.execute("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+            }
+            createdDatabases.clear();
+        } catch (SQLException e) {
+            log.warn("생성한 데이터베이스 삭제 실패 - {}", createdDatabases, e);
+        }
+    }
+
+    private boolean usesExternalPostgres() {
+        return !property("postgresUrl", "").isBlank();
+    }
+
+    private boolean usesExternalRedis() {
+        return !property("redisHost", "").isBlank();
+    }
+
+    private String postgresAdminUrl() {
+        return usesExternalPostgres() ? property("postgresUrl", "") : postgresContainer().getJdbcUrl();
+    }
+
+    private synchronized PostgreSQLContainer<?> postgresContainer() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse(property("postgresImage", "postgres:16-alpine")))
+                .withCommand("postgres", "-c", "max_connections=200");
+            postgres.start();
+            log.info("PostgreSQL 컨테이너 시작 - {}", postgres.getJdbcUrl());
+        }
+        return postgres;
+    }
+
+    private synchronized GenericContainer<?> redisContainer() {
+        if (redis == null) {
+            redis = new GenericContainer<>(DockerImageName.parse(property("redisImage", "redis:7-alpine")))
+                .withExposedPorts(REDIS_PORT);
+            redis.start();
+            log.info("Redis 컨테이너 시작 - {}:{}", redis.getHost(), redis.getMappedPort(REDIS_PORT));
+        }
+        return redis;
+    }
+
+    private String property(String name, String defaultValue) {
+        return System.getProperty(prefix + "." + name, defaultValue);
+    }
+}
@@ -0,0 +1,130 @@
+-- E2E 벤치마크용 cmc_* / coin 스키마
+-- 운영 스키마는 외부 서비스가 관리하므로 CmcBatchMapper.xml 이 읽고 쓰는 컬럼만 재구성한다.
+-- 배치 전용 테이블(batch_cmc_*)과 인덱스는 애플리케이션 기동 시 Flyway(db/migration/batch)가 생성한다.
+
+CREATE TABLE coin (
+    id          BIGSERIAL PRIMARY KEY,
+    symbol      VARCHAR(64),
+    name        VARCHAR(255),
+    registed_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_coin (
+    id                    BIGSERIAL PRIMARY KEY,
+    cmc_coin_id           BIGINT       NOT NULL UNIQUE,
+    name                  VARCHAR(255),
+    symbol                VARCHAR(64),
+    slug                  VARCHAR(255),
+    logo                  VARCHAR(512),
+    is_active             BOOLEAN,
+    status                BOOLEAN,
+    is_mainnet            BOOLEAN,
+    first_historical_data TIMESTAMP,
+    last_historical_data  TIMESTAMP,
+    coin_id               BIGINT REFERENCES coin (id),
+    cmc_coin_info_id      BIGINT,
+    cmc_rank_id           BIGINT,
+    registed_at           TIMESTAMP    NOT NULL DEFAULT NOW(),
+    updated_at            TIMESTAMP    NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_rank (
+    id          BIGSERIAL PRIMARY KEY,
+    cmc_coin_id BIGINT    NOT NULL UNIQUE,
+    rank        BIGINT,
+    registed_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_coin_info (
+    id               BIGSERIAL PRIMARY KEY,
+    cmc_coin_id      BIGINT    NOT NULL UNIQUE,
+    description      TEXT,
+    infinite_supply  BOOLEAN,
+    is_fiat          INTEGER,
+    last_updated     TIMESTAMP,
+    cmc_coin_meta_id BIGINT,
+    registed_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_coin_meta (
+    id                               BIGSERIAL PRIMARY KEY,
+    cmc_coin_id                      BIGINT    NOT NULL UNIQUE,
+    market_cap                       DOUBLE PRECISION,
+    market_cap_dominance             DOUBLE PRECISION,
+    fully_diluted_market_cap         DOUBLE PRECISION,
+    circulating_supply               VARCHAR(64),
+    total_supply                     VARCHAR(64),
+    max_supply                       VARCHAR(64),
+    self_reported_circulating_supply VARCHAR(64),
+    self_reported_market_cap         VARCHAR(64),
+    registed_at                      TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at                       TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_mainnet (
+    id           BIGSERIAL PRIMARY KEY,
+    cmc_coin_id  BIGINT    NOT NULL,
+    explorer_url TEXT      NOT NULL,
+    registed_at  TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at   TIMESTAMP NOT NULL DEFAULT NOW(),
+    UNIQUE (cmc_coin_id, explorer_url)
+);
+
+CREATE TABLE cmc_platform (
+    id          BIGSERIAL PRIMARY KEY,
+    cmc_coin_id BIGINT    NOT NULL UNIQUE,
+    name        VARCHAR(255),
+    symbol      VARCHAR(64),
+    registed_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_exchange (
+    id                   BIGSERIAL PRIMARY KEY,
+    cmc_exchange_id      BIGINT    NOT NULL UNIQUE,
+    name                 VARCHAR(255),
+    slug                 VARCHAR(255),
+    is_active            BOOLEAN,
+    is_listed            BOOLEAN,
+    description          TEXT,
+    logo                 VARCHAR(512),
+    date_launched        TIMESTAMP,
+    cmc_exchange_info_id BIGINT,
+    cmc_exchange_meta_id BIGINT,
+    cmc_exchange_url_id  BIGINT,
+    registed_at          TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at           TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_exchange_info (
+    id              BIGSERIAL PRIMARY KEY,
+    cmc_exchange_id BIGINT    NOT NULL UNIQUE,
+    fiats           TEXT,
+    registed_at     TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at      TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_exchange_meta (
+    id                       BIGSERIAL PRIMARY KEY,
+    cmc_exchange_id          BIGINT    NOT NULL UNIQUE,
+    market_fee               NUMERIC,
+    taker_fee                NUMERIC,
+    spot_volume_usd          NUMERIC,
+    spot_volume_last_updated TIMESTAMP,
+    weekly_visits            BIGINT,
+    registed_at              TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at               TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE cmc_exchange_url (
+    id              BIGSERIAL PRIMARY KEY,
+    cmc_exchange_id BIGINT    NOT NULL UNIQUE,
+    website         TEXT,
+    twitter         TEXT,
+    register        TEXT,
+    registed_at     TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at      TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,75 @@
+package org.kimprun.batch.cmc.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiResponseDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinApiStatusDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataMapDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeApiStatusDto;
+import org.kimprun.batch.cmc.processor.CmcCoinBatchProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CmcCoinBatchProcessor 필터 (chunk 1000 건 / info 배치 100 건 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CmcCoinBatchProcessorBenchmark {
+
+    private ItemProcessor<CmcApiDataDto, CmcApiDataDto> latestCoinInfoProcessor;
+    private ItemProcessor<List<CmcCoinInfoDataDto>, List<CmcCoinInfoDataDto>> coinInfoProcessor;
+    private List<CmcApiDataDto> latestChunk;
+    private List<CmcCoinInfoDataDto> coinInfoBatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        CmcCoinBatchProcessor processor = new CmcCoinBatchProcessor();
+        latestCoinInfoProcessor = processor.getLatestCoinInfoProcessor();
+        coinInfoProcessor = processor.getCoinInfoProcessor();
+
+        ObjectMapper objectMapper = CmcPayloads.objectMapper();
+        CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>> latest = objectMapper.readValue(
+            CmcPayloads.listResponse(objectMapper, "listings-latest-item.json", 1000),
+            new TypeReference<CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>>>() {});
+        latestChunk = latest.getData();
+
+        CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto> coinInfo = objectMapper.readValue(
+            CmcPayloads.mapResponse(objectMapper, "coin-info-item.json", 100),
+            new TypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto>>() {});
+        coinInfoBatch = new ArrayList<>(coinInfo.getData().values());
+    }
+
+    @Benchmark
+    public void latestCoinInfoChunk(Blackhole blackhole) throws Exception {
+        for (CmcApiDataDto item : latestChunk) {
+            blackhole.consume(latestCoinInfoProcessor.process(item));
+        }
+    }
+
+    @Benchmark
+    public List<CmcCoinInfoDataDto> coinInfoBatch() throws Exception {
+        return coinInfoProcessor.process(coinInfoBatch);
+    }
+}
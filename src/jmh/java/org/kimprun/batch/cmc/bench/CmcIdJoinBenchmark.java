@@ -0,0 +1,54 @@
+package org.kimprun.batch.cmc.bench;
+
+import org.kimprun.batch.cmc.component.CoinMarketCapComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * getCmcCoinInfos / getExchangeInfo 의 ID 목록 연결
+ *
+ * - reduceConcat: 이전 구현 (reduce 로 문자열 누적 연결, 비교 기준)
+ * - joinIds     : CoinMarketCapComponent.joinIds
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CmcIdJoinBenchmark {
+
+    // info API 요청당 최대 ID 수
+    @Param({"100"})
+    private int ids;
+
+    private List<Integer> cmcIds;
+
+    @Setup
+    public void setUp() {
+        cmcIds = IntStream.rangeClosed(1, ids).map(i -> 30000 + i * 7).boxed().toList();
+    }
+
+    @Benchmark
+    public String reduceConcat() {
+        return cmcIds.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("");
+    }
+
+    @Benchmark
+    public String joinIds() {
+        return CoinMarketCapComponent.joinIds(cmcIds);
+    }
+}
@@ -0,0 +1,68 @@
+package org.kimprun.batch.cmc.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiResponseDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataMapDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeApiStatusDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailMapDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * info 응답 (ID 를 키로 하는 data 객체) 역직렬화
+ *
+ * getCmcCoinInfos / getExchangeInfo 와 같은 응답 타입으로 역직렬화한다. (요청당 최대 100개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CmcInfoDecodeBenchmark {
+
+    @Param({"100"})
+    private int items;
+
+    private ObjectReader coinInfoReader;
+    private ObjectReader exchangeInfoReader;
+    private byte[] coinInfoPayload;
+    private byte[] exchangeInfoPayload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = CmcPayloads.objectMapper();
+        coinInfoReader = objectMapper.readerFor(
+            new TypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto>>() {});
+        exchangeInfoReader = objectMapper.readerFor(
+            new TypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcExchangeDetailMapDto>>() {});
+        coinInfoPayload = CmcPayloads.mapResponse(objectMapper, "coin-info-item.json", items);
+        exchangeInfoPayload = CmcPayloads.mapResponse(objectMapper, "exchange-info-item.json", items);
+    }
+
+    @Benchmark
+    public CmcCoinInfoDataMapDto decodeCoinInfo() throws IOException {
+        CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto> response = coinInfoReader.readValue(coinInfoPayload);
+        return response.getData();
+    }
+
+    @Benchmark
+    public CmcExchangeDetailMapDto decodeExchangeInfo() throws IOException {
+        CmcApiResponseDto<CmcExchangeApiStatusDto, CmcExchangeDetailMapDto> response = exchangeInfoReader.readValue(exchangeInfoPayload);
+        return response.getData();
+    }
+}
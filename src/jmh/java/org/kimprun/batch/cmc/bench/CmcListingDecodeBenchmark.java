@@ -0,0 +1,74 @@
+package org.kimprun.batch.cmc.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiResponseDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinApiStatusDto;
+import org.kimprun.batch.common.json.JsonArrayStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * listings/latest 응답 역직렬화
+ *
+ * - decodeList  : CoinMarketCapComponent.getLatestCoinInfoFromCMC 와 같이 응답 전체를 List 로 역직렬화
+ * - decodeStream: openLatestCoinInfoStream 과 같이 JsonArrayStream 으로 원소 단위 역직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CmcListingDecodeBenchmark {
+
+    // 페이지당 건수 (CmcCoinBatchReader BATCH_SIZE = 5000)
+    @Param({"1000", "5000"})
+    private int items;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader responseReader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = CmcPayloads.objectMapper();
+        responseReader = objectMapper.readerFor(
+            new TypeReference<CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>>>() {});
+        payload = CmcPayloads.listResponse(objectMapper, "listings-latest-item.json", items);
+    }
+
+    @Benchmark
+    public List<CmcApiDataDto> decodeList() throws IOException {
+        CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>> response = responseReader.readValue(payload);
+        return response.getData();
+    }
+
+    @Benchmark
+    public void decodeStream(Blackhole blackhole) throws IOException {
+        try (JsonArrayStream<CmcApiDataDto> stream = new JsonArrayStream<>(objectMapper,
+                new ByteArrayInputStream(payload), "data", CmcApiDataDto.class, null)) {
+            CmcApiDataDto item;
+            while ((item = stream.next()) != null) {
+                blackhole.consume(item);
+            }
+        }
+    }
+}
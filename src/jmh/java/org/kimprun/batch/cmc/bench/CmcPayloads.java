@@ -0,0 +1,90 @@
+package org.kimprun.batch.cmc.bench;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크용 CMC 응답 payload 생성
+ *
+ * src/jmh/resources/cmc 의 응답 원소 샘플을 ID 만 바꿔 원하는 건수로 복제하고,
+ * 실제 응답과 같은 {"status": {...}, "data": ...} 형태로 직렬화한다.
+ */
+final class CmcPayloads {
+
+    private CmcPayloads() {
+    }
+
+    /**
+     * 애플리케이션 ObjectMapper 와 같은 역직렬화 설정 (알 수 없는 필드 무시)
+     */
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    }
+
+    /**
+     * "data" 가 배열인 응답 (listings/latest, map)
+     */
+    static byte[] listResponse(ObjectMapper objectMapper, String sampleResource, int items) {
+        ObjectNode sample = readSample(objectMapper, sampleResource);
+        ObjectNode response = responseWithStatus(objectMapper, items);
+        ArrayNode data = response.putArray("data");
+        for (int i = 1; i <= items; i++) {
+            data.add(sample.deepCopy().put("id", i));
+        }
+        return write(objectMapper, response);
+    }
+
+    /**
+     * "data" 가 ID 를 키로 하는 객체인 응답 (info)
+     */
+    static byte[] mapResponse(ObjectMapper objectMapper, String sampleResource, int items) {
+        ObjectNode sample = readSample(objectMapper, sampleResource);
+        ObjectNode response = responseWithStatus(objectMapper, items);
+        ObjectNode data = response.putObject("data");
+        for (int i = 1; i <= items; i++) {
+            data.set(String.valueOf(i), sample.deepCopy().put("id", i));
+        }
+        return write(objectMapper, response);
+    }
+
+    private static ObjectNode responseWithStatus(ObjectMapper objectMapper, int items) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("status")
+            .put("timestamp", "2024-07-03T12:40:00.000Z")
+            .put("error_code", 0)
+            .putNull("error_message")
+            .put("elapsed", 42)
+            .put("credit_count", Math.max(1, items / 200))
+            .putNull("notice")
+            .put("total_count", items);
+        return response;
+    }
+
+    private static ObjectNode readSample(ObjectMapper objectMapper, String sampleResource) {
+        try (InputStream in = CmcPayloads.class.getResourceAsStream("/cmc/" + sampleResource)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 샘플 없음: " + sampleResource);
+            }
+            return (ObjectNode) objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] write(ObjectMapper objectMapper, ObjectNode response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.kimprun.batch.cmc.cache;
+
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
+
+/**
+ * CMC 응답 캐시 영역 (엔드포인트별 키 prefix / DTO 타입)
+ *
+ * @param name 키 prefix 와 지표 태그로 쓰는 영역 이름
+ * @param type 캐시에 저장하는 항목 DTO 타입
+ */
+public record CmcCacheRegion<T>(String name, Class<T> type) {
+
+    // 코인 info API - 코인별 상세 정보
+    public static final CmcCacheRegion<CmcCoinInfoDataDto> COIN_INFO =
+        new CmcCacheRegion<>("coin-info", CmcCoinInfoDataDto.class);
+
+    // 거래소 info API - 거래소별 상세 정보
+    public static final CmcCacheRegion<CmcExchangeDetailDto> EXCHANGE_INFO =
+        new CmcCacheRegion<>("exchange-info", CmcExchangeDetailDto.class);
+}
@@ -0,0 +1,185 @@
+package org.kimprun.batch.cmc.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.metrics.CmcApiMetrics;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CMC info 응답 캐시 (Redis)
+ *
+ * 거의 바뀌지 않는 코인 / 거래소 상세 정보를 CMC ID 단위로 저장해, 배치 분할이 달라도 같은 ID 는 다시 내려받지 않는다.
+ * - 키: kimprun:cmc:cache:{영역}:{CMC ID}, 값: gzip 압축한 DTO JSON, 영역별 TTL
+ * - 조회는 MGET 한 번, 저장은 Redisson batch 한 번으로 처리
+ * - Redis 오류는 캐시 미스로 처리하고 API 호출을 막지 않음
+ */
+@Component
+@Slf4j
+public class CmcResponseCache {
+
+    private static final String KEY_PREFIX = "kimprun:cmc:cache:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final CmcApiMetrics cmcApiMetrics;
+
+    @Value("${cmc.cache.enabled:true}")
+    private boolean enabled;
+
+    // 코인 상세 정보 TTL (증분 동기화 갱신 주기보다 짧게 두어 갱신 재조회는 항상 API 로 받음)
+    @Value("${cmc.cache.coin-info.ttl-hours:12}")
+    private int coinInfoTtlHours;
+
+    @Value("${cmc.cache.exchange-info.ttl-hours:24}")
+    private int exchangeInfoTtlHours;
+
+    public CmcResponseCache(RedissonClient redissonClient, ObjectMapper objectMapper, CmcApiMetrics cmcApiMetrics) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.cmcApiMetrics = cmcApiMetrics;
+    }
+
+    /**
+     * 캐시 조회 결과
+     *
+     * @param hits 캐시에 있던 항목 (CMC ID 문자열 → DTO)
+     * @param missingIds API 로 조회해야 하는 ID (요청 순서 유지)
+     */
+    public record Lookup<T>(Map<String, T> hits, List<Integer> missingIds) {
+    }
+
+    public <T> Lookup<T> get(CmcCacheRegion<T> region, List<Integer> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return new Lookup<>(Map.of(), ids);
+        }
+        try {
+            Map<String, byte[]> values = redissonClient.getBuckets(ByteArrayCodec.INSTANCE).get(keys(region, ids));
+            return toLookup(region, ids, values);
+        } catch (Exception e) {
+            log.warn("CMC 캐시 조회 실패 - 영역: {}, ID {} 개 전부 API 로 조회: {}", region.name(), ids.size(), e.getMessage());
+            return new Lookup<>(Map.of(), ids);
+        }
+    }
+
+    public <T> CompletableFuture<Lookup<T>> getAsync(CmcCacheRegion<T> region, List<Integer> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(new Lookup<>(Map.of(), ids));
+        }
+        return redissonClient.getBuckets(ByteArrayCodec.INSTANCE).<byte[]>getAsync(keys(region, ids))
+            .toCompletableFuture()
+            .thenApply(values -> toLookup(region, ids, values))
+            .exceptionally(e -> {
+                log.warn("CMC 캐시 조회 실패 - 영역: {}, ID {} 개 전부 API 로 조회: {}", region.name(), ids.size(), e.getMessage());
+                return new Lookup<>(Map.of(), ids);
+            });
+    }
+
+    /**
+     * API 응답 항목 저장 (키는 응답 map 의 CMC ID)
+     */
+    public <T> void put(CmcCacheRegion<T> region, Map<String, T> items) {
+        putAsync(region, items).join();
+    }
+
+    public <T> CompletableFuture<Void> putAsync(CmcCacheRegion<T> region, Map<String, T> items) {
+        if (!enabled || items == null || items.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            Duration ttl = ttlOf(region);
+            RBatch batch = redissonClient.createBatch();
+            for (Map.Entry<String, T> entry : items.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                byte[] compressed = compress(entry.getValue());
+                cmcApiMetrics.recordCacheEntrySize(region.name(), compressed.length);
+                batch.<byte[]>getBucket(key(region, entry.getKey()), ByteArrayCodec.INSTANCE).setAsync(compressed, ttl);
+            }
+            return batch.executeAsync().toCompletableFuture()
+                .<Void>thenApply(ignored -> null)
+                .exceptionally(e -> {
+                    log.warn("CMC 캐시 저장 실패 - 영역: {}, {} 건: {}", region.name(), items.size(), e.getMessage());
+                    return null;
+                });
+        } catch (Exception e) {
+            log.warn("CMC 캐시 저장 실패 - 영역: {}, {} 건: {}", region.name(), items.size(), e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private <T> Lookup<T> toLookup(CmcCacheRegion<T> region, List<Integer> ids, Map<String, byte[]> values) {
+        Map<String, T> hits = new LinkedHashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : ids) {
+            String cmcId = String.valueOf(id);
+            byte[] value = values.get(key(region, cmcId));
+            T item = value == null ? null : decompress(region, value);
+            if (item == null) {
+                missingIds.add(id);
+            } else {
+                hits.put(cmcId, item);
+            }
+        }
+        cmcApiMetrics.recordCacheLookup(region.name(), hits.size(), missingIds.size());
+        log.debug("CMC 캐시 조회 - 영역: {}, 적중: {}, 미스: {}", region.name(), hits.size(), missingIds.size());
+        return new Lookup<>(hits, missingIds);
+    }
+
+    private byte[] compress(Object item) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 압축 해제 / 역직렬화 실패 (DTO 변경 등) 는 캐시 미스로 처리
+     */
+    private <T> T decompress(CmcCacheRegion<T> region, byte[] value) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return objectMapper.readValue(in, region.type());
+        } catch (IOException e) {
+            log.warn("CMC 캐시 항목 해석 실패 - 영역: {}: {}", region.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Duration ttlOf(CmcCacheRegion<?> region) {
+        return Duration.ofHours(CmcCacheRegion.EXCHANGE_INFO.equals(region) ? exchangeInfoTtlHours : coinInfoTtlHours);
+    }
+
+    private String[] keys(CmcCacheRegion<?> region, List<Integer> ids) {
+        String[] keys = new String[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            keys[i] = key(region, String.valueOf(ids.get(i)));
+        }
+        return keys;
+    }
+
+    private String key(CmcCacheRegion<?> region, String cmcId) {
+        return KEY_PREFIX + region.name() + ":" + cmcId;
+    }
+}
@@ -0,0 +1,35 @@
+package org.kimprun.batch.cmc.component;
+
+/**
+ * CMC API 호출당 예상 크레딧 (Rate Limiter 크레딧 예산 차감용)
+ *
+ * 실제 소모량은 응답 status.credit_count 로 받아 예상보다 많으면 차이를 추가 차감한다.
+ */
+public final class CmcCreditCost {
+
+    // listings/latest: 200건당 1 크레딧 (5000건 = 25)
+    private static final int LISTING_ITEMS_PER_CREDIT = 200;
+    // map / exchange map: 5000건당 1 크레딧
+    private static final int MAP_ITEMS_PER_CREDIT = 5000;
+    // info / exchange info: ID 100개당 1 크레딧
+    private static final int INFO_IDS_PER_CREDIT = 100;
+
+    private CmcCreditCost() {
+    }
+
+    public static int listing(int limit) {
+        return perUnit(limit, LISTING_ITEMS_PER_CREDIT);
+    }
+
+    public static int map(int limit) {
+        return perUnit(limit, MAP_ITEMS_PER_CREDIT);
+    }
+
+    public static int info(int ids) {
+        return perUnit(ids, INFO_IDS_PER_CREDIT);
+    }
+
+    private static int perUnit(int items, int itemsPerCredit) {
+        return Math.max(1, (items + itemsPerCredit - 1) / itemsPerCredit);
+    }
+}
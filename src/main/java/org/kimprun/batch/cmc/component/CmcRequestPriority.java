@@ -0,0 +1,28 @@
+package org.kimprun.batch.cmc.component;
+
+/**
+ * CMC API 요청 우선순위 클래스
+ *
+ * weight 는 모든 클래스가 대기 중일 때 받는 요청 비율 (QUOTE : NEW_COIN_INFO : STALE_INFO : EXCHANGE_DETAIL = 8 : 4 : 2 : 1)
+ */
+public enum CmcRequestPriority {
+
+    // 시세 / 순위 (listings/latest, map) - 사용자 화면이 의존
+    QUOTE(8),
+    // 새로 상장된 코인의 상세 정보
+    NEW_COIN_INFO(4),
+    // 갱신 주기가 지난 코인 상세 정보 재조회
+    STALE_INFO(2),
+    // 거래소 목록 / 상세 정보
+    EXCHANGE_DETAIL(1);
+
+    private final int weight;
+
+    CmcRequestPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,353 @@
+package org.kimprun.batch.cmc.component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.kimprun.batch.common.ratelimit.CmcPermitOutcome;
+import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
+import org.kimprun.batch.common.ratelimit.RateLimitMetrics;
+import org.kimprun.batch.common.ratelimit.RateLimitResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CMC API 요청 스케줄러
+ *
+ * 모든 Step 이 같은 CMC 예산을 나눠 쓰므로, permit 을 요청 순서대로가 아니라 우선순위 클래스에 따라 배분한다.
+ * - 클래스 + Step 별 흐름마다 가중 공정 큐(WFQ) finish tag 를 매겨 작은 순서대로 permit 을 획득
+ *   (대기 중인 클래스끼리는 weight 비율로 나눠 쓰고, 낮은 클래스도 굶지 않음)
+ * - 클래스별 할당량은 Redis 에서 서버 간 공유되어, 여러 인스턴스의 대량 상세 조회가 시세 갱신 몫을 쓰지 못하게 함
+ * - permit 획득은 전용 스레드 하나가 순서대로 수행하고, 요청 스레드는 Future 로 결과만 기다림
+ * - 전용 스레드는 permit 을 즉시 획득만 시도하고, 예산이 없으면 다음 임대 가능 시각까지 기다린 뒤
+ *   그 사이 도착한 요청까지 포함해 finish tag 순으로 다시 고름 (낮은 클래스 요청이 예산을 기다리며 앞자리를 잡지 않음)
+ *
+ * finish tag / 가상 시각은 JVM 안에만 있으므로 WFQ 순서는 인스턴스 안에서만 보장된다.
+ * 인스턴스 사이의 공정성은 Redis 로 공유하는 클래스별 할당량(윈도우당 최대 사용 비율)과 전체 예산뿐이며,
+ * 할당량 안에서는 먼저 요청한 인스턴스가 permit 을 가져간다.
+ */
+@Component
+@Slf4j
+public class CmcRequestScheduler {
+
+    /**
+     * 요청 permit 기본 대기 시간 (초)
+     * 클래스 할당량이 소진된 직후 도착한 요청은 가장 오래된 permit 이 윈도우에서 빠질 때까지 최대 한 윈도우를 기다리므로,
+     * 동시 요청 수가 클래스 할당량 이하이면 대기열이 모두 배정되도록 윈도우 2개 길이로 둔다.
+     */
+    public static final long PERMIT_TIMEOUT_SECONDS = 2L * DistributedRateLimiter.CMC_API_WINDOW_SECONDS;
+
+    private static final String METRIC_RESOURCE = "cmc-api";
+
+    // 할당량이 없어 보류된 요청을 다시 확인하는 간격
+    private static final long QUOTA_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    // 예산 소진 후 다시 시도하는 최소 간격 (다른 스레드가 임대 중이라 재시도 시각을 모를 때)
+    private static final long MIN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    // 대기 요청이 없을 때 종료 여부를 확인하는 간격
+    private static final long IDLE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Comparator<Ticket> FINISH_TAG_ORDER =
+        Comparator.comparingDouble((Ticket ticket) -> ticket.finishTag).thenComparingLong(ticket -> ticket.sequence);
+
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RateLimitMetrics rateLimitMetrics;
+
+    // 클래스별 윈도우당 CMC 허용량 대비 최대 사용 비율 (100 이면 제한 없음)
+    @Value("${cmc.scheduler.quota-percent.quote:100}")
+    private int quoteQuotaPercent;
+    @Value("${cmc.scheduler.quota-percent.new-coin-info:60}")
+    private int newCoinInfoQuotaPercent;
+    @Value("${cmc.scheduler.quota-percent.stale-info:50}")
+    private int staleInfoQuotaPercent;
+    @Value("${cmc.scheduler.quota-percent.exchange-detail:25}")
+    private int exchangeDetailQuotaPercent;
+
+    private final Map<CmcRequestPriority, Integer> quotaPercents = new EnumMap<>(CmcRequestPriority.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final TreeSet<Ticket> waiting = new TreeSet<>(FINISH_TAG_ORDER);
+    // 흐름(클래스:Step)별 마지막 finish tag
+    private final Map<String, Double> flowFinishTags = new HashMap<>();
+    private double virtualTime;
+    private long sequence;
+    // 전용 스레드가 마지막으로 대기열을 순회한 시점의 sequence (그 뒤 등록된 요청이 있는지 판단)
+    private long scannedSequence;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public CmcRequestScheduler(DistributedRateLimiter distributedRateLimiter, RateLimitMetrics rateLimitMetrics) {
+        this.distributedRateLimiter = distributedRateLimiter;
+        this.rateLimitMetrics = rateLimitMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        quotaPercents.put(CmcRequestPriority.QUOTE, quoteQuotaPercent);
+        quotaPercents.put(CmcRequestPriority.NEW_COIN_INFO, newCoinInfoQuotaPercent);
+        quotaPercents.put(CmcRequestPriority.STALE_INFO, staleInfoQuotaPercent);
+        quotaPercents.put(CmcRequestPriority.EXCHANGE_DETAIL, exchangeDetailQuotaPercent);
+
+        running = true;
+        dispatcher = Thread.ofPlatform().daemon().name("cmc-request-scheduler").start(this::dispatchLoop);
+        log.info("CMC API 요청 스케줄러 시작 - 클래스별 할당량: {}", quotaPercents);
+    }
+
+    /**
+     * 종료 시 대기 중인 요청은 모두 실패 처리
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        lock.lock();
+        try {
+            waiting.forEach(ticket -> ticket.future.complete(rejected()));
+            waiting.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 우선순위에 따라 CMC API permit 획득 (blocking)
+     *
+     * @param priority 요청 클래스
+     * @param credits 호출 예상 크레딧
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @return {허용여부, 남은요청수}
+     */
+    public RateLimitResult acquire(CmcRequestPriority priority, int credits, long timeoutSeconds) {
+        return acquireAsync(priority, credits, timeoutSeconds).join();
+    }
+
+    /**
+     * 우선순위에 따라 CMC API permit 획득 (대기 중에도 스레드를 점유하지 않음)
+     *
+     * @param priority 요청 클래스
+     * @param credits 호출 예상 크레딧
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @return {허용여부, 남은요청수} Future
+     */
+    public CompletableFuture<RateLimitResult> acquireAsync(CmcRequestPriority priority, int credits, long timeoutSeconds) {
+        return acquireAsync(priority, credits, timeoutSeconds, MetricTags.currentStep());
+    }
+
+    /**
+     * Step 스레드 밖(비동기 콜백)에서 요청할 때 호출 시점의 Step 이름을 흐름으로 지정
+     */
+    public CompletableFuture<RateLimitResult> acquireAsync(CmcRequestPriority priority, int credits, long timeoutSeconds,
+                                                           String step) {
+        String flow = priority.name() + ":" + step;
+        long enqueuedNanos = System.nanoTime();
+        long deadlineNanos = enqueuedNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        lock.lock();
+        try {
+            if (!running) {
+                return CompletableFuture.completedFuture(rejected());
+            }
+            // 요청 1건당 비용 1 (CMC 허용량이 요청 수 기준이므로 크레딧이 아니라 요청 수로 공정하게 나눔)
+            double startTag = Math.max(virtualTime, flowFinishTags.getOrDefault(flow, 0.0));
+            double finishTag = startTag + 1.0 / priority.getWeight();
+            flowFinishTags.put(flow, finishTag);
+
+            Ticket ticket = new Ticket(priority, credits, step, enqueuedNanos, deadlineNanos, finishTag, sequence++);
+            waiting.add(ticket);
+            changed.signal();
+            return ticket.future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                dispatchNext();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * finish tag 가 가장 작은 요청부터 permit 을 즉시 획득해 보고, 처음 획득한 요청 하나를 배정
+     * - 기한이 지난 요청은 실패 처리
+     * - 클래스 할당량이 없으면 이번 순회에서 그 클래스만 건너뜀
+     * - 요청 수 / 크레딧 예산이 없으면 순회를 멈추고 다음 임대 가능 시각(또는 가장 이른 기한)까지 대기
+     *
+     * 요청 선택 / 재등록만 락 안에서 하고 Redis 호출(permit 획득)은 락 밖에서 하므로,
+     * 그동안 다른 스레드(Redisson / Netty 콜백 포함)가 acquireAsync 로 요청을 등록하며 막히지 않는다.
+     */
+    private void dispatchNext() throws InterruptedException {
+        List<Ticket> rejected = new ArrayList<>();
+        try {
+            Set<CmcRequestPriority> exhausted = EnumSet.noneOf(CmcRequestPriority.class);
+            while (true) {
+                Ticket ticket = pollCandidate(exhausted, rejected);
+                if (ticket == null) {
+                    awaitChange(QUOTA_RETRY_NANOS);
+                    return;
+                }
+
+                CmcPermitOutcome outcome;
+                try {
+                    outcome = distributedRateLimiter.tryAcquireCmcApiPermit(
+                        ticket.priority.name(), quotaPercents.get(ticket.priority), ticket.credits);
+                } catch (Exception e) {
+                    log.error("CMC API permit 획득 중 오류 발생 - 클래스: {}", ticket.priority, e);
+                    rejected.add(ticket);
+                    continue;
+                }
+
+                if (outcome == CmcPermitOutcome.ACQUIRED) {
+                    lock.lock();
+                    try {
+                        virtualTime = Math.max(virtualTime, ticket.finishTag);
+                    } finally {
+                        lock.unlock();
+                    }
+                    // Future 콜백이 이 스레드에서 실행될 수 있으므로 락 밖에서 완료
+                    complete(ticket, true);
+                    return;
+                }
+
+                // 획득하지 못한 요청은 같은 finish tag 로 대기열에 되돌림 (다음 순회에서 다시 앞자리)
+                if (!requeue(ticket)) {
+                    rejected.add(ticket);
+                    return;
+                }
+                if (outcome == CmcPermitOutcome.QUOTA_EXHAUSTED) {
+                    exhausted.add(ticket.priority);
+                    continue;
+                }
+                awaitChange(Math.max(MIN_RETRY_NANOS,
+                    TimeUnit.MILLISECONDS.toNanos(distributedRateLimiter.getCmcApiRetryDelayMillis())));
+                return;
+            }
+        } finally {
+            rejected.forEach(ticket -> complete(ticket, false));
+        }
+    }
+
+    /**
+     * 할당량이 남은 클래스 중 finish tag 가 가장 작은 요청을 대기열에서 꺼냄 (기한이 지난 요청은 rejected 로 옮김)
+     */
+    private Ticket pollCandidate(Set<CmcRequestPriority> exhausted, List<Ticket> rejected) {
+        lock.lock();
+        try {
+            scannedSequence = sequence;
+            long now = System.nanoTime();
+            for (Iterator<Ticket> iterator = waiting.iterator(); iterator.hasNext(); ) {
+                Ticket ticket = iterator.next();
+                if (now - ticket.deadlineNanos >= 0) {
+                    iterator.remove();
+                    log.warn("CMC API 요청 대기 시간 초과 (permit 배정 전) - 클래스: {}", ticket.priority);
+                    rejected.add(ticket);
+                    continue;
+                }
+                if (!exhausted.contains(ticket.priority)) {
+                    iterator.remove();
+                    return ticket;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * permit 을 얻지 못한 요청을 대기열에 되돌림 (그 사이 종료되었으면 false)
+     */
+    private boolean requeue(Ticket ticket) {
+        lock.lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            waiting.add(ticket);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새 요청이 등록되거나 waitNanos (대기 요청이 없으면 IDLE_WAIT_NANOS) 가 지날 때까지 대기
+     * - 마지막 순회 이후 락 밖에서 Redis 를 호출하는 동안 등록된 요청이 있으면 기다리지 않고 바로 다시 순회
+     * - 가장 이른 기한이 지나면 바로 실패 처리할 수 있도록 대기 시간 제한
+     */
+    private void awaitChange(long waitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (sequence != scannedSequence) {
+                return;
+            }
+            if (waiting.isEmpty()) {
+                waitNanos = IDLE_WAIT_NANOS;
+            }
+            long now = System.nanoTime();
+            for (Ticket ticket : waiting) {
+                waitNanos = Math.min(waitNanos, ticket.deadlineNanos - now);
+            }
+            if (waitNanos > 0) {
+                changed.awaitNanos(waitNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(Ticket ticket, boolean acquired) {
+        rateLimitMetrics.recordAcquire(METRIC_RESOURCE, RateLimitMetrics.MODE_SCHEDULED, acquired,
+            System.nanoTime() - ticket.enqueuedNanos, ticket.step);
+        ticket.future.complete(acquired
+            ? new RateLimitResult(true, distributedRateLimiter.getCmcApiLocalPermits(),
+                DistributedRateLimiter.CMC_API_LIMIT, DistributedRateLimiter.CMC_API_WINDOW_SECONDS)
+            : rejected());
+    }
+
+    private RateLimitResult rejected() {
+        return new RateLimitResult(false, 0, DistributedRateLimiter.CMC_API_LIMIT, DistributedRateLimiter.CMC_API_WINDOW_SECONDS);
+    }
+
+    private static final class Ticket {
+        private final CmcRequestPriority priority;
+        private final int credits;
+        private final String step;
+        private final long enqueuedNanos;
+        private final long deadlineNanos;
+        private final double finishTag;
+        private final long sequence;
+        private final CompletableFuture<RateLimitResult> future = new CompletableFuture<>();
+
+        private Ticket(CmcRequestPriority priority, int credits, String step, long enqueuedNanos, long deadlineNanos,
+                       double finishTag, long sequence) {
+            this.priority = priority;
+            this.credits = credits;
+            this.step = step;
+            this.enqueuedNanos = enqueuedNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+        }
+    }
+}
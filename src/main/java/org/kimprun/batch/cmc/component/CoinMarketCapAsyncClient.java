@@ -0,0 +1,195 @@
+package org.kimprun.batch.cmc.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.cache.CmcCacheRegion;
+import org.kimprun.batch.cmc.cache.CmcResponseCache;
+import org.kimprun.batch.cmc.dto.internal.coin.*;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeApiStatusDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailMapDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
+import org.kimprun.batch.cmc.metrics.CmcApiMetrics;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * CoinMarketCap 비동기 API 클라이언트
+ *
+ * CoinMarketCapComponent 와 같은 엔드포인트를 WebClient(커넥션 풀) 로 호출한다.
+ * Rate Limit permit 대기와 HTTP 응답 대기 모두 스레드를 점유하지 않으므로,
+ * 여러 배치를 동시에 요청해도 대기 중인 요청 수만큼 스레드가 필요하지 않다.
+ */
+@Component
+@Slf4j
+public class CoinMarketCapAsyncClient {
+
+    // permit 획득 최대 대기 시간 (초)
+    private static final long RATE_LIMIT_TIMEOUT_SECONDS = CmcRequestScheduler.PERMIT_TIMEOUT_SECONDS;
+
+    private final WebClient coinMarketCapWebClient;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final CmcApiMetrics cmcApiMetrics;
+    private final CmcRequestScheduler cmcRequestScheduler;
+    private final CmcResponseCache cmcResponseCache;
+
+    @Value("${cmc.api.coinmap_url}")
+    private String cmcCoinMapUrl;
+    @Value("${cmc.api.latest_url}")
+    private String cmcLatestUrl;
+    @Value("${cmc.api.coin_info_url}")
+    private String cmcCoinInfoUrl;
+    @Value("${cmc.api.exchange_map_url}")
+    private String cmcExchangeMapUrl;
+    @Value("${cmc.api.exchange_info_url}")
+    private String cmcExchangeInfoUrl;
+
+    public CoinMarketCapAsyncClient(WebClient coinMarketCapWebClient, DistributedRateLimiter distributedRateLimiter,
+                                    CmcApiMetrics cmcApiMetrics, CmcRequestScheduler cmcRequestScheduler,
+                                    CmcResponseCache cmcResponseCache) {
+        this.coinMarketCapWebClient = coinMarketCapWebClient;
+        this.distributedRateLimiter = distributedRateLimiter;
+        this.cmcApiMetrics = cmcApiMetrics;
+        this.cmcRequestScheduler = cmcRequestScheduler;
+        this.cmcResponseCache = cmcResponseCache;
+    }
+
+    // 5000개 호출시 per credit : 1
+    public Flux<CmcCoinMapDataDto> getCoinMapFromCMC(int start, int limit) {
+        String url = String.format(cmcCoinMapUrl, start, limit);
+
+        return get("getCoinMapFromCMC", url, MetricTags.currentStep(), CmcRequestPriority.QUOTE, CmcCreditCost.map(limit),
+                new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, List<CmcCoinMapDataDto>>>() {})
+            .flatMapIterable(this::dataOrEmpty)
+            .doOnError(e -> log.error("CMC Coin Map 비동기 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit));
+    }
+
+    // 5000개 호출시 per credit : 25
+    public Flux<CmcApiDataDto> getLatestCoinInfoFromCMC(int start, int limit) {
+        String url = String.format(cmcLatestUrl, start, limit);
+
+        return get("getLatestCoinInfoFromCMC", url, MetricTags.currentStep(), CmcRequestPriority.QUOTE, CmcCreditCost.listing(limit),
+                new ParameterizedTypeReference<CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>>>() {})
+            .flatMapIterable(this::dataOrEmpty)
+            .doOnError(e -> log.error("CMC Latest 비동기 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit));
+    }
+
+    // 최대 100개까지만 가능 - per credit : 1
+    // 캐시에 없는 ID 만 API 로 조회하고, 받은 항목은 캐시에 저장
+    public Mono<CmcCoinInfoDataMapDto> getCmcCoinInfos(List<Integer> cmcCoinIds) {
+        String step = MetricTags.currentStep();
+        return Mono.fromFuture(() -> cmcResponseCache.getAsync(CmcCacheRegion.COIN_INFO, cmcCoinIds))
+            // 캐시 응답은 Redisson(Netty) 스레드에서 오므로, 스케줄러 락을 잡는 permit 요청 전에 스레드를 옮김
+            .publishOn(Schedulers.boundedElastic())
+            .flatMap(cached -> cached.missingIds().isEmpty()
+                ? Mono.just(CoinMarketCapComponent.toCoinInfoMap(cached.hits()))
+                : fetchCmcCoinInfos(cached.missingIds(), step)
+                    .flatMap(fetched -> Mono.fromFuture(cmcResponseCache.putAsync(CmcCacheRegion.COIN_INFO, fetched))
+                        .then(Mono.fromSupplier(() -> {
+                            CmcCoinInfoDataMapDto result = CoinMarketCapComponent.toCoinInfoMap(cached.hits());
+                            result.putAll(fetched);
+                            return result;
+                        }))));
+    }
+
+    private Mono<CmcCoinInfoDataMapDto> fetchCmcCoinInfos(List<Integer> cmcCoinIds, String step) {
+        String sequenceMainnetCmcIds = CoinMarketCapComponent.joinIds(cmcCoinIds);
+        String url = String.format(cmcCoinInfoUrl, sequenceMainnetCmcIds);
+
+        return get("getCmcCoinInfos", url, step, CmcRequestPriority.STALE_INFO, CmcCreditCost.info(cmcCoinIds.size()),
+                new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto>>() {})
+            .mapNotNull(CmcApiResponseDto::getData)
+            .onErrorResume(e -> {
+                log.error("CMC 코인 정보 비동기 조회 실패: {} - IDs: {}", e.getMessage(), sequenceMainnetCmcIds);
+                // 동기 버전과 동일하게 빈 응답 반환
+                return Mono.just(new CmcCoinInfoDataMapDto());
+            });
+    }
+
+    // 5000개 호출시 per credit : 1
+    public Flux<CmcExchangeDto> getExchangeMap(int start, int limit) {
+        String url = String.format(cmcExchangeMapUrl, start, limit);
+
+        return get("getExchangeMap", url, MetricTags.currentStep(), CmcRequestPriority.EXCHANGE_DETAIL, CmcCreditCost.map(limit),
+                new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, List<CmcExchangeDto>>>() {})
+            .flatMapIterable(this::dataOrEmpty)
+            .doOnError(e -> log.error("CMC Exchange Map 비동기 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit));
+    }
+
+    // 최대 exchangeId 100개까지 가능 - per credit : 1
+    // 캐시에 없는 ID 만 API 로 조회하고, 받은 항목은 캐시에 저장
+    public Mono<CmcExchangeDetailMapDto> getExchangeInfo(List<Integer> exchangeIds) {
+        String step = MetricTags.currentStep();
+        return Mono.fromFuture(() -> cmcResponseCache.getAsync(CmcCacheRegion.EXCHANGE_INFO, exchangeIds))
+            // 캐시 응답은 Redisson(Netty) 스레드에서 오므로, 스케줄러 락을 잡는 permit 요청 전에 스레드를 옮김
+            .publishOn(Schedulers.boundedElastic())
+            .flatMap(cached -> cached.missingIds().isEmpty()
+                ? Mono.just(CoinMarketCapComponent.toExchangeDetailMap(cached.hits()))
+                : fetchExchangeInfo(cached.missingIds(), step)
+                    .flatMap(fetched -> Mono.fromFuture(cmcResponseCache.putAsync(CmcCacheRegion.EXCHANGE_INFO, fetched))
+                        .then(Mono.fromSupplier(() -> {
+                            CmcExchangeDetailMapDto result = CoinMarketCapComponent.toExchangeDetailMap(cached.hits());
+                            result.putAll(fetched);
+                            return result;
+                        }))));
+    }
+
+    private Mono<CmcExchangeDetailMapDto> fetchExchangeInfo(List<Integer> exchangeIds, String step) {
+        String sequenceExchangeIds = CoinMarketCapComponent.joinIds(exchangeIds);
+        String url = String.format(cmcExchangeInfoUrl, sequenceExchangeIds);
+
+        return get("getExchangeInfo", url, step, CmcRequestPriority.EXCHANGE_DETAIL, CmcCreditCost.info(exchangeIds.size()),
+                new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcExchangeDetailMapDto>>() {})
+            .mapNotNull(CmcApiResponseDto::getData)
+            .doOnError(e -> log.error("CMC Exchange Info 비동기 조회 실패: {} - IDs: {}", e.getMessage(), sequenceExchangeIds));
+    }
+
+    /**
+     * 우선순위 클래스 순서로 Rate Limit permit 을 비동기로 배정받은 뒤 GET 요청 (구독 시점에 permit 획득)
+     * 응답 status 로 Rate Limiter 허용량을 조절 (429 는 WebClient 필터에서 반영)
+     */
+    private <S, D> Mono<CmcApiResponseDto<S, D>> get(String methodName, String url, String step,
+                                                     CmcRequestPriority priority, int credits,
+                                                     ParameterizedTypeReference<CmcApiResponseDto<S, D>> responseType) {
+        // 응답 콜백은 Step 스레드가 아니므로 호출 시점의 Step 이름(step)을 지표 태그 / 스케줄러 흐름으로 전달
+        String endpoint = CmcApiMetrics.endpointOf(url);
+        return Mono.fromFuture(() -> cmcRequestScheduler.acquireAsync(priority, credits, RATE_LIMIT_TIMEOUT_SECONDS, step))
+            .flatMap(rateLimitResult -> {
+                if (!rateLimitResult.isAllowed()) {
+                    log.error("CMC API Rate Limit 타임아웃 - 메서드: {}, {}초 대기 후에도 permit 획득 실패",
+                        methodName, RATE_LIMIT_TIMEOUT_SECONDS);
+                    return Mono.error(new RuntimeException("CMC API Rate Limit timeout after " + RATE_LIMIT_TIMEOUT_SECONDS + " seconds"));
+                }
+
+                log.debug("CMC API Rate Limit 통과 (async) - 메서드: {}, 남은 permits: {}",
+                    methodName, rateLimitResult.getRemainingRequests());
+                return coinMarketCapWebClient.get()
+                    .uri(url)
+                    .attribute(MetricTags.STEP, step)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .doOnNext(response -> {
+                        if (response.getStatus() instanceof CmcApiStatus status) {
+                            cmcApiMetrics.recordCredits(endpoint, step, status.getCreditCount());
+                            if (status.isRateLimited()) {
+                                log.warn("CMC API 제한 응답 (async) - url: {}, error_code: {}", url, status.getErrorCode());
+                                distributedRateLimiter.onCmcApiThrottled(0L);
+                            } else {
+                                distributedRateLimiter.onCmcApiSuccess(credits, status.getCreditCount());
+                            }
+                        }
+                    });
+            });
+    }
+
+    private <T> List<T> dataOrEmpty(CmcApiResponseDto<?, List<T>> response) {
+        return response.getData() == null ? List.of() : response.getData();
+    }
+}
@@ -1,11 +1,18 @@
 package org.kimprun.batch.cmc.component;
 
+import org.kimprun.batch.cmc.cache.CmcCacheRegion;
+import org.kimprun.batch.cmc.cache.CmcResponseCache;
 import org.kimprun.batch.cmc.dto.internal.coin.*;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeApiStatusDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailMapDto;
+import org.kimprun.batch.cmc.metrics.CmcApiMetrics;
+import org.kimprun.batch.common.json.JsonArrayStream;
+import org.kimprun.batch.common.metrics.MetricTags;
 import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
 import org.kimprun.batch.common.ratelimit.RateLimitResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,8 +20,11 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -23,6 +33,10 @@ public class CoinMarketCapComponent {
 
     private final RestClient coinMarketCapClient;
     private final DistributedRateLimiter distributedRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final CmcApiMetrics cmcApiMetrics;
+    private final CmcRequestScheduler cmcRequestScheduler;
+    private final CmcResponseCache cmcResponseCache;
     @Value("${cmc.api.key}")
     private String cmcApiKey;
 
@@ -37,9 +51,15 @@ public class CoinMarketCapComponent {
     @Value("${cmc.api.exchange_info_url}")
     private String cmcExchangeInfoUrl;
 
-    public CoinMarketCapComponent(RestClient coinMarketCapClient, DistributedRateLimiter rateLimiter) {
+    public CoinMarketCapComponent(RestClient coinMarketCapClient, DistributedRateLimiter rateLimiter, ObjectMapper objectMapper,
+                                  CmcApiMetrics cmcApiMetrics, CmcRequestScheduler cmcRequestScheduler,
+                                  CmcResponseCache cmcResponseCache) {
         this.coinMarketCapClient = coinMarketCapClient;
         this.distributedRateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.cmcApiMetrics = cmcApiMetrics;
+        this.cmcRequestScheduler = cmcRequestScheduler;
+        this.cmcResponseCache = cmcResponseCache;
     }
 
     private HttpHeaders getCMCHeaders() {
@@ -56,7 +76,8 @@ public class CoinMarketCapComponent {
         log.info("CoinMarketCap Coin Map 데이터 가져오기 시작");
 
         // Rate Limit 대기 후 재시도 로직
-        waitForRateLimitAvailability("getCoinMapFromCMC");
+        int credits = CmcCreditCost.map(limit);
+        waitForRateLimitAvailability("getCoinMapFromCMC", CmcRequestPriority.QUOTE, credits);
 
         String url = String.format(cmcCoinMapUrl, start, limit);
 
@@ -67,6 +88,7 @@ public class CoinMarketCapComponent {
                     .retrieve()
                     .body(new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, List<CmcCoinMapDataDto>>>() {});
 
+            handleStatus(url, credits, cmcResponse);
             return cmcResponse.getData();
         } catch (Exception e) {
             log.error("CMC Coin Map 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit);
@@ -81,7 +103,8 @@ public class CoinMarketCapComponent {
         log.info("CoinMarketCap 최신 데이터 가져오기 시작");
 
         // Rate Limit 대기 후 재시도 로직
-        waitForRateLimitAvailability("getLatestCoinInfoFromCMC");
+        int credits = CmcCreditCost.listing(limit);
+        waitForRateLimitAvailability("getLatestCoinInfoFromCMC", CmcRequestPriority.QUOTE, credits);
 
         String url = String.format(cmcLatestUrl, start, limit);
 
@@ -92,6 +115,7 @@ public class CoinMarketCapComponent {
                     .retrieve()
                     .body(new ParameterizedTypeReference<CmcApiResponseDto<CmcCoinApiStatusDto, List<CmcApiDataDto>>>() {});
 
+            handleStatus(url, credits, cmcResponse);
             return cmcResponse.getData();
         } catch (Exception e) {
             log.error("CMC Latest 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit);
@@ -99,13 +123,65 @@ public class CoinMarketCapComponent {
         }
     }
 
+    // getLatestCoinInfoFromCMC 의 스트리밍 버전 - per credit : 25
+    // 응답 전체를 List 로 만들지 않고 "data" 배열 원소를 하나씩 읽을 수 있는 스트림을 반환 (호출자가 close 해야 함)
+    public JsonArrayStream<CmcApiDataDto> openLatestCoinInfoStream(int start, int limit) {
+        log.info("CoinMarketCap 최신 데이터 스트리밍 조회 시작 - start: {}, limit: {}", start, limit);
+
+        // Rate Limit 대기 후 재시도 로직
+        int credits = CmcCreditCost.listing(limit);
+        waitForRateLimitAvailability("openLatestCoinInfoStream", CmcRequestPriority.QUOTE, credits);
+
+        String url = String.format(cmcLatestUrl, start, limit);
+
+        try {
+            return coinMarketCapClient.get()
+                    .uri(url)
+                    .headers(headers -> headers.addAll(getCMCHeaders()))
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            response.close();
+                            throw new RestClientException("CMC Latest 스트리밍 조회 실패 - status: " + response.getStatusCode());
+                        }
+                        // status 를 읽지 않으므로 실제 크레딧 없이 정상 응답으로만 반영
+                        distributedRateLimiter.onCmcApiSuccess(credits, null);
+                        return new JsonArrayStream<>(objectMapper, response.getBody(), "data", CmcApiDataDto.class, response);
+                    }, false);
+        } catch (Exception e) {
+            log.error("CMC Latest 스트리밍 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit);
+            throw e;
+        }
+    }
+
     // 최대 100개까지만 가능 - per credit : 1
     // 코인의 id를 List의 형태로 넣어주고, coinMarketCap의 api를통해 정보를 가져옵니다.
+    // 우선순위를 지정하지 않으면 갱신 주기 재조회(STALE_INFO)로 요청
     public CmcCoinInfoDataMapDto getCmcCoinInfos(List<Integer> cmcCoinIds){
+        return getCmcCoinInfos(cmcCoinIds, CmcRequestPriority.STALE_INFO);
+    }
+
+    // 캐시에 없는 ID 만 API 로 조회하고, 받은 항목은 캐시에 저장
+    public CmcCoinInfoDataMapDto getCmcCoinInfos(List<Integer> cmcCoinIds, CmcRequestPriority priority){
+        CmcResponseCache.Lookup<CmcCoinInfoDataDto> cached = cmcResponseCache.get(CmcCacheRegion.COIN_INFO, cmcCoinIds);
+        if (cached.missingIds().isEmpty()) {
+            return toCoinInfoMap(cached.hits());
+        }
+
+        CmcCoinInfoDataMapDto fetched = fetchCmcCoinInfos(cached.missingIds(), priority);
+        cmcResponseCache.put(CmcCacheRegion.COIN_INFO, fetched);
+        CmcCoinInfoDataMapDto result = toCoinInfoMap(cached.hits());
+        if (fetched != null) {
+            result.putAll(fetched);
+        }
+        return result;
+    }
+
+    private CmcCoinInfoDataMapDto fetchCmcCoinInfos(List<Integer> cmcCoinIds, CmcRequestPriority priority){
         // Rate Limit 대기 후 재시도 로직
-        waitForRateLimitAvailability("getCmcCoinInfos");
+        int credits = CmcCreditCost.info(cmcCoinIds.size());
+        waitForRateLimitAvailability("getCmcCoinInfos", priority, credits);
 
-        String sequenceMainnetCmcIds = cmcCoinIds.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("");
+        String sequenceMainnetCmcIds = joinIds(cmcCoinIds);
         String url = String.format(cmcCoinInfoUrl, sequenceMainnetCmcIds);
 
         try {
@@ -115,6 +191,7 @@ public class CoinMarketCapComponent {
                     .retrieve()
                     .body(new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcCoinInfoDataMapDto>>() {});
 
+            handleStatus(url, credits, cmcResponse);
             return cmcResponse.getData();
         } catch (Exception e) {
             log.error("CMC 코인 정보 조회 실패: {} - IDs: {}", e.getMessage(), sequenceMainnetCmcIds);
@@ -129,7 +206,8 @@ public class CoinMarketCapComponent {
         log.info("CoinMarketCap Exchange Map 데이터 가져오기 시작");
 
         // Rate Limit 대기 후 재시도 로직
-        waitForRateLimitAvailability("getExchangeMap");
+        int credits = CmcCreditCost.map(limit);
+        waitForRateLimitAvailability("getExchangeMap", CmcRequestPriority.EXCHANGE_DETAIL, credits);
 
         String url = String.format(cmcExchangeMapUrl, start, limit);
 
@@ -140,6 +218,7 @@ public class CoinMarketCapComponent {
                     .retrieve()
                     .body(new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, List<CmcExchangeDto>>>() {});
 
+            handleStatus(url, credits, cmcResponse);
             return cmcResponse.getData();
         } catch (Exception e) {
             log.error("CMC Exchange Map 조회 실패: {} - start: {}, limit: {}", e.getMessage(), start, limit);
@@ -148,11 +227,28 @@ public class CoinMarketCapComponent {
     }
 
     // 최대 exchangeId 100개까지 가능 - per credit : 1
+    // 캐시에 없는 ID 만 API 로 조회하고, 받은 항목은 캐시에 저장
     public CmcExchangeDetailMapDto getExchangeInfo(List<Integer> exchangeIds){
+        CmcResponseCache.Lookup<CmcExchangeDetailDto> cached = cmcResponseCache.get(CmcCacheRegion.EXCHANGE_INFO, exchangeIds);
+        if (cached.missingIds().isEmpty()) {
+            return toExchangeDetailMap(cached.hits());
+        }
+
+        CmcExchangeDetailMapDto fetched = fetchExchangeInfo(cached.missingIds());
+        cmcResponseCache.put(CmcCacheRegion.EXCHANGE_INFO, fetched);
+        CmcExchangeDetailMapDto result = toExchangeDetailMap(cached.hits());
+        if (fetched != null) {
+            result.putAll(fetched);
+        }
+        return result;
+    }
+
+    private CmcExchangeDetailMapDto fetchExchangeInfo(List<Integer> exchangeIds){
         // Rate Limit 대기 후 재시도 로직
-        waitForRateLimitAvailability("getExchangeInfo");
+        int credits = CmcCreditCost.info(exchangeIds.size());
+        waitForRateLimitAvailability("getExchangeInfo", CmcRequestPriority.EXCHANGE_DETAIL, credits);
 
-        String sequenceExchangeIds = exchangeIds.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("");
+        String sequenceExchangeIds = joinIds(exchangeIds);
         String url = String.format(cmcExchangeInfoUrl, sequenceExchangeIds);
 
         try {
@@ -162,6 +258,7 @@ public class CoinMarketCapComponent {
                     .retrieve()
                     .body(new ParameterizedTypeReference<CmcApiResponseDto<CmcExchangeApiStatusDto, CmcExchangeDetailMapDto>>() {});
 
+            handleStatus(url, credits, cmcResponse);
             return cmcResponse.getData();
         } catch (Exception e) {
             log.error("CMC Exchange Info 조회 실패: {} - IDs: {}", e.getMessage(), sequenceExchangeIds);
@@ -171,20 +268,62 @@ public class CoinMarketCapComponent {
 
     /**
      * Rate Limit 가용성 대기 메서드
-     * Redisson blocking tryAcquire 사용 - permit이 사용 가능해질 때까지 자동 대기
+     * 우선순위 클래스 순서로 permit 을 배정받음 - permit이 사용 가능해질 때까지 자동 대기
      *
      * @param methodName 호출하는 메서드명
+     * @param priority 요청 클래스
+     * @param credits 호출 예상 크레딧
      */
-    private void waitForRateLimitAvailability(String methodName) {
-        // Redisson의 blocking tryAcquire 사용 - 최대 60초 대기
-        RateLimitResult rateLimitResult = distributedRateLimiter.tryAcquireCmcApiLimitBlocking(60);
+    private void waitForRateLimitAvailability(String methodName, CmcRequestPriority priority, int credits) {
+        // blocking 획득 - 최대 PERMIT_TIMEOUT_SECONDS 대기
+        long timeoutSeconds = CmcRequestScheduler.PERMIT_TIMEOUT_SECONDS;
+        RateLimitResult rateLimitResult = cmcRequestScheduler.acquire(priority, credits, timeoutSeconds);
 
         if (!rateLimitResult.isAllowed()) {
-            log.error("CMC API Rate Limit 타임아웃 - 메서드: {}, 60초 대기 후에도 permit 획득 실패", methodName);
-            throw new RuntimeException("CMC API Rate Limit timeout after 65 seconds");
+            log.error("CMC API Rate Limit 타임아웃 - 메서드: {}, {}초 대기 후에도 permit 획득 실패", methodName, timeoutSeconds);
+            throw new RuntimeException("CMC API Rate Limit timeout after " + timeoutSeconds + " seconds");
         }
 
         log.debug("CMC API Rate Limit 통과 - 메서드: {}, 남은 permits: {}",
             methodName, rateLimitResult.getRemainingRequests());
     }
+
+    /**
+     * 응답 status.credit_count 를 소모 크레딧 지표로 기록하고 Rate Limiter 에 응답 결과 반영
+     * (제한 error_code 면 호출 중단 / 허용량 감소, 아니면 허용량 증가 + 실제 크레딧 보정)
+     * (스트리밍 조회는 status 를 역직렬화하지 않으므로 기록하지 않음)
+     */
+    private void handleStatus(String url, int credits, CmcApiResponseDto<? extends CmcApiStatus, ?> cmcResponse) {
+        if (cmcResponse == null || cmcResponse.getStatus() == null) {
+            return;
+        }
+        CmcApiStatus status = cmcResponse.getStatus();
+        cmcApiMetrics.recordCredits(CmcApiMetrics.endpointOf(url), MetricTags.currentStep(), status.getCreditCount());
+        if (status.isRateLimited()) {
+            log.warn("CMC API 제한 응답 - url: {}, error_code: {}", url, status.getErrorCode());
+            distributedRateLimiter.onCmcApiThrottled(0L);
+        } else {
+            distributedRateLimiter.onCmcApiSuccess(credits, status.getCreditCount());
+        }
+    }
+
+    static CmcCoinInfoDataMapDto toCoinInfoMap(Map<String, CmcCoinInfoDataDto> items) {
+        CmcCoinInfoDataMapDto map = new CmcCoinInfoDataMapDto();
+        map.putAll(items);
+        return map;
+    }
+
+    static CmcExchangeDetailMapDto toExchangeDetailMap(Map<String, CmcExchangeDetailDto> items) {
+        CmcExchangeDetailMapDto map = new CmcExchangeDetailMapDto();
+        map.putAll(items);
+        return map;
+    }
+
+    /**
+     * ID 목록을 쉼표로 연결 (info API 의 id 파라미터)
+     * 문자열을 한 번만 만들도록 joining 사용 (reduce 연결은 ID 수만큼 중간 문자열을 새로 만듦)
+     */
+    public static String joinIds(List<Integer> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
 }
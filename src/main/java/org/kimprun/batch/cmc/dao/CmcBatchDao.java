@@ -3,23 +3,29 @@ package org.kimprun.batch.cmc.dao;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcSymbolMappingResultDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncFreshnessDto;
+import org.kimprun.batch.common.upsert.UpsertResult;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface CmcBatchDao {
     
-    // 코인 관련 배치 메서드들
-    void upsertCmcCoinMap(List<CmcCoinMapDataDto> coinMapList);
-    void upsertCmcCoinMapRank(List<CmcCoinMapDataDto> rankedCoins); // 코인 맵에서 랭킹 데이터 처리
-    void updateCmcCoinLatestInfo(List<CmcApiDataDto> latestInfoList);
-    void upsertCmcCoinInfo(List<CmcCoinInfoDataDto> coinInfoList);
+    // 코인 관련 배치 메서드들 (UpsertResult: 신규 / 변경 / 변경 없음 건수)
+    UpsertResult upsertCmcCoinMap(List<CmcCoinMapDataDto> coinMapList, CmcLoadMode loadMode);
+    UpsertResult upsertCmcCoinMapRank(List<CmcCoinMapDataDto> rankedCoins, CmcLoadMode loadMode); // 코인 맵에서 랭킹 데이터 처리 (cmc_rank 건수)
+    UpsertResult updateCmcCoinLatestInfo(List<CmcApiDataDto> latestInfoList, CmcLoadMode loadMode); // cmc_rank 건수
+    UpsertResult upsertCmcCoinInfo(List<CmcCoinInfoDataDto> coinInfoList);
     List<Long> getCmcCoinIds(int limit);
     
     // 거래소 관련 배치 메서드들
-    void upsertCmcExchangeMap(List<CmcExchangeDto> exchangeMapList);
-    void upsertCmcExchangeInfo(List<CmcExchangeDetailDto> exchangeInfoList);
+    UpsertResult upsertCmcExchangeMap(List<CmcExchangeDto> exchangeMapList);
+    UpsertResult upsertCmcExchangeInfo(List<CmcExchangeDetailDto> exchangeInfoList); // cmc_exchange_info 건수
     List<Integer> getCmcExchangeIds(int limit);
     
     // 유틸리티 메서드들
@@ -27,29 +33,41 @@ public interface CmcBatchDao {
     boolean existsCmcExchange(Integer cmcExchangeId);
     
     // CMC Coin과 기존 Coin 테이블 매핑
-    void linkCmcCoinWithExistingCoin();
+    CmcSymbolMappingResultDto linkCmcCoinWithExistingCoin();
     
     // 모든 CMC Coin ID 조회 (CmcCoinInfo 배치 처리용)
     List<Long> getAllCmcCoinIds();
     
+    // ID 범위 내 CMC Coin ID 조회 (파티션 단위 처리용, 양 끝 포함)
+    List<Long> getCmcCoinIdsBetween(long minId, long maxId);
+    
+    // 상세 정보 갱신이 필요한 CMC Coin ID 조회 (증분 동기화, minId/maxId 가 null 이면 전체 범위)
+    List<Long> getStaleCmcCoinIds(Long minId, Long maxId, int refreshHours, int limit);
+    
+    // 상세 정보를 조회한 적이 있는 CMC Coin ID (나머지는 신규 코인, 요청 우선순위 구분용)
+    Set<Long> getFetchedCmcCoinInfoIds(List<Long> cmcCoinIds);
+    
     // CmcCoinInfo 일괄 처리 (getCmcCoinInfos API 활용)
-    void upsertCmcCoinInfoBulk(List<CmcCoinInfoDataDto> coinInfoList);
+    UpsertResult upsertCmcCoinInfoBulk(List<CmcCoinInfoDataDto> coinInfoList);
     
     // CmcCoinMeta 데이터 처리 (getLatestCoinInfoFromCMC API 활용)
-    void upsertCmcCoinMeta(List<CmcApiDataDto> latestInfoList);
+    UpsertResult upsertCmcCoinMeta(List<CmcApiDataDto> latestInfoList);
+    
+    // CmcMainnet 데이터 처리 (getCmcCoinInfos에서 explorer URLs 활용, 저장에 실패한 CMC Coin ID 반환)
+    Set<Long> upsertCmcMainnet(List<CmcCoinInfoDataDto> coinInfoList);
+    
+    // CmcPlatform 데이터 처리 (getCmcCoinInfos에서 platform 정보 활용, 저장에 실패한 CMC Coin ID 반환)
+    Set<Long> upsertCmcPlatform(List<CmcCoinInfoDataDto> coinInfoList);
     
-    // CmcMainnet 데이터 처리 (getCmcCoinInfos에서 explorer URLs 활용)
-    void upsertCmcMainnet(List<CmcCoinInfoDataDto> coinInfoList);
+    // CmcCoinInfo + CmcMainnet + CmcPlatform 을 하나의 트랜잭션으로 저장 (여러 API 배치를 모아 저장할 때 사용, cmc_coin_info 결과 반환)
+    UpsertResult upsertCmcCoinInfoDetails(List<CmcCoinInfoDataDto> coinInfoList);
     
-    // CmcPlatform 데이터 처리 (getCmcCoinInfos에서 platform 정보 활용)
-    void upsertCmcPlatform(List<CmcCoinInfoDataDto> coinInfoList);
+    // 콘텐츠 해시가 바뀐 코인만 upsertCmcCoinInfoDetails 로 저장하고 해시를 기록 (해시가 같은 코인은 변경 없음으로 집계, 저장에 실패한 코인은 해시를 기록하지 않음)
+    UpsertResult upsertChangedCmcCoinInfoDetails(List<CmcCoinInfoDataDto> coinInfoList, Map<Long, Long> contentHashes);
     
     // 배치 실행 조건 검사 메서드들
-    boolean shouldRunCoinMapSync();
-    boolean shouldRunCoinInfoSync();
-    boolean shouldRunExchangeSync();
-    boolean shouldRunCoinRankSync();  // cmc_rank 테이블이 비어있거나 오래된 경우
-    boolean shouldRunCoinMetaSync();  // cmc_coin_meta 테이블이 비어있거나 오래된 경우
+    CmcSyncFreshnessDto getSyncFreshness(int coinMapRefreshHours, int exchangeRefreshHours); // 데이터셋별 동기화 필요 여부 일괄 조회
+    void upsertSyncWatermark(CmcSyncDataset dataset, long rowCount); // 동기화 성공 시각/건수 기록
     long getCmcCoinCount();
     long getCmcExchangeCount();
 }
\ No newline at end of file
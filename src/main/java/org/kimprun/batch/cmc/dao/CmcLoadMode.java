@@ -0,0 +1,16 @@
+package org.kimprun.batch.cmc.dao;
+
+/**
+ * 대량 UPSERT 적재 방식
+ */
+public enum CmcLoadMode {
+    /**
+     * MyBatis foreach 로 생성한 multi-row INSERT ... VALUES
+     */
+    FOREACH,
+
+    /**
+     * PgJDBC COPY 로 임시 스테이징 테이블에 적재 후 INSERT ... SELECT ... ON CONFLICT 로 병합
+     */
+    COPY
+}
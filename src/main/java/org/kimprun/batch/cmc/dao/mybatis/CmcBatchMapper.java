@@ -2,43 +2,54 @@ package org.kimprun.batch.cmc.dao.mybatis;
 
 import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoSyncHashDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcMainnetRowDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcPlatformRowDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcRankIdDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcSymbolMappingResultDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeChildIdDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncFreshnessDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface CmcBatchMapper {
     
     // 코인 관련 배치 메서드들
-    void upsertCmcCoinMap(@Param("coinMapList") List<CmcCoinMapDataDto> coinMapList);
-    void upsertCmcCoinMapRank(@Param("rankedCoins") List<CmcCoinMapDataDto> rankedCoins); // 코인 맵에서 랭킹 데이터 처리
-    void updateCmcCoinMapRankFk(@Param("rankedCoins") List<CmcCoinMapDataDto> rankedCoins); // 코인 맵에서 랭킹 FK 업데이트
-    void upsertCmcCoinRank(@Param("latestInfoList") List<CmcApiDataDto> latestInfoList);
-    void updateCmcCoinRankFk(@Param("latestInfoList") List<CmcApiDataDto> latestInfoList);
-    void insertCmcCoinInfo(@Param("coinInfo") CmcCoinInfoDataDto coinInfo);
+    List<Boolean> upsertCmcCoinMap(@Param("coinMapList") List<CmcCoinMapDataDto> coinMapList, @Param("skipUnchanged") boolean skipUnchanged); // 쓰인 행마다 신규 INSERT 여부 (RETURNING)
+    List<CmcRankIdDto> upsertCmcCoinMapRank(@Param("rankedCoins") List<CmcCoinMapDataDto> rankedCoins, @Param("skipUnchanged") boolean skipUnchanged); // 코인 맵에서 랭킹 데이터 처리 (RETURNING)
+    List<CmcRankIdDto> upsertCmcCoinRank(@Param("latestInfoList") List<CmcApiDataDto> latestInfoList, @Param("skipUnchanged") boolean skipUnchanged); // 건너뛴 행 포함 id, cmc_coin_id, inserted
+    int linkCmcCoinRankFk(@Param("cmcCoinIds") Long[] cmcCoinIds, @Param("rankIds") Long[] rankIds); // 랭킹 FK 일괄 연결
+    
+    // COPY 스테이징 적재 관련 (임시 테이블 준비 후 병합)
+    void prepareCmcCoinStage();
+    List<Boolean> mergeCmcCoinStage(@Param("skipUnchanged") boolean skipUnchanged);
+    void prepareCmcRankStage();
+    List<CmcRankIdDto> mergeCmcRankStage(@Param("skipUnchanged") boolean skipUnchanged);
+    
+    Boolean insertCmcCoinInfo(@Param("coinInfo") CmcCoinInfoDataDto coinInfo, @Param("skipUnchanged") boolean skipUnchanged);
     void updateCmcCoinWithCoinInfo(@Param("coinInfoId") Long coinInfoId, @Param("coinInfo") CmcCoinInfoDataDto coinInfo);
+    List<Boolean> upsertCmcCoinInfoBulk(@Param("coinInfoList") List<CmcCoinInfoDataDto> coinInfoList, @Param("skipUnchanged") boolean skipUnchanged); // API 배치 단위 multi-row UPSERT
+    void updateCmcCoinWithCoinInfoBulk(@Param("coinInfoList") List<CmcCoinInfoDataDto> coinInfoList); // UPDATE ... FROM 조인으로 FK 일괄 연결
     List<Long> getCmcCoinIds(@Param("limit") int limit);
     
     // 거래소 관련 배치 메서드들
-    void upsertCmcExchangeMap(@Param("exchangeMapList") List<CmcExchangeDto> exchangeMapList);
-    Long getExchangeInfoIdByExchangeId(@Param("exchangeId") Long exchangeId);
-    void insertCmcExchangeInfo(@Param("exchangeId") Long exchangeId, @Param("fiats") String fiats);
-    void updateCmcExchangeInfo(@Param("exchangeInfoId") Long exchangeInfoId, @Param("fiats") String fiats);
-    Long getExchangeMetaIdByExchangeId(@Param("exchangeId") Long exchangeId);
-    void insertCmcExchangeMeta(@Param("exchangeDetail") CmcExchangeDetailDto exchangeDetail);
-    void updateCmcExchangeMeta(@Param("exchangeMetaId") Long exchangeMetaId, @Param("exchangeDetail") CmcExchangeDetailDto exchangeDetail);
-    Long getExchangeUrlIdByExchangeId(@Param("exchangeId") Long exchangeId);
-    void insertCmcExchangeUrl(@Param("exchangeId") Long exchangeId, @Param("website") String website);
-    void updateCmcExchangeUrl(@Param("exchangeUrlId") Long exchangeUrlId, @Param("website") String website);
-    void updateCmcExchangeWithDetails(@Param("exchangeInfoId") Long exchangeInfoId, 
-                                     @Param("exchangeMetaId") Long exchangeMetaId, 
-                                     @Param("exchangeUrlId") Long exchangeUrlId,
-                                     @Param("exchangeDetail") CmcExchangeDetailDto exchangeDetail);
+    List<Boolean> upsertCmcExchangeMap(@Param("exchangeMapList") List<CmcExchangeDto> exchangeMapList, @Param("skipUnchanged") boolean skipUnchanged);
+    List<CmcExchangeChildIdDto> upsertCmcExchangeInfoBulk(@Param("exchangeIds") Long[] exchangeIds, @Param("fiats") String[] fiats,
+                                                          @Param("skipUnchanged") boolean skipUnchanged);
+    List<CmcExchangeChildIdDto> upsertCmcExchangeMetaBulk(@Param("exchangeDetailList") List<CmcExchangeDetailDto> exchangeDetailList);
+    List<CmcExchangeChildIdDto> upsertCmcExchangeUrlBulk(@Param("exchangeIds") Long[] exchangeIds, @Param("websites") String[] websites,
+                                                         @Param("skipUnchanged") boolean skipUnchanged);
+    int linkCmcExchangeDetails(@Param("exchangeIds") Long[] exchangeIds, @Param("infoIds") Long[] infoIds,
+                               @Param("metaIds") Long[] metaIds, @Param("urlIds") Long[] urlIds,
+                               @Param("descriptions") String[] descriptions, @Param("logos") String[] logos,
+                               @Param("datesLaunched") String[] datesLaunched); // 상세 정보 FK 일괄 연결 (UPDATE 1회)
     List<Integer> getCmcExchangeIds(@Param("limit") int limit);
     
     // 유틸리티 메서드들
@@ -46,33 +57,36 @@ public interface CmcBatchMapper {
     boolean existsCmcExchange(@Param("cmcExchangeId") Integer cmcExchangeId);
     
     // CMC Coin과 기존 Coin 테이블 매핑
-    List<Map<String, Object>> getMappableCoinIds();
-    int linkCmcCoinWithExistingCoin(@Param("coinId") Long coinId, @Param("symbol") String symbol);
+    CmcSymbolMappingResultDto getSymbolMappingStats(); // 모호/미매칭 심볼 집계
+    int linkCmcCoinsBySymbol(); // 심볼 기준 일괄 매핑
     
     // 모든 CMC Coin ID 조회
     List<Long> getAllCmcCoinIds();
+    List<Long> getCmcCoinIdsBetween(@Param("minId") Long minId, @Param("maxId") Long maxId); // 파티션 ID 범위 조회
+    List<Long> getStaleCmcCoinIds(@Param("minId") Long minId, @Param("maxId") Long maxId,
+                                  @Param("refreshHours") int refreshHours, @Param("limit") int limit); // 증분 동기화 대상 선택
+    List<CmcCoinInfoSyncHashDto> getCmcCoinInfoContentHashes(@Param("cmcCoinIds") List<Long> cmcCoinIds);
+    void upsertCmcCoinInfoContentHashes(@Param("hashList") List<CmcCoinInfoSyncHashDto> hashList);
+    void scanAllCmcCoinIds(ResultHandler<Long> handler); // 리스트 생성 없이 한 건씩 전달 (KnownCmcIdIndex 적재용)
     
     // CmcCoinMeta 관련 - 메타 데이터 삽입과 동시에 코인 정보에 연결
-    void insertCmcCoinMeta(@Param("coin") CmcApiDataDto coin);
+    Boolean insertCmcCoinMeta(@Param("coin") CmcApiDataDto coin, @Param("skipUnchanged") boolean skipUnchanged);
     void updateCmcCoinInfoWithMeta(@Param("cmcCoinId") Long cmcCoinId);
     
     // CmcMainnet 관련
-    void deleteCmcMainnet(@Param("coinId") Long coinId);
-    void insertCmcMainnet(@Param("explorerUrl") String explorerUrl, @Param("coinId") Long coinId);
+    List<CmcMainnetRowDto> getCmcMainnetRows(@Param("coinIds") Long[] coinIds);
+    int deleteCmcMainnetRows(@Param("coinIds") Long[] coinIds, @Param("explorerUrls") String[] explorerUrls);
+    int insertCmcMainnetRows(@Param("coinIds") Long[] coinIds, @Param("explorerUrls") String[] explorerUrls);
     
     // CmcPlatform 관련
-    void deleteCmcPlatform(@Param("coinId") Long coinId);
-    void insertCmcPlatform(@Param("coinInfo") CmcCoinInfoDataDto coinInfo);
+    List<CmcPlatformRowDto> getCmcPlatformRows(@Param("coinIds") Long[] coinIds);
+    int deleteCmcPlatformRows(@Param("coinIds") Long[] coinIds, @Param("names") String[] names, @Param("symbols") String[] symbols);
+    int insertCmcPlatformRows(@Param("coinIds") Long[] coinIds, @Param("names") String[] names, @Param("symbols") String[] symbols);
     
     // 배치 실행 조건 검사
-    boolean shouldRunCoinMapSync();
-    boolean shouldRunCoinInfoSync(); 
-    boolean shouldRunExchangeSync();
-    boolean shouldRunCoinRankSync();
-    boolean shouldRunCoinMetaSync();
+    CmcSyncFreshnessDto getSyncFreshness(@Param("coinMapRefreshHours") int coinMapRefreshHours,
+                                         @Param("exchangeRefreshHours") int exchangeRefreshHours);
+    int upsertSyncWatermark(@Param("dataset") String dataset, @Param("rowCount") long rowCount);
     long getCmcCoinCount();
     long getCmcExchangeCount();
-    
-    // 유틸리티 메서드
-    Long getLastInsertedId(@Param("tableName") String tableName);
 }
\ No newline at end of file
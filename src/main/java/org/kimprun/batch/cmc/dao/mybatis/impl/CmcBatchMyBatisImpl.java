@@ -1,37 +1,128 @@
 package org.kimprun.batch.cmc.dao.mybatis.impl;
 
 import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.kimprun.batch.cmc.dao.CmcLoadMode;
 import org.kimprun.batch.cmc.dao.mybatis.CmcBatchMapper;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoSyncHashDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcDataPlatformDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcMainnetRowDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcPlatformRowDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcRankIdDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcSymbolMappingResultDto;
+import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeChildIdDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncFreshnessDto;
+import org.kimprun.batch.cmc.index.KnownCmcIdIndex;
+import org.kimprun.batch.common.copy.PgCopyLoader;
+import org.kimprun.batch.common.sync.ChildCollectionSynchronizer;
+import org.kimprun.batch.common.upsert.UpsertMetrics;
+import org.kimprun.batch.common.upsert.UpsertResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Repository("cmcBatchDao")
 @Slf4j
 public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
-    private final CmcBatchMapper cmcBatchMapper;
+    // 상세 정보 조회 이력 확인 시 한 번에 조회할 ID 수
+    private static final int FETCHED_ID_LOOKUP_SIZE = 1000;
+
+    private static final String COPY_CMC_COIN_STAGE_SQL =
+        "COPY cmc_coin_stage (cmc_coin_id, name, symbol, slug, is_active, status, is_mainnet, "
+            + "first_historical_data, last_historical_data) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_CMC_RANK_STAGE_SQL =
+        "COPY cmc_rank_stage (cmc_coin_id, rank) FROM STDIN WITH (FORMAT csv)";
 
-    public CmcBatchMyBatisImpl(CmcBatchMapper cmcBatchMapper) {
+    private final CmcBatchMapper cmcBatchMapper;
+    private final PgCopyLoader pgCopyLoader;
+    private final KnownCmcIdIndex knownCmcIdIndex;
+    private final UpsertMetrics upsertMetrics;
+    // 일괄 처리 실패 시 배치 단위로 롤백하기 위한 savepoint(NESTED) 트랜잭션 템플릿
+    private final TransactionTemplate nestedTransactionTemplate;
+    // 코인별 explorer URL / 플랫폼 자식 테이블 diff 동기화
+    private final ChildCollectionSynchronizer<CmcMainnetRowDto> cmcMainnetSynchronizer;
+    private final ChildCollectionSynchronizer<CmcPlatformRowDto> cmcPlatformSynchronizer;
+
+    // ON CONFLICT DO UPDATE 에 IS DISTINCT FROM 조건을 붙여 값이 같은 행은 갱신하지 않음 (dead tuple / WAL 감소)
+    @Value("${cmc.batch.upsert.skip-unchanged:true}")
+    private boolean skipUnchanged;
+
+    public CmcBatchMyBatisImpl(CmcBatchMapper cmcBatchMapper, PgCopyLoader pgCopyLoader,
+                               KnownCmcIdIndex knownCmcIdIndex, PlatformTransactionManager transactionManager,
+                               UpsertMetrics upsertMetrics) {
         this.cmcBatchMapper = cmcBatchMapper;
+        this.pgCopyLoader = pgCopyLoader;
+        this.knownCmcIdIndex = knownCmcIdIndex;
+        this.upsertMetrics = upsertMetrics;
+        this.nestedTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.nestedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.cmcMainnetSynchronizer = new ChildCollectionSynchronizer<>("cmc_mainnet",
+            CmcMainnetRowDto::getCmcCoinId,
+            cmcBatchMapper::getCmcMainnetRows,
+            rows -> cmcBatchMapper.deleteCmcMainnetRows(
+                rows.stream().map(CmcMainnetRowDto::getCmcCoinId).toArray(Long[]::new),
+                rows.stream().map(CmcMainnetRowDto::getExplorerUrl).toArray(String[]::new)),
+            rows -> cmcBatchMapper.insertCmcMainnetRows(
+                rows.stream().map(CmcMainnetRowDto::getCmcCoinId).toArray(Long[]::new),
+                rows.stream().map(CmcMainnetRowDto::getExplorerUrl).toArray(String[]::new)));
+        this.cmcPlatformSynchronizer = new ChildCollectionSynchronizer<>("cmc_platform",
+            CmcPlatformRowDto::getCmcCoinId,
+            cmcBatchMapper::getCmcPlatformRows,
+            rows -> cmcBatchMapper.deleteCmcPlatformRows(
+                rows.stream().map(CmcPlatformRowDto::getCmcCoinId).toArray(Long[]::new),
+                rows.stream().map(CmcPlatformRowDto::getName).toArray(String[]::new),
+                rows.stream().map(CmcPlatformRowDto::getSymbol).toArray(String[]::new)),
+            rows -> cmcBatchMapper.insertCmcPlatformRows(
+                rows.stream().map(CmcPlatformRowDto::getCmcCoinId).toArray(Long[]::new),
+                rows.stream().map(CmcPlatformRowDto::getName).toArray(String[]::new),
+                rows.stream().map(CmcPlatformRowDto::getSymbol).toArray(String[]::new)));
     }
 
     @Override
     @Transactional
-    public void upsertCmcCoinMap(List<CmcCoinMapDataDto> coinMapList) {
+    public UpsertResult upsertCmcCoinMap(List<CmcCoinMapDataDto> coinMapList, CmcLoadMode loadMode) {
         try {
-            // 기본값 처리는 MyBatis XML에서 COALESCE로 처리
-            cmcBatchMapper.upsertCmcCoinMap(coinMapList);
-            log.info("코인 맵 데이터 {} 건 업서트 완료", coinMapList.size());
+            long startNanos = System.nanoTime();
+            UpsertResult result;
+            if (loadMode == CmcLoadMode.COPY) {
+                // 임시 스테이징 테이블에 COPY 후 INSERT ... SELECT ... ON CONFLICT 1회로 병합
+                cmcBatchMapper.prepareCmcCoinStage();
+                pgCopyLoader.copyIn(COPY_CMC_COIN_STAGE_SQL, coinMapList, coin -> new Object[] {
+                    coin.getId(), coin.getName(), coin.getSymbol(), coin.getSlug(),
+                    coin.getIsActive(), coin.getStatus(), coin.getIsMainnet(),
+                    coin.getFirstHistoricalData(), coin.getLastHistoricalData()
+                });
+                // 스테이징 병합은 DISTINCT ON 으로 ID 중복을 제거하므로 요청 행 수도 고유 ID 기준
+                int distinctCount = (int) coinMapList.stream().map(CmcCoinMapDataDto::getId).distinct().count();
+                result = UpsertResult.of(cmcBatchMapper.mergeCmcCoinStage(skipUnchanged), distinctCount);
+            } else {
+                // 기본값 처리는 MyBatis XML에서 COALESCE로 처리
+                result = UpsertResult.of(cmcBatchMapper.upsertCmcCoinMap(coinMapList, skipUnchanged), coinMapList.size());
+            }
+            log.info("코인 맵 데이터 {} 건 업서트 완료 - {} (mode: {}, {} rows/s)",
+                coinMapList.size(), result, loadMode, rowsPerSecond(coinMapList.size(), startNanos));
+            upsertMetrics.record("cmc_coin", result);
+            return result;
         } catch (Exception e) {
             log.error("코인 맵 데이터 업서트 중 오류 발생", e);
             throw e;
@@ -40,7 +131,7 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
     @Override
     @Transactional
-    public void upsertCmcCoinMapRank(List<CmcCoinMapDataDto> rankedCoins) {
+    public UpsertResult upsertCmcCoinMapRank(List<CmcCoinMapDataDto> rankedCoins, CmcLoadMode loadMode) {
         try {
             // 유효한 랭킹 데이터만 필터링
             List<CmcCoinMapDataDto> validRankedCoins = rankedCoins.stream()
@@ -49,16 +140,25 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
             if (validRankedCoins.isEmpty()) {
                 log.warn("업데이트할 유효한 랭킹 데이터가 없습니다.");
-                return;
+                return UpsertResult.EMPTY;
             }
 
-            // 랭킹 데이터 UPSERT
-            cmcBatchMapper.upsertCmcCoinMapRank(validRankedCoins);
-            log.info("코인 맵 랭킹 데이터 {} 건 UPSERT 완료", validRankedCoins.size());
+            // 랭킹 데이터 UPSERT (RETURNING으로 랭킹 ID를 함께 받아 재조회 없이 FK 연결)
+            long startNanos = System.nanoTime();
+            List<CmcRankIdDto> rankIds;
+            if (loadMode == CmcLoadMode.COPY) {
+                rankIds = copyUpsertCmcRank(validRankedCoins, coin -> new Object[] {coin.getId(), coin.getRank()});
+            } else {
+                rankIds = cmcBatchMapper.upsertCmcCoinMapRank(validRankedCoins, skipUnchanged);
+            }
+            UpsertResult result = toRankUpsertResult(rankIds);
+            log.info("코인 맵 랭킹 데이터 {} 건 UPSERT 완료 (mode: {}, {} rows/s, {})",
+                validRankedCoins.size(), loadMode, rowsPerSecond(validRankedCoins.size(), startNanos), result);
             
             // 코인 테이블에 랭킹 FK 업데이트
-            cmcBatchMapper.updateCmcCoinMapRankFk(validRankedCoins);
-            log.info("코인 테이블 랭킹 FK {} 건 업데이트 완료", validRankedCoins.size());
+            int linkedCount = linkCmcCoinRankFk(rankIds);
+            log.info("코인 테이블 랭킹 FK {} 건 업데이트 완료", linkedCount);
+            return result;
             
         } catch (Exception e) {
             log.error("코인 맵 랭킹 데이터 업데이트 중 오류 발생", e);
@@ -68,26 +168,35 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
     @Override
     @Transactional
-    public void updateCmcCoinLatestInfo(List<CmcApiDataDto> latestInfoList) {
+    public UpsertResult updateCmcCoinLatestInfo(List<CmcApiDataDto> latestInfoList, CmcLoadMode loadMode) {
         try {
-            // 유효한 데이터만 필터링 (cmc_coin 테이블에 존재하는 코인만)
+            // 유효한 데이터만 필터링 (cmc_coin 테이블에 존재하는 코인만, 인메모리 인덱스로 확인)
             List<CmcApiDataDto> validItems = latestInfoList.stream()
                 .filter(coin -> coin.getId() != null && coin.getCmcRank() != null && coin.getCmcRank() > 0)
-                .filter(coin -> cmcBatchMapper.existsCmcCoin(coin.getId()))
+                .filter(coin -> knownCmcIdIndex.contains(coin.getId()))
                 .toList();
 
             if (validItems.isEmpty()) {
                 log.warn("업데이트할 유효한 코인 랭킹 데이터가 없습니다.");
-                return;
+                return UpsertResult.EMPTY;
             }
 
-            // 랭킹 데이터 UPSERT
-            cmcBatchMapper.upsertCmcCoinRank(validItems);
-            log.info("코인 랭킹 데이터 {} 건 UPSERT 완료", validItems.size());
+            // 랭킹 데이터 UPSERT (RETURNING으로 랭킹 ID를 함께 받아 재조회 없이 FK 연결)
+            long startNanos = System.nanoTime();
+            List<CmcRankIdDto> rankIds;
+            if (loadMode == CmcLoadMode.COPY) {
+                rankIds = copyUpsertCmcRank(validItems, coin -> new Object[] {coin.getId(), coin.getCmcRank()});
+            } else {
+                rankIds = cmcBatchMapper.upsertCmcCoinRank(validItems, skipUnchanged);
+            }
+            UpsertResult result = toRankUpsertResult(rankIds);
+            log.info("코인 랭킹 데이터 {} 건 UPSERT 완료 (mode: {}, {} rows/s, {})",
+                validItems.size(), loadMode, rowsPerSecond(validItems.size(), startNanos), result);
             
             // 코인 테이블에 랭킹 FK 업데이트
-            cmcBatchMapper.updateCmcCoinRankFk(validItems);
-            log.info("코인 테이블 랭킹 FK {} 건 업데이트 완료", validItems.size());
+            int linkedCount = linkCmcCoinRankFk(rankIds);
+            log.info("코인 테이블 랭킹 FK {} 건 업데이트 완료", linkedCount);
+            return result;
             
         } catch (Exception e) {
             log.error("코인 랭킹 데이터 업데이트 중 오류 발생", e);
@@ -95,30 +204,113 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
         }
     }
 
+    private <T> List<CmcRankIdDto> copyUpsertCmcRank(List<T> rankedItems, Function<T, Object[]> columnsOf) {
+        cmcBatchMapper.prepareCmcRankStage();
+        pgCopyLoader.copyIn(COPY_CMC_RANK_STAGE_SQL, rankedItems, columnsOf);
+        return cmcBatchMapper.mergeCmcRankStage(skipUnchanged);
+    }
+
+    /**
+     * 랭킹 UPSERT 결과(값이 같아 건너뛴 행 포함) 를 건수로 집계하고 cmc_rank 지표에 기록
+     */
+    private UpsertResult toRankUpsertResult(List<CmcRankIdDto> rankIds) {
+        UpsertResult result = UpsertResult.ofRows(rankIds.stream().map(CmcRankIdDto::getInserted).toList());
+        upsertMetrics.record("cmc_rank", result);
+        return result;
+    }
+
+    /**
+     * UPSERT 결과(cmc_coin_id, 랭킹 ID, 건너뛴 행 포함)를 배열 파라미터로 넘겨 UPDATE 1회로 FK 연결
+     * 이미 같은 랭킹 ID가 연결된 행은 갱신하지 않음
+     */
+    private int linkCmcCoinRankFk(List<CmcRankIdDto> rankIds) {
+        if (rankIds.isEmpty()) {
+            return 0;
+        }
+
+        Long[] cmcCoinIds = new Long[rankIds.size()];
+        Long[] ids = new Long[rankIds.size()];
+        for (int i = 0; i < rankIds.size(); i++) {
+            cmcCoinIds[i] = rankIds.get(i).getCmcCoinId();
+            ids[i] = rankIds.get(i).getId();
+        }
+        return cmcBatchMapper.linkCmcCoinRankFk(cmcCoinIds, ids);
+    }
+
+    private long rowsPerSecond(int rows, long startNanos) {
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
     @Override
     @Transactional
-    public void upsertCmcCoinInfo(List<CmcCoinInfoDataDto> coinInfoList) {
+    public UpsertResult upsertCmcCoinInfo(List<CmcCoinInfoDataDto> coinInfoList) {
+        return upsertCmcCoinInfo(coinInfoList, new HashSet<>());
+    }
+
+    /**
+     * @param failedIds 저장에 실패한 CMC Coin ID 를 담을 Set (건별 처리에서 오류가 난 행)
+     */
+    private UpsertResult upsertCmcCoinInfo(List<CmcCoinInfoDataDto> coinInfoList, Set<Long> failedIds) {
+        // 같은 배치에 동일 ID가 중복되면 ON CONFLICT DO UPDATE가 실패하므로 마지막 값 기준으로 중복 제거
+        Map<Long, CmcCoinInfoDataDto> distinctItems = new LinkedHashMap<>();
+        for (CmcCoinInfoDataDto info : coinInfoList) {
+            if (info.getId() != null) {
+                distinctItems.put(info.getId(), info);
+            }
+        }
+
+        if (distinctItems.isEmpty()) {
+            log.warn("업서트할 유효한 코인 상세 정보가 없습니다.");
+            return UpsertResult.EMPTY;
+        }
+
+        List<CmcCoinInfoDataDto> validItems = new ArrayList<>(distinctItems.values());
+
+        try {
+            // 배치 전체를 multi-row UPSERT 1회 + FK 조인 UPDATE 1회로 처리 (savepoint 안에서 실행)
+            UpsertResult result = nestedTransactionTemplate.execute(status -> {
+                List<Boolean> insertedFlags = cmcBatchMapper.upsertCmcCoinInfoBulk(validItems, skipUnchanged);
+                cmcBatchMapper.updateCmcCoinWithCoinInfoBulk(validItems);
+                return UpsertResult.of(insertedFlags, validItems.size());
+            });
+            log.info("코인 상세 정보 {} 건 일괄 업서트 완료 - {}", validItems.size(), result);
+            upsertMetrics.record("cmc_coin_info", result);
+            return result;
+        } catch (Exception e) {
+            // 일괄 처리 실패 시 해당 배치만 건별 처리로 전환하여 오류 행을 격리
+            log.warn("코인 상세 정보 일괄 업서트 실패, 건별 처리로 전환 - {} 건", validItems.size(), e);
+            return upsertCmcCoinInfoRowByRow(validItems, failedIds);
+        }
+    }
+
+    private UpsertResult upsertCmcCoinInfoRowByRow(List<CmcCoinInfoDataDto> coinInfoList, Set<Long> failedIds) {
         int processedCount = 0;
+        UpsertResult result = UpsertResult.EMPTY;
         
         for (CmcCoinInfoDataDto info : coinInfoList) {
-            if (info.getId() != null) {
-                try {
-                    // 기본값 처리는 MyBatis XML에서 COALESCE로 처리
-                    
+            try {
+                // 행마다 savepoint를 두어 한 건의 오류가 트랜잭션 전체를 중단시키지 않도록 처리
+                Boolean inserted = nestedTransactionTemplate.execute(status -> {
                     // CmcCoinInfo 테이블에 상세 정보 저장
-                    cmcBatchMapper.insertCmcCoinInfo(info);
+                    Boolean insertedFlag = cmcBatchMapper.insertCmcCoinInfo(info, skipUnchanged);
                     
                     // CmcCoin 테이블에 외래키와 logo 정보 업데이트 (coinInfoId는 XML에서 처리)
                     cmcBatchMapper.updateCmcCoinWithCoinInfo(null, info);
-                    processedCount++;
-                        
-                } catch (Exception e) {
-                    log.error("코인 상세 정보 처리 중 오류 발생 - coin_id: {}", info.getId(), e);
-                }
+                    return insertedFlag;
+                });
+                result = result.plus(UpsertResult.ofRow(inserted));
+                processedCount++;
+                    
+            } catch (Exception e) {
+                failedIds.add(info.getId());
+                log.error("코인 상세 정보 처리 중 오류 발생 - coin_id: {}", info.getId(), e);
             }
         }
 
-        log.info("코인 상세 정보 {} 건 업서트 완료", processedCount);
+        log.info("코인 상세 정보 {} 건 건별 업서트 완료 - {}", processedCount, result);
+        upsertMetrics.record("cmc_coin_info", result);
+        return result;
     }
 
     @Override
@@ -128,10 +320,13 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
     @Override
     @Transactional
-    public void upsertCmcExchangeMap(List<CmcExchangeDto> exchangeMapList) {
+    public UpsertResult upsertCmcExchangeMap(List<CmcExchangeDto> exchangeMapList) {
         try {
-            cmcBatchMapper.upsertCmcExchangeMap(exchangeMapList);
-            log.info("거래소 맵 데이터 {} 건 업서트 완료", exchangeMapList.size());
+            UpsertResult result = UpsertResult.of(
+                cmcBatchMapper.upsertCmcExchangeMap(exchangeMapList, skipUnchanged), exchangeMapList.size());
+            log.info("거래소 맵 데이터 {} 건 업서트 완료 - {}", exchangeMapList.size(), result);
+            upsertMetrics.record("cmc_exchange", result);
+            return result;
         } catch (Exception e) {
             log.error("거래소 맵 데이터 업서트 중 오류 발생", e);
             throw e;
@@ -140,68 +335,122 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
     @Override
     @Transactional
-    public void upsertCmcExchangeInfo(List<CmcExchangeDetailDto> exchangeInfoList) {
-        int processedCount = 0;
-        
+    public UpsertResult upsertCmcExchangeInfo(List<CmcExchangeDetailDto> exchangeInfoList) {
+        // 같은 배치에 동일 ID가 중복되면 ON CONFLICT DO UPDATE가 실패하므로 마지막 값 기준으로 중복 제거
+        Map<Long, CmcExchangeDetailDto> distinctItems = new LinkedHashMap<>();
         for (CmcExchangeDetailDto info : exchangeInfoList) {
             if (info.getId() != null) {
+                distinctItems.put(info.getId(), info);
+            }
+        }
+
+        if (distinctItems.isEmpty()) {
+            log.warn("업서트할 유효한 거래소 상세 정보가 없습니다.");
+            return UpsertResult.EMPTY;
+        }
+
+        List<CmcExchangeDetailDto> validItems = new ArrayList<>(distinctItems.values());
+
+        try {
+            // info / meta / url UPSERT 3회 + FK 연결 UPDATE 1회로 배치 전체 처리 (savepoint 안에서 실행)
+            Map<String, UpsertResult> results = nestedTransactionTemplate.execute(status -> upsertCmcExchangeDetails(validItems));
+            results.forEach(upsertMetrics::record);
+            log.info("거래소 상세 정보 {} 건 일괄 업서트 완료 ({})", validItems.size(), results);
+            return results.get("cmc_exchange_info");
+        } catch (Exception e) {
+            // 일괄 처리 실패 시 해당 배치만 거래소 단위로 나누어 오류 행을 격리
+            log.warn("거래소 상세 정보 일괄 업서트 실패, 건별 처리로 전환 - {} 건", validItems.size(), e);
+            int processedCount = 0;
+            UpsertResult infoResult = UpsertResult.EMPTY;
+            for (CmcExchangeDetailDto info : validItems) {
                 try {
-                    // ExchangeInfo 처리 (cmc_exchange_id 기반으로 기존 정보 확인 후 INSERT/UPDATE)
-                    String fiatsData = (info.getFiats() != null) ? info.getFiats().toString() : "";
-                    Long exchangeInfoId = cmcBatchMapper.getExchangeInfoIdByExchangeId(info.getId());
-                    
-                    if (exchangeInfoId == null) {
-                        // 기존 정보가 없으면 INSERT 후 cmc_exchange 테이블에 FK 연결
-                        cmcBatchMapper.insertCmcExchangeInfo(info.getId(), fiatsData);
-                        exchangeInfoId = getLastInsertedId("cmc_exchange_info");
-                    } else {
-                        // 기존 정보가 있으면 UPDATE
-                        cmcBatchMapper.updateCmcExchangeInfo(exchangeInfoId, fiatsData);
-                    }
-                    
-                    // ExchangeMeta 처리 (cmc_exchange_id 기반으로 기존 정보 확인 후 INSERT/UPDATE)
-                    Long exchangeMetaId = cmcBatchMapper.getExchangeMetaIdByExchangeId(info.getId());
-                    
-                    if (exchangeMetaId == null) {
-                        // 기존 정보가 없으면 INSERT 후 cmc_exchange 테이블에 FK 연결
-                        cmcBatchMapper.insertCmcExchangeMeta(info);
-                        exchangeMetaId = getLastInsertedId("cmc_exchange_meta");
-                    } else {
-                        // 기존 정보가 있으면 UPDATE
-                        cmcBatchMapper.updateCmcExchangeMeta(exchangeMetaId, info);
-                    }
-                    
-                    // ExchangeUrl 처리 (웹사이트 정보가 있을 경우, cmc_exchange_id 기반으로 기존 정보 확인 후 INSERT/UPDATE)
-                    Long exchangeUrlId = cmcBatchMapper.getExchangeUrlIdByExchangeId(info.getId());
-                    
-                    if (info.getUrls() != null && info.getUrls().getWebsite() != null && !info.getUrls().getWebsite().isEmpty()) {
-                        String website = info.getUrls().getWebsite().get(0);
-                        if (website != null && !website.trim().isEmpty()) {
-                            if (exchangeUrlId == null) {
-                                // 기존 정보가 없으면 INSERT 후 cmc_exchange 테이블에 FK 연결
-                                cmcBatchMapper.insertCmcExchangeUrl(info.getId(), website);
-                                exchangeUrlId = getLastInsertedId("cmc_exchange_url");
-                            } else {
-                                // 기존 정보가 있으면 UPDATE
-                                cmcBatchMapper.updateCmcExchangeUrl(exchangeUrlId, website);
-                            }
-                        }
-                    }
-                    
-                    // CmcExchange 테이블에 FK들 업데이트 (새로 생성된 경우에만)
-                    cmcBatchMapper.updateCmcExchangeWithDetails(exchangeInfoId, exchangeMetaId, exchangeUrlId, info);
+                    Map<String, UpsertResult> results =
+                        nestedTransactionTemplate.execute(status -> upsertCmcExchangeDetails(List.of(info)));
+                    results.forEach(upsertMetrics::record);
+                    infoResult = infoResult.plus(results.get("cmc_exchange_info"));
                     processedCount++;
-                    
-                    log.debug("거래소 상세 정보 처리 완료 - exchange_id: {}, info_id: {}, meta_id: {}, url_id: {}", 
-                        info.getId(), exchangeInfoId, exchangeMetaId, exchangeUrlId);
-                        
-                } catch (Exception e) {
-                    log.error("거래소 상세 정보 처리 중 오류 발생 - exchange_id: {}", info.getId(), e);
+                } catch (Exception rowException) {
+                    log.error("거래소 상세 정보 처리 중 오류 발생 - exchange_id: {}", info.getId(), rowException);
                 }
             }
+            log.info("거래소 상세 정보 {} 건 건별 업서트 완료", processedCount);
+            return infoResult;
         }
+    }
+
+    /**
+     * cmc_exchange_info / cmc_exchange_meta / cmc_exchange_url 을 배치 단위로 UPSERT 하고,
+     * RETURNING 으로 받은 ID(값이 같아 건너뛴 행 포함) 를 배열 파라미터로 넘겨 cmc_exchange FK 를 UPDATE 1회로 연결
+     *
+     * @return 테이블별 UPSERT 결과 건수 (지표 기록은 savepoint 커밋 후 호출자가 처리)
+     */
+    private Map<String, UpsertResult> upsertCmcExchangeDetails(List<CmcExchangeDetailDto> exchangeDetails) {
+        int size = exchangeDetails.size();
+        Long[] exchangeIds = new Long[size];
+        String[] fiats = new String[size];
+        String[] descriptions = new String[size];
+        String[] logos = new String[size];
+        String[] datesLaunched = new String[size];
+        List<Long> urlExchangeIds = new ArrayList<>();
+        List<String> websites = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            CmcExchangeDetailDto info = exchangeDetails.get(i);
+            exchangeIds[i] = info.getId();
+            fiats[i] = info.getFiats() != null ? info.getFiats().toString() : "";
+            descriptions[i] = info.getDescription() != null ? info.getDescription() : "";
+            logos[i] = info.getLogo() != null ? info.getLogo() : "";
+            datesLaunched[i] = info.getDateLaunched();
+
+            // 웹사이트 정보가 있는 거래소만 URL 저장
+            if (info.getUrls() != null && info.getUrls().getWebsite() != null && !info.getUrls().getWebsite().isEmpty()) {
+                String website = info.getUrls().getWebsite().get(0);
+                if (website != null && !website.trim().isEmpty()) {
+                    urlExchangeIds.add(info.getId());
+                    websites.add(website);
+                }
+            }
+        }
+
+        List<CmcExchangeChildIdDto> infoRows = cmcBatchMapper.upsertCmcExchangeInfoBulk(exchangeIds, fiats, skipUnchanged);
+        List<CmcExchangeChildIdDto> metaRows = cmcBatchMapper.upsertCmcExchangeMetaBulk(exchangeDetails);
+        List<CmcExchangeChildIdDto> urlRows = urlExchangeIds.isEmpty()
+            ? List.of()
+            : cmcBatchMapper.upsertCmcExchangeUrlBulk(urlExchangeIds.toArray(Long[]::new), websites.toArray(String[]::new), skipUnchanged);
+        Map<Long, Long> infoIds = toIdMap(infoRows);
+        Map<Long, Long> metaIds = toIdMap(metaRows);
+        Map<Long, Long> urlIds = toIdMap(urlRows);
+
+        Long[] infoIdArray = new Long[size];
+        Long[] metaIdArray = new Long[size];
+        Long[] urlIdArray = new Long[size];
+        for (int i = 0; i < size; i++) {
+            infoIdArray[i] = infoIds.get(exchangeIds[i]);
+            metaIdArray[i] = metaIds.get(exchangeIds[i]);
+            urlIdArray[i] = urlIds.get(exchangeIds[i]);
+        }
+
+        int linkedCount = cmcBatchMapper.linkCmcExchangeDetails(exchangeIds, infoIdArray, metaIdArray, urlIdArray,
+            descriptions, logos, datesLaunched);
+        log.debug("거래소 상세 정보 FK 갱신: {} 건", linkedCount);
 
-        log.info("거래소 상세 정보 {} 건 업서트 완료", processedCount);
+        Map<String, UpsertResult> results = new LinkedHashMap<>();
+        results.put("cmc_exchange_info", toUpsertResult(infoRows));
+        results.put("cmc_exchange_meta", toUpsertResult(metaRows));
+        results.put("cmc_exchange_url", toUpsertResult(urlRows));
+        return results;
+    }
+
+    private UpsertResult toUpsertResult(List<CmcExchangeChildIdDto> childIds) {
+        return UpsertResult.ofRows(childIds.stream().map(CmcExchangeChildIdDto::getInserted).toList());
+    }
+
+    private Map<Long, Long> toIdMap(List<CmcExchangeChildIdDto> childIds) {
+        Map<Long, Long> idMap = new HashMap<>();
+        for (CmcExchangeChildIdDto childId : childIds) {
+            idMap.put(childId.getCmcExchangeId(), childId.getId());
+        }
+        return idMap;
     }
 
     @Override
@@ -221,33 +470,25 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
     @Override
     @Transactional
-    public void linkCmcCoinWithExistingCoin() {
+    public CmcSymbolMappingResultDto linkCmcCoinWithExistingCoin() {
         try {
-            List<Map<String, Object>> mappableCoinIds = cmcBatchMapper.getMappableCoinIds();
-            
-            if (mappableCoinIds.isEmpty()) {
-                log.debug("매핑할 CMC Coin과 기존 Coin이 없습니다.");
-                return;
+            // 집계는 매핑 전 상태 기준 (매핑 후에는 후보가 사라져 모호 심볼을 알 수 없음)
+            CmcSymbolMappingResultDto result = cmcBatchMapper.getSymbolMappingStats();
+            if (result == null) {
+                result = new CmcSymbolMappingResultDto();
             }
             
-            int linkedCount = 0;
-            
-            for (Map<String, Object> coinInfo : mappableCoinIds) {
-                Long coinId = ((Number) coinInfo.get("coin_id")).longValue();
-                String symbol = (String) coinInfo.get("symbol");
-                
-                int updated = cmcBatchMapper.linkCmcCoinWithExistingCoin(coinId, symbol);
-                if (updated > 0) {
-                    linkedCount++;
-                    log.debug("CMC Coin 매핑: symbol={}, coin_id={}", symbol, coinId);
-                }
-            }
+            int linkedCount = cmcBatchMapper.linkCmcCoinsBySymbol();
+            result.setLinkedCount(linkedCount);
             
             if (linkedCount > 0) {
-                log.info("CMC Coin과 기존 Coin 매핑 완료: {} 건", linkedCount);
+                log.info("CMC Coin과 기존 Coin 매핑 완료: {} 건 (모호 심볼: {}, 미매칭 심볼: {})",
+                    linkedCount, result.getAmbiguousSymbols(), result.getUnmatchedSymbols());
             } else {
-                log.debug("매핑할 CMC Coin과 기존 Coin이 없습니다.");
+                log.debug("매핑할 CMC Coin과 기존 Coin이 없습니다. (모호 심볼: {}, 미매칭 심볼: {})",
+                    result.getAmbiguousSymbols(), result.getUnmatchedSymbols());
             }
+            return result;
             
         } catch (Exception e) {
             log.error("CMC Coin 매핑 중 오류 발생", e);
@@ -260,16 +501,39 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
         return cmcBatchMapper.getAllCmcCoinIds();
     }
 
+    @Override
+    public List<Long> getCmcCoinIdsBetween(long minId, long maxId) {
+        return cmcBatchMapper.getCmcCoinIdsBetween(minId, maxId);
+    }
+
+    @Override
+    public List<Long> getStaleCmcCoinIds(Long minId, Long maxId, int refreshHours, int limit) {
+        return cmcBatchMapper.getStaleCmcCoinIds(minId, maxId, refreshHours, limit);
+    }
+
+    @Override
+    public Set<Long> getFetchedCmcCoinInfoIds(List<Long> cmcCoinIds) {
+        // IN 목록이 너무 길어지지 않도록 나누어 조회
+        Set<Long> fetchedIds = new HashSet<>();
+        for (int i = 0; i < cmcCoinIds.size(); i += FETCHED_ID_LOOKUP_SIZE) {
+            List<Long> chunk = cmcCoinIds.subList(i, Math.min(i + FETCHED_ID_LOOKUP_SIZE, cmcCoinIds.size()));
+            for (CmcCoinInfoSyncHashDto stored : cmcBatchMapper.getCmcCoinInfoContentHashes(chunk)) {
+                fetchedIds.add(stored.getCmcCoinId());
+            }
+        }
+        return fetchedIds;
+    }
+
     @Override
     @Transactional
-    public void upsertCmcCoinInfoBulk(List<CmcCoinInfoDataDto> coinInfoList) {
-        // 기존 upsertCmcCoinInfo 메서드와 동일한 로직 사용
-        upsertCmcCoinInfo(coinInfoList);
+    public UpsertResult upsertCmcCoinInfoBulk(List<CmcCoinInfoDataDto> coinInfoList) {
+        // upsertCmcCoinInfo의 일괄 UPSERT 경로 사용 (실패 시 건별 처리로 자동 전환)
+        return upsertCmcCoinInfo(coinInfoList);
     }
 
     @Override
     @Transactional
-    public void upsertCmcCoinMeta(List<CmcApiDataDto> latestInfoList) {
+    public UpsertResult upsertCmcCoinMeta(List<CmcApiDataDto> latestInfoList) {
         // 유효한 데이터만 필터링 (USD quote 데이터가 있는 것만)
         List<CmcApiDataDto> validItems = latestInfoList.stream()
             .filter(coin -> coin.getId() != null && coin.getQuote() != null && coin.getQuote().getUSD() != null)
@@ -277,24 +541,25 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
 
         if (validItems.isEmpty()) {
             log.warn("업데이트할 유효한 코인 메타 데이터가 없습니다.");
-            return;
+            return UpsertResult.EMPTY;
         }
 
+        UpsertResult result = UpsertResult.EMPTY;
         int processedCount = 0;
         int errorCount = 0;
         int skippedCount = 0;
         
         for (CmcApiDataDto coin : validItems) {
             try {
-                // CMC 코인이 존재하는지 확인
-                if (!cmcBatchMapper.existsCmcCoin(coin.getId())) {
+                // CMC 코인이 존재하는지 확인 (인메모리 인덱스)
+                if (!knownCmcIdIndex.contains(coin.getId())) {
                     log.debug("CMC 코인이 존재하지 않아 메타 데이터 처리 건너뜀 - coin_id: {}", coin.getId());
                     skippedCount++;
                     continue;
                 }
                 
                 // 코인 메타 데이터 UPSERT
-                cmcBatchMapper.insertCmcCoinMeta(coin);
+                result = result.plus(UpsertResult.ofRow(cmcBatchMapper.insertCmcCoinMeta(coin, skipUnchanged)));
                 
                 // 코인 정보에 메타 ID 연결 (SQL에서 안전하게 처리)
                 cmcBatchMapper.updateCmcCoinInfoWithMeta(coin.getId());
@@ -308,98 +573,141 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
             }
         }
 
-        log.info("코인 메타 데이터 처리 완료 - 성공: {} 건, 오류: {} 건, 건너뜀: {} 건", processedCount, errorCount, skippedCount);
+        log.info("코인 메타 데이터 처리 완료 - 성공: {} 건 ({}), 오류: {} 건, 건너뜀: {} 건",
+            processedCount, result, errorCount, skippedCount);
+        upsertMetrics.record("cmc_coin_meta", result);
+        return result;
     }
 
     @Override
     @Transactional
-    public void upsertCmcMainnet(List<CmcCoinInfoDataDto> coinInfoList) {
-        int processedCount = 0;
-        
+    public Set<Long> upsertCmcMainnet(List<CmcCoinInfoDataDto> coinInfoList) {
+        // explorer URL 이 있는 코인만 동기화 (응답에 URL 이 없는 코인은 기존 데이터 유지)
+        Set<Long> coinIds = new LinkedHashSet<>();
+        List<CmcMainnetRowDto> desiredRows = new ArrayList<>();
         for (CmcCoinInfoDataDto info : coinInfoList) {
             if (info.getId() != null && info.getUrls() != null && info.getUrls().getExplorer() != null && !info.getUrls().getExplorer().isEmpty()) {
-                try {
-                    // 1. 해당 cmc_coin_id의 기존 mainnet 데이터 모두 삭제
-                    cmcBatchMapper.deleteCmcMainnet(info.getId());
-                    
-                    // 2. 모든 explorer URL을 개별적으로 삽입
-                    for (String explorerUrl : info.getUrls().getExplorer()) {
-                        if (explorerUrl != null && !explorerUrl.trim().isEmpty()) {
-                            cmcBatchMapper.insertCmcMainnet(explorerUrl.trim(), info.getId());
-                            processedCount++;
-                        }
+                coinIds.add(info.getId());
+                for (String explorerUrl : info.getUrls().getExplorer()) {
+                    if (explorerUrl != null && !explorerUrl.trim().isEmpty()) {
+                        desiredRows.add(new CmcMainnetRowDto(info.getId(), explorerUrl.trim()));
                     }
-                } catch (Exception e) {
-                    log.error("CmcMainnet 처리 중 오류 발생 - coin_id: {}", info.getId(), e);
                 }
             }
         }
 
-        log.info("CmcMainnet 데이터 {} 건 업서트 완료", processedCount);
+        try {
+            ChildCollectionSynchronizer.SyncResult result = nestedTransactionTemplate.execute(
+                status -> cmcMainnetSynchronizer.sync(coinIds, desiredRows));
+            log.info("CmcMainnet 데이터 동기화 완료 - 코인: {} 건, 추가: {} 건, 삭제: {} 건, 유지: {} 건",
+                coinIds.size(), result.getAdded(), result.getRemoved(), result.getUnchanged());
+            return Set.of();
+        } catch (Exception e) {
+            // savepoint 하나로 동기화하므로 실패하면 대상 코인 전체가 반영되지 않음
+            log.error("CmcMainnet 동기화 중 오류 발생 - 코인: {} 건", coinIds.size(), e);
+            return coinIds;
+        }
     }
 
     @Override
     @Transactional
-    public void upsertCmcPlatform(List<CmcCoinInfoDataDto> coinInfoList) {
-        int insertedCount = 0;
-        
+    public Set<Long> upsertCmcPlatform(List<CmcCoinInfoDataDto> coinInfoList) {
+        // 플랫폼 이름이 있는 코인만 동기화 (플랫폼 정보가 없는 코인은 기존 데이터 유지)
+        Set<Long> coinIds = new LinkedHashSet<>();
+        List<CmcPlatformRowDto> desiredRows = new ArrayList<>();
         for (CmcCoinInfoDataDto info : coinInfoList) {
             if (info.getId() != null && info.getPlatform() != null) {
-                try {
-                    CmcDataPlatformDto platform = info.getPlatform();
-                    if (platform.getName() != null && !platform.getName().trim().isEmpty()) {
-                        
-                        // 1. 해당 cmc_coin_id의 기존 platform 데이터 모두 삭제
-                        cmcBatchMapper.deleteCmcPlatform(info.getId());
-                        
-                        // 2. 새로운 platform 데이터 삽입
-                        cmcBatchMapper.insertCmcPlatform(info);
-                        insertedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("CmcPlatform 처리 중 오류 발생 - coin_id: {}", info.getId(), e);
+                CmcDataPlatformDto platform = info.getPlatform();
+                if (platform.getName() != null && !platform.getName().trim().isEmpty() && coinIds.add(info.getId())) {
+                    desiredRows.add(new CmcPlatformRowDto(info.getId(), platform.getName(), platform.getSymbol()));
                 }
             }
         }
 
-        log.info("CmcPlatform 데이터 {} 건 업서트 완료", insertedCount);
+        try {
+            ChildCollectionSynchronizer.SyncResult result = nestedTransactionTemplate.execute(
+                status -> cmcPlatformSynchronizer.sync(coinIds, desiredRows));
+            log.info("CmcPlatform 데이터 동기화 완료 - 코인: {} 건, 추가: {} 건, 삭제: {} 건, 유지: {} 건",
+                coinIds.size(), result.getAdded(), result.getRemoved(), result.getUnchanged());
+            return Set.of();
+        } catch (Exception e) {
+            // savepoint 하나로 동기화하므로 실패하면 대상 코인 전체가 반영되지 않음
+            log.error("CmcPlatform 동기화 중 오류 발생 - 코인: {} 건", coinIds.size(), e);
+            return coinIds;
+        }
     }
 
     @Override
-    public boolean shouldRunCoinMapSync() {
-        boolean shouldRun = cmcBatchMapper.shouldRunCoinMapSync();
-        log.info("코인 맵 동기화 필요 여부: {}", shouldRun);
-        return shouldRun;
+    @Transactional
+    public UpsertResult upsertCmcCoinInfoDetails(List<CmcCoinInfoDataDto> coinInfoList) {
+        return upsertCmcCoinInfoDetails(coinInfoList, new HashSet<>());
     }
 
-    @Override
-    public boolean shouldRunCoinInfoSync() {
-        boolean shouldRun = cmcBatchMapper.shouldRunCoinInfoSync();
-        log.info("코인 상세 정보 동기화 필요 여부: {}", shouldRun);
-        return shouldRun;
+    /**
+     * @param failedIds 세 테이블 중 하나라도 저장에 실패한 CMC Coin ID 를 담을 Set
+     */
+    private UpsertResult upsertCmcCoinInfoDetails(List<CmcCoinInfoDataDto> coinInfoList, Set<Long> failedIds) {
+        // CmcCoinInfo 데이터 저장
+        UpsertResult result = upsertCmcCoinInfo(coinInfoList, failedIds);
+        
+        // CmcMainnet 데이터 처리 (explorer URLs)
+        failedIds.addAll(upsertCmcMainnet(coinInfoList));
+        
+        // CmcPlatform 데이터 처리 (platform 정보)
+        failedIds.addAll(upsertCmcPlatform(coinInfoList));
+        return result;
     }
 
     @Override
-    public boolean shouldRunExchangeSync() {
-        boolean shouldRun = cmcBatchMapper.shouldRunExchangeSync();
-        log.info("거래소 동기화 필요 여부: {}", shouldRun);
-        return shouldRun;
+    @Transactional
+    public UpsertResult upsertChangedCmcCoinInfoDetails(List<CmcCoinInfoDataDto> coinInfoList, Map<Long, Long> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+
+        Map<Long, Long> storedHashes = new HashMap<>();
+        for (CmcCoinInfoSyncHashDto stored : cmcBatchMapper.getCmcCoinInfoContentHashes(new ArrayList<>(contentHashes.keySet()))) {
+            storedHashes.put(stored.getCmcCoinId(), stored.getContentHash());
+        }
+
+        // 해시가 없거나 달라진 코인만 저장
+        List<CmcCoinInfoDataDto> changedItems = coinInfoList.stream()
+            .filter(coinInfo -> coinInfo.getId() != null)
+            .filter(coinInfo -> !contentHashes.get(coinInfo.getId()).equals(storedHashes.get(coinInfo.getId())))
+            .toList();
+
+        Set<Long> failedIds = new HashSet<>();
+        UpsertResult result = changedItems.isEmpty() ? UpsertResult.EMPTY : upsertCmcCoinInfoDetails(changedItems, failedIds);
+
+        // 같은 트랜잭션에서 해시/조회 시각 기록 (트랜잭션이 롤백되면 해시도 남지 않음)
+        // 건별 / 하위 테이블 savepoint 에서 저장에 실패한 코인은 해시를 남기지 않아 다음 실행에서 다시 저장
+        List<CmcCoinInfoSyncHashDto> storedHashRows = contentHashes.entrySet().stream()
+            .filter(entry -> !failedIds.contains(entry.getKey()))
+            .map(entry -> new CmcCoinInfoSyncHashDto(entry.getKey(), entry.getValue()))
+            .toList();
+        if (!storedHashRows.isEmpty()) {
+            cmcBatchMapper.upsertCmcCoinInfoContentHashes(storedHashRows);
+        }
+        if (!failedIds.isEmpty()) {
+            log.warn("코인 상세 정보 저장 실패 {} 건은 해시를 기록하지 않음 - coin_ids: {}", failedIds.size(), failedIds);
+        }
+
+        log.debug("코인 상세 정보 증분 저장 - 해시 변경: {} 건, 해시 동일: {} 건",
+            changedItems.size(), contentHashes.size() - changedItems.size());
+        // 해시가 같아 UPSERT 를 건너뛴 코인도 변경 없음으로 집계 (해시가 바뀐 코인은 upsertCmcCoinInfo 에서 기록)
+        UpsertResult hashUnchanged = new UpsertResult(0, 0, contentHashes.size() - changedItems.size());
+        upsertMetrics.record("cmc_coin_info", hashUnchanged);
+        return result.plus(hashUnchanged);
     }
 
     @Override
-    public boolean shouldRunCoinRankSync() {
-        // cmc_rank 테이블이 비어있거나, cmc_coin에 rank가 연결되지 않은 코인이 있으면 동기화 필요
-        boolean shouldRun = cmcBatchMapper.shouldRunCoinRankSync();
-        log.info("코인 랭킹 동기화 필요 여부: {}", shouldRun);
-        return shouldRun;
+    public CmcSyncFreshnessDto getSyncFreshness(int coinMapRefreshHours, int exchangeRefreshHours) {
+        return cmcBatchMapper.getSyncFreshness(coinMapRefreshHours, exchangeRefreshHours);
     }
 
     @Override
-    public boolean shouldRunCoinMetaSync() {
-        // cmc_coin_meta 테이블이 비어있거나, cmc_coin_info에 meta가 연결되지 않은 정보가 있으면 동기화 필요
-        boolean shouldRun = cmcBatchMapper.shouldRunCoinMetaSync();
-        log.info("코인 메타 동기화 필요 여부: {}", shouldRun);
-        return shouldRun;
+    public void upsertSyncWatermark(CmcSyncDataset dataset, long rowCount) {
+        cmcBatchMapper.upsertSyncWatermark(dataset.getKey(), rowCount);
     }
 
     @Override
@@ -415,13 +723,4 @@ public class CmcBatchMyBatisImpl implements CmcBatchDao {
         log.debug("CMC 거래소 총 개수: {}", count);
         return count;
     }
-
-    private Long getLastInsertedId(String tableName) {
-        try {
-            return cmcBatchMapper.getLastInsertedId(tableName);
-        } catch (Exception e) {
-            log.error("마지막 삽입된 ID 조회 중 오류 - table: {}", tableName, e);
-            return null;
-        }
-    }
 }
\ No newline at end of file
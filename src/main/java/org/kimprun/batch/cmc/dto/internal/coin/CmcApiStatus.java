@@ -0,0 +1,25 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Set;
+
+/**
+ * CMC API 응답 status 공통 항목 (크레딧 지표 기록 / 제한 응답 판별용)
+ */
+public interface CmcApiStatus {
+
+    /**
+     * 호출 한도 초과 error_code (429, 1008 분당, 1009 일일, 1010 월간, 1011 IP 한도)
+     */
+    Set<Long> RATE_LIMIT_ERROR_CODES = Set.of(429L, 1008L, 1009L, 1010L, 1011L);
+
+    Long getCreditCount();
+
+    Long getErrorCode();
+
+    @JsonIgnore
+    default boolean isRateLimited() {
+        return getErrorCode() != null && RATE_LIMIT_ERROR_CODES.contains(getErrorCode());
+    }
+}
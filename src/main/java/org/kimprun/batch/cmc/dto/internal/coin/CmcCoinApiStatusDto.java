@@ -6,7 +6,7 @@ import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
 @Getter
-public class CmcCoinApiStatusDto {
+public class CmcCoinApiStatusDto implements CmcApiStatus {
     @JsonProperty("timestamp")
     private String timestamp;
     @JsonProperty("error_code")
@@ -0,0 +1,16 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코인 상세 정보 콘텐츠 해시 (batch_cmc_coin_info_sync)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CmcCoinInfoSyncHashDto {
+    private Long cmcCoinId;
+    private Long contentHash;
+}
@@ -0,0 +1,18 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * cmc_mainnet 행 (코인별 explorer URL)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CmcMainnetRowDto {
+    private Long cmcCoinId;
+    private String explorerUrl;
+}
@@ -0,0 +1,19 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * cmc_platform 행 (코인별 플랫폼 이름/심볼)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CmcPlatformRowDto {
+    private Long cmcCoinId;
+    private String name;
+    private String symbol;
+}
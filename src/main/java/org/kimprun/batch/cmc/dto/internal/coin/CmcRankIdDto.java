@@ -0,0 +1,15 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * cmc_rank UPSERT 결과 (RETURNING id, cmc_coin_id, 값이 같아 건너뛴 행 포함)
+ */
+@NoArgsConstructor
+@Getter
+public class CmcRankIdDto {
+    private Long id;
+    private Long cmcCoinId;
+    private Boolean inserted; // 신규 INSERT 여부 (null: 값이 같아 갱신하지 않은 행)
+}
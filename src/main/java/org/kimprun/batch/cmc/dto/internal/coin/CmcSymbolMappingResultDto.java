@@ -0,0 +1,20 @@
+package org.kimprun.batch.cmc.dto.internal.coin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * CMC Coin - 기존 Coin 심볼 매핑 결과
+ *
+ * ambiguousSymbols: 같은 심볼의 미매핑 CMC 코인 후보나 기존 코인이 여러 개인 심볼 수 (랭킹 최상위 후보만 매핑)
+ * unmatchedSymbols: 같은 심볼의 미매핑 CMC 코인이 없는 기존 코인 심볼 수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CmcSymbolMappingResultDto {
+    private long linkedCount;
+    private long ambiguousSymbols;
+    private long unmatchedSymbols;
+}
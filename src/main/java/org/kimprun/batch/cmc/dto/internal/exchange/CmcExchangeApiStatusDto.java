@@ -1,12 +1,13 @@
 package org.kimprun.batch.cmc.dto.internal.exchange;
 
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiStatus;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
 @Getter
-public class CmcExchangeApiStatusDto {
+public class CmcExchangeApiStatusDto implements CmcApiStatus {
 
     @JsonProperty("timestamp")
     private String timestamp;
@@ -0,0 +1,15 @@
+package org.kimprun.batch.cmc.dto.internal.exchange;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * cmc_exchange_info / cmc_exchange_meta / cmc_exchange_url UPSERT 결과 (RETURNING id, cmc_exchange_id, 값이 같아 건너뛴 행 포함)
+ */
+@NoArgsConstructor
+@Getter
+public class CmcExchangeChildIdDto {
+    private Long id;
+    private Long cmcExchangeId;
+    private Boolean inserted; // 신규 INSERT 여부 (null: 값이 같아 갱신하지 않은 행)
+}
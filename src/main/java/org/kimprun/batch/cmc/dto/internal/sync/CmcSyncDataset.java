@@ -0,0 +1,25 @@
+package org.kimprun.batch.cmc.dto.internal.sync;
+
+import lombok.Getter;
+
+/**
+ * 동기화 필요 여부 / watermark 단위 데이터셋
+ *
+ * gated: 동기화가 필요 없으면 reader 가 API 호출을 건너뛰는 데이터셋 (건너뛴 실행은 watermark 를 갱신하지 않음)
+ */
+@Getter
+public enum CmcSyncDataset {
+    COIN_MAP("coin_map", true),
+    COIN_INFO("coin_info", false),
+    EXCHANGE_MAP("exchange_map", true),
+    COIN_RANK("coin_rank", false),
+    COIN_META("coin_meta", false);
+
+    private final String key;
+    private final boolean gated;
+
+    CmcSyncDataset(String key, boolean gated) {
+        this.key = key;
+        this.gated = gated;
+    }
+}
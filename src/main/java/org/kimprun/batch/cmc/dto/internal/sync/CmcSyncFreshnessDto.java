@@ -0,0 +1,50 @@
+package org.kimprun.batch.cmc.dto.internal.sync;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 데이터셋별 동기화 필요 여부 (결합 쿼리 1회 결과)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CmcSyncFreshnessDto {
+    private boolean coinMapSync;
+    private boolean coinInfoSync;
+    private boolean exchangeSync;
+    private boolean coinRankSync;
+    private boolean coinMetaSync;
+    private boolean coinDataExists;
+
+    public boolean isSyncRequired(CmcSyncDataset dataset) {
+        return switch (dataset) {
+            case COIN_MAP -> coinMapSync;
+            case COIN_INFO -> coinInfoSync;
+            case EXCHANGE_MAP -> exchangeSync;
+            case COIN_RANK -> coinRankSync;
+            case COIN_META -> coinMetaSync;
+        };
+    }
+
+    public void setSyncRequired(CmcSyncDataset dataset, boolean required) {
+        switch (dataset) {
+            case COIN_MAP -> coinMapSync = required;
+            case COIN_INFO -> coinInfoSync = required;
+            case EXCHANGE_MAP -> exchangeSync = required;
+            case COIN_RANK -> coinRankSync = required;
+            case COIN_META -> coinMetaSync = required;
+        }
+    }
+
+    public boolean isAnySyncRequired() {
+        return coinMapSync || coinInfoSync || exchangeSync || coinRankSync || coinMetaSync;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("코인 맵: %s, 코인 상세: %s, 거래소: %s, 코인 랭킹: %s, 코인 메타: %s",
+            coinMapSync, coinInfoSync, exchangeSync, coinRankSync, coinMetaSync);
+    }
+}
@@ -0,0 +1,59 @@
+package org.kimprun.batch.cmc.hash;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import net.openhft.hashing.LongHashFunction;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코인 상세 정보 콘텐츠 해시 계산
+ *
+ * CmcCoinInfoDataDto 를 속성명/맵 키 정렬된 JSON 으로 정규화한 뒤 xxHash64 로 해시한다.
+ * 상세 정보 저장 대상이 아니면서 자주 바뀌는 self-reported 시세 값은 해시에서 제외한다.
+ */
+@Component
+public class CmcCoinInfoContentHasher {
+
+    private static final LongHashFunction XX_HASH = LongHashFunction.xx();
+
+    private final ObjectWriter canonicalWriter = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .addMixIn(CmcCoinInfoDataDto.class, VolatileFieldsMixIn.class)
+        .build()
+        .writer();
+
+    public long hash(CmcCoinInfoDataDto coinInfo) {
+        try {
+            return XX_HASH.hashBytes(canonicalWriter.writeValueAsBytes(coinInfo));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("코인 상세 정보 정규화 실패 - ID: " + coinInfo.getId(), e);
+        }
+    }
+
+    /**
+     * CMC Coin ID 별 콘텐츠 해시 (ID 가 없는 항목은 제외)
+     */
+    public Map<Long, Long> hashAll(List<CmcCoinInfoDataDto> coinInfoList) {
+        Map<Long, Long> hashes = new LinkedHashMap<>();
+        for (CmcCoinInfoDataDto coinInfo : coinInfoList) {
+            if (coinInfo.getId() != null) {
+                hashes.put(coinInfo.getId(), hash(coinInfo));
+            }
+        }
+        return hashes;
+    }
+
+    @JsonIgnoreProperties({"self_reported_circulating_supply", "self_reported_market_cap"})
+    private abstract static class VolatileFieldsMixIn {
+    }
+}
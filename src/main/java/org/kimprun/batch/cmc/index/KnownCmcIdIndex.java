@@ -0,0 +1,111 @@
+package org.kimprun.batch.cmc.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.dao.mybatis.CmcBatchMapper;
+import org.kimprun.batch.common.collection.LongHashSet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * cmc_coin 에 존재하는 CMC 코인 ID 인메모리 인덱스
+ *
+ * 아이템마다 existsCmcCoin (SELECT COUNT(*)) 을 호출하던 N+1 조회를 대체한다.
+ * Job 시작 시 초기화되고, 첫 조회 시점에 cmc_coin 전체 ID를 한 번만 적재한다.
+ * coinMapSyncStep 이 저장한 신규 코인은 커밋 후 인덱스에 추가되어 이후 Step 에서 DB 재조회 없이 보인다.
+ *
+ * 조회는 락 없이 수행되며, 갱신은 복사본을 만든 뒤 참조를 교체하는 방식(copy-on-write)으로 처리한다.
+ */
+@Slf4j
+@Component
+public class KnownCmcIdIndex {
+
+    private final CmcBatchMapper cmcBatchMapper;
+
+    // null 이면 아직 적재되지 않은 상태
+    private volatile LongHashSet knownIds;
+
+    public KnownCmcIdIndex(CmcBatchMapper cmcBatchMapper) {
+        this.cmcBatchMapper = cmcBatchMapper;
+    }
+
+    /**
+     * CMC 코인 ID 존재 여부 (최초 호출 시 DB에서 적재)
+     */
+    public boolean contains(long cmcCoinId) {
+        return loadedIds().contains(cmcCoinId);
+    }
+
+    /**
+     * 신규 저장된 CMC 코인 ID 추가
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 ID가 인덱스에 남지 않도록 한다.
+     */
+    public void addAll(Collection<Long> cmcCoinIds) {
+        if (cmcCoinIds.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(cmcCoinIds);
+                }
+            });
+        } else {
+            merge(cmcCoinIds);
+        }
+    }
+
+    /**
+     * 인덱스 초기화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void reset() {
+        knownIds = null;
+    }
+
+    private LongHashSet loadedIds() {
+        LongHashSet ids = knownIds;
+        if (ids != null) {
+            return ids;
+        }
+
+        synchronized (this) {
+            if (knownIds == null) {
+                LongHashSet loaded = new LongHashSet(16 * 1024);
+                cmcBatchMapper.scanAllCmcCoinIds(context -> {
+                    Long cmcCoinId = context.getResultObject();
+                    if (cmcCoinId != null) {
+                        loaded.add(cmcCoinId);
+                    }
+                });
+                knownIds = loaded;
+                log.info("CMC 코인 ID 인덱스 적재 완료: {} 건", loaded.size());
+            }
+            return knownIds;
+        }
+    }
+
+    private synchronized void merge(Collection<Long> cmcCoinIds) {
+        LongHashSet current = knownIds;
+        if (current == null) {
+            // 아직 적재 전이면 다음 조회 시 DB에서 함께 읽히므로 반영할 필요 없음
+            return;
+        }
+
+        LongHashSet merged = new LongHashSet(current, cmcCoinIds.size());
+        int addedCount = 0;
+        for (Long cmcCoinId : cmcCoinIds) {
+            if (cmcCoinId != null && merged.add(cmcCoinId)) {
+                addedCount++;
+            }
+        }
+        knownIds = merged;
+
+        if (addedCount > 0) {
+            log.info("CMC 코인 ID 인덱스 갱신: 신규 {} 건 (총 {} 건)", addedCount, merged.size());
+        }
+    }
+}
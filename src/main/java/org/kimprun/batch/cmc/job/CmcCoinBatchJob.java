@@ -2,6 +2,8 @@ package org.kimprun.batch.cmc.job;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.index.KnownCmcIdIndex;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
 import org.kimprun.batch.slack.listener.SlackJobExecutionListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
@@ -22,6 +24,8 @@ public class CmcCoinBatchJob {
 
     private final JobRepository jobRepository;
     private final SlackJobExecutionListener slackJobExecutionListener;
+    private final KnownCmcIdIndex knownCmcIdIndex;
+    private final SyncFreshnessService syncFreshnessService;
 
     private final Step coinMapSyncStep;
     private final Step coinLatestInfoSyncStep;
@@ -42,6 +46,12 @@ public class CmcCoinBatchJob {
                         log.info("=== CoinMarketCap 데이터 동기화 Job 시작 ===");
                         log.info("Job 시작 시간: {}", LocalDateTime.now());
                         log.info("Job ID: {}", jobExecution.getJobId());
+                        
+                        // 이전 실행에서 적재된 CMC 코인 ID 인덱스 초기화 (첫 조회 시 다시 적재)
+                        knownCmcIdIndex.reset();
+                        
+                        // 데이터셋별 동기화 필요 여부를 한 번 조회해 Job ExecutionContext 에 저장 (reader 에서 재조회하지 않음)
+                        syncFreshnessService.initialize(jobExecution);
                     }
 
                     @Override
@@ -0,0 +1,51 @@
+package org.kimprun.batch.cmc.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * Step 이 성공하면 데이터셋 동기화 watermark (마지막 성공 시각, 건수) 기록 후 뒤 Step 이 쓸 동기화 필요 여부 갱신
+ *
+ * 동기화가 필요 없어 reader 가 API 호출을 건너뛴 실행(gated 데이터셋)은 기록하지 않는다.
+ */
+@Slf4j
+public class CmcSyncWatermarkListener implements StepExecutionListener {
+
+    private final SyncFreshnessService syncFreshnessService;
+    private final CmcSyncDataset dataset;
+
+    public CmcSyncWatermarkListener(SyncFreshnessService syncFreshnessService, CmcSyncDataset dataset) {
+        this.syncFreshnessService = syncFreshnessService;
+        this.dataset = dataset;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+            return null;
+        }
+
+        try {
+            if (dataset.isGated() && !syncFreshnessService.isSyncRequired(dataset)) {
+                return null;
+            }
+            syncFreshnessService.recordSuccess(dataset, stepExecution.getWriteCount());
+        } catch (Exception e) {
+            // watermark 기록 실패는 다음 실행에서 updated_at 기준으로 판단되므로 Step 을 실패시키지 않음
+            log.warn("동기화 watermark 기록 실패 - 데이터셋: {}", dataset.getKey(), e);
+        }
+
+        try {
+            syncFreshnessService.refresh(stepExecution.getJobExecution());
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 값으로 판단 (뒤 Step 이 한 번 건너뛰거나 더 실행될 뿐 데이터는 다음 실행에서 맞춰짐)
+            log.warn("동기화 필요 여부 갱신 실패 - 데이터셋: {}", dataset.getKey(), e);
+        }
+        return null;
+    }
+}
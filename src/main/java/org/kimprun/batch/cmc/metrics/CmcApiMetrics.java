@@ -0,0 +1,116 @@
+package org.kimprun.batch.cmc.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoinMarketCap API 호출 Micrometer 지표
+ *
+ * - batch.cmc.api.requests{endpoint, status, outcome, step}: HTTP 응답 헤더 수신까지의 시간 (histogram)
+ * - batch.cmc.api.response.size{endpoint}                  : 응답 본문 크기 (Content-Length 가 있는 응답만, bytes)
+ * - batch.cmc.api.credits{endpoint, step}                  : 응답 status.credit_count 기준 소모 크레딧
+ * - batch.cmc.cache.lookups{region, result}              : 응답 캐시 조회 ID 수 (result = hit / miss, 적중률 = hit / 전체)
+ * - batch.cmc.cache.entry.size{region}                     : 캐시에 저장한 항목의 압축 크기 (bytes)
+ *
+ * endpoint 태그는 쿼리 문자열을 제외한 경로 (ID 목록이 태그에 들어가지 않도록 함)
+ */
+@Component
+public class CmcApiMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public CmcApiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordRequest(String endpoint, String step, int status, long elapsedNanos) {
+        Timer.builder("batch.cmc.api.requests")
+            .description("CMC API HTTP 요청 시간")
+            .tag("endpoint", endpoint)
+            .tag("status", status > 0 ? String.valueOf(status) : "IO_ERROR")
+            .tag("outcome", outcome(status))
+            .tag(MetricTags.STEP, step)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseSize(String endpoint, long bytes) {
+        if (bytes < 0) {
+            return;
+        }
+        DistributionSummary.builder("batch.cmc.api.response.size")
+            .description("CMC API 응답 본문 크기")
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+
+    public void recordCredits(String endpoint, String step, Long creditCount) {
+        if (creditCount == null || creditCount <= 0) {
+            return;
+        }
+        Counter.builder("batch.cmc.api.credits")
+            .description("CMC API 소모 크레딧")
+            .tag("endpoint", endpoint)
+            .tag(MetricTags.STEP, step)
+            .register(meterRegistry)
+            .increment(creditCount);
+    }
+
+    public void recordCacheLookup(String region, int hits, int misses) {
+        cacheLookupCounter(region, "hit").increment(hits);
+        cacheLookupCounter(region, "miss").increment(misses);
+    }
+
+    public void recordCacheEntrySize(String region, long bytes) {
+        DistributionSummary.builder("batch.cmc.cache.entry.size")
+            .description("CMC 응답 캐시 항목 압축 크기")
+            .baseUnit("bytes")
+            .tag("region", region)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+
+    /**
+     * 요청 URL 에서 endpoint 태그 값 추출 (쿼리 문자열 제외)
+     */
+    public static String endpointOf(String url) {
+        int queryIndex = url.indexOf('?');
+        String path = queryIndex < 0 ? url : url.substring(0, queryIndex);
+        return path.startsWith("http") ? URI.create(path).getPath() : path;
+    }
+
+    public static String endpointOf(URI uri) {
+        return uri.getPath();
+    }
+
+    private String outcome(int status) {
+        if (status <= 0) {
+            return "ERROR";
+        }
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    private Counter cacheLookupCounter(String region, String result) {
+        return Counter.builder("batch.cmc.cache.lookups")
+            .description("CMC 응답 캐시 조회 ID 수")
+            .tag("region", region)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package org.kimprun.batch.cmc.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcSymbolMappingResultDto;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CMC Coin - 기존 Coin 심볼 매핑 Micrometer 지표 (마지막 실행 기준)
+ *
+ * - batch.cmc.symbol.mapping{result=linked}    : 매핑된 CMC 코인 수
+ * - batch.cmc.symbol.mapping{result=ambiguous} : 후보가 여러 개인 심볼 수
+ * - batch.cmc.symbol.mapping{result=unmatched} : 후보가 없는 기존 코인 심볼 수
+ */
+@Component
+public class CmcSymbolMappingMetrics {
+
+    private final AtomicLong linked = new AtomicLong();
+    private final AtomicLong ambiguous = new AtomicLong();
+    private final AtomicLong unmatched = new AtomicLong();
+
+    public CmcSymbolMappingMetrics(MeterRegistry meterRegistry) {
+        register(meterRegistry, "linked", linked);
+        register(meterRegistry, "ambiguous", ambiguous);
+        register(meterRegistry, "unmatched", unmatched);
+    }
+
+    public void record(CmcSymbolMappingResultDto result) {
+        linked.set(result.getLinkedCount());
+        ambiguous.set(result.getAmbiguousSymbols());
+        unmatched.set(result.getUnmatchedSymbols());
+    }
+
+    private void register(MeterRegistry meterRegistry, String result, AtomicLong holder) {
+        Gauge.builder("batch.cmc.symbol.mapping", holder, AtomicLong::get)
+            .description("마지막 CMC 심볼 매핑 실행 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package org.kimprun.batch.cmc.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CMC Coin ID 범위 Partitioner
+ *
+ * 정렬된 전체 CMC Coin ID 를 gridSize 개의 연속 구간으로 나누고,
+ * 각 구간의 [minId, maxId] 를 파티션 ExecutionContext 에 담는다.
+ * 구간은 ID 개수 기준으로 균등하게 나누며, 파티션마다 별도의 StepExecution 으로 실행된다.
+ *
+ * 증분 동기화가 켜져 있으면 전체 ID 대신 이번 실행에서 갱신할 stale slice 만 나누고,
+ * 구간별 선택 건수(sliceSize)를 함께 담아 워커가 같은 조건으로 자기 구간의 대상만 다시 조회하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CmcCoinIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+    public static final String SLICE_SIZE_KEY = "sliceSize";
+    public static final String PARTITION_PREFIX = "partition";
+
+    private final CmcBatchDao cmcBatchDao;
+
+    // 증분 동기화 (콘텐츠 해시 비교 + 오래된 코인만 조회)
+    @Value("${cmc.batch.coin-info.delta.enabled:true}")
+    private boolean deltaEnabled;
+    @Value("${cmc.batch.coin-info.delta.refresh-hours:24}")
+    private int deltaRefreshHours;
+    @Value("${cmc.batch.coin-info.delta.max-coins-per-run:5000}")
+    private int deltaMaxCoinsPerRun;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<Long> targetCmcCoinIds;
+        if (deltaEnabled) {
+            targetCmcCoinIds = new ArrayList<>(
+                cmcBatchDao.getStaleCmcCoinIds(null, null, deltaRefreshHours, deltaMaxCoinsPerRun));
+            targetCmcCoinIds.sort(null);
+            log.info("증분 동기화 대상 CMC Coin ID {} 개 선택 (갱신 주기: {}시간, 최대: {} 개)",
+                targetCmcCoinIds.size(), deltaRefreshHours, deltaMaxCoinsPerRun);
+        } else {
+            targetCmcCoinIds = cmcBatchDao.getAllCmcCoinIds();
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (targetCmcCoinIds.isEmpty()) {
+            log.info("파티션할 CMC Coin ID 가 없습니다.");
+            return partitions;
+        }
+
+        int partitionCount = Math.max(1, Math.min(gridSize, targetCmcCoinIds.size()));
+        int partitionSize = (targetCmcCoinIds.size() + partitionCount - 1) / partitionCount;
+
+        for (int i = 0; i * partitionSize < targetCmcCoinIds.size(); i++) {
+            int fromIndex = i * partitionSize;
+            int toIndex = Math.min(fromIndex + partitionSize, targetCmcCoinIds.size()) - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, targetCmcCoinIds.get(fromIndex));
+            context.putLong(MAX_ID_KEY, targetCmcCoinIds.get(toIndex));
+            if (deltaEnabled) {
+                context.putInt(SLICE_SIZE_KEY, toIndex - fromIndex + 1);
+            }
+            partitions.put(PARTITION_PREFIX + i, context);
+
+            log.info("CMC Coin ID 파티션 {} - 범위: {} ~ {} ({} 건)",
+                i, targetCmcCoinIds.get(fromIndex), targetCmcCoinIds.get(toIndex), toIndex - fromIndex + 1);
+        }
+        return partitions;
+    }
+}
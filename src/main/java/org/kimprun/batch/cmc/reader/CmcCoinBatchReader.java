@@ -6,15 +6,20 @@ import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataMapDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 @Slf4j
 @Component
@@ -22,89 +27,60 @@ public class CmcCoinBatchReader {
 
     private final CoinMarketCapComponent coinMarketCapComponent;
     private final CmcBatchDao cmcBatchDao;
+    private final SyncFreshnessService syncFreshnessService;
 
     private static final int BATCH_SIZE = 5000;
     private static final int MAX_CMC_INFO_BATCH_SIZE = 100;
 
-    public CmcCoinBatchReader(CoinMarketCapComponent coinMarketCapComponent, CmcBatchDao cmcBatchDao) {
+    // 목록형 API 최대 조회 페이지 수 (페이지당 BATCH_SIZE 건, 짧은 페이지가 오면 그 전에 종료)
+    @Value("${cmc.batch.listing.max-pages:10}")
+    private int listingMaxPages;
+
+    // listings/latest 응답을 스트리밍으로 읽을지 여부 (false: 전체 응답을 List 로 역직렬화)
+    @Value("${cmc.batch.coin-latest-info.streaming:true}")
+    private boolean latestInfoStreaming;
+
+    public CmcCoinBatchReader(CoinMarketCapComponent coinMarketCapComponent, CmcBatchDao cmcBatchDao,
+                              SyncFreshnessService syncFreshnessService) {
         this.coinMarketCapComponent = coinMarketCapComponent;
         this.cmcBatchDao = cmcBatchDao;
+        this.syncFreshnessService = syncFreshnessService;
     }
 
-    @StepScope
-    public ItemReader<CmcCoinMapDataDto> getCoinMapReader() {
-        return new ItemReader<CmcCoinMapDataDto>() {
-            private ItemReader<CmcCoinMapDataDto> delegate;
-            private boolean initialized = false;
-            
-            @Override
-            public CmcCoinMapDataDto read() throws Exception {
-                if (!initialized) {
-                    delegate = createCoinMapReader();
-                    initialized = true;
+    /**
+     * 코인 맵 페이징 reader (페이지는 읽을 때마다 지연 조회, 짧은 페이지가 오면 종료)
+     */
+    public ItemStreamReader<CmcCoinMapDataDto> getCoinMapReader() {
+        return new CmcListingPagingItemReader<>("cmcCoinMapReader",
+            coinMarketCapComponent::getCoinMapFromCMC, BATCH_SIZE, listingMaxPages,
+            () -> {
+                // 동기화 필요 여부 체크
+                if (!syncFreshnessService.isSyncRequired(CmcSyncDataset.COIN_MAP)) {
+                    log.info("코인 맵 데이터가 최신 상태입니다. API 호출을 건너뜁니다.");
+                    return false;
                 }
-                return delegate.read();
-            }
-        };
-    }
-    
-    private ItemReader<CmcCoinMapDataDto> createCoinMapReader() {
-        // 동기화 필요 여부 체크
-        if (!cmcBatchDao.shouldRunCoinMapSync()) {
-            log.info("코인 맵 데이터가 최신 상태입니다. API 호출을 건너뜁니다.");
-            return new ListItemReader<>(new ArrayList<>());
-        }
-        
-        List<CmcCoinMapDataDto> allCoinMapData = new ArrayList<>();
-        
-        // 최대 10,000개 코인 데이터를 가져옴 (2번 호출)
-        for (int i = 0; i < 2; i++) {
-            int start = (i * BATCH_SIZE) + 1;
-            List<CmcCoinMapDataDto> batchData = coinMarketCapComponent.getCoinMapFromCMC(start, BATCH_SIZE);
-            allCoinMapData.addAll(batchData);
-            log.info("코인 맵 데이터 {} 번째 배치 수집 완료: {} 건", i + 1, batchData.size());
-        }
-        
-        log.info("총 코인 맵 데이터 수집 완료: {} 건", allCoinMapData.size());
-        return new ListItemReader<>(allCoinMapData);
+                return true;
+            });
     }
 
-    @StepScope
-    public ItemReader<CmcApiDataDto> getLatestCoinInfoReader() {
-        return new ItemReader<CmcApiDataDto>() {
-            private ItemReader<CmcApiDataDto> delegate;
-            private boolean initialized = false;
-            
-            @Override
-            public CmcApiDataDto read() throws Exception {
-                if (!initialized) {
-                    delegate = createLatestCoinInfoReader();
-                    initialized = true;
-                }
-                return delegate.read();
+    /**
+     * 코인 최신 정보 reader (streaming 설정에 따라 스트리밍 또는 페이징 reader)
+     */
+    public ItemStreamReader<CmcApiDataDto> getLatestCoinInfoReader() {
+        BooleanSupplier shouldRun = () -> {
+            // 코인 맵이 없으면 최신 정보도 가져올 필요 없음
+            if (!syncFreshnessService.hasCoinData()) {
+                log.info("CMC 코인 데이터가 없습니다. 최신 정보 수집을 건너뜁니다.");
+                return false;
             }
+            return true;
         };
-    }
-    
-    private ItemReader<CmcApiDataDto> createLatestCoinInfoReader() {
-        // 코인 맵이 없으면 최신 정보도 가져올 필요 없음
-        if (cmcBatchDao.getCmcCoinCount() == 0) {
-            log.info("CMC 코인 데이터가 없습니다. 최신 정보 수집을 건너뜁니다.");
-            return new ListItemReader<>(new ArrayList<>());
-        }
-        
-        List<CmcApiDataDto> allLatestData = new ArrayList<>();
-        
-        // 최대 10,000개 코인의 최신 데이터를 가져옴 (2번 호출)
-        for (int i = 0; i < 2; i++) {
-            int start = (i * BATCH_SIZE) + 1;
-            List<CmcApiDataDto> batchData = coinMarketCapComponent.getLatestCoinInfoFromCMC(start, BATCH_SIZE);
-            allLatestData.addAll(batchData);
-            log.info("코인 최신 정보 {} 번째 배치 수집 완료: {} 건", i + 1, batchData.size());
+
+        if (latestInfoStreaming) {
+            return new CmcLatestInfoStreamReader(coinMarketCapComponent, BATCH_SIZE, listingMaxPages, shouldRun);
         }
-        
-        log.info("총 코인 최신 정보 수집 완료: {} 건", allLatestData.size());
-        return new ListItemReader<>(allLatestData);
+        return new CmcListingPagingItemReader<>("cmcLatestCoinInfoReader",
+            coinMarketCapComponent::getLatestCoinInfoFromCMC, BATCH_SIZE, listingMaxPages, shouldRun);
     }
 
     @StepScope
@@ -126,7 +102,7 @@ public class CmcCoinBatchReader {
     
     private ItemReader<List<CmcCoinInfoDataDto>> createCmcCoinInfoReader() {
         // 상세 정보 동기화 필요 여부 체크
-        if (!cmcBatchDao.shouldRunCoinInfoSync()) {
+        if (!syncFreshnessService.isSyncRequired(CmcSyncDataset.COIN_INFO)) {
             log.info("코인 상세 정보 동기화가 필요하지 않습니다. API 호출을 건너뜁니다.");
             return new ListItemReader<>(new ArrayList<>());
         }
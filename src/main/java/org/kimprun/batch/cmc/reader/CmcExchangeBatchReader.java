@@ -5,6 +5,8 @@ import org.kimprun.batch.cmc.dao.CmcBatchDao;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailMapDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
@@ -21,21 +23,39 @@ public class CmcExchangeBatchReader {
 
     private final CoinMarketCapComponent coinMarketCapComponent;
     private final CmcBatchDao cmcBatchDao;
+    private final SyncFreshnessService syncFreshnessService;
 
     private static final int BATCH_SIZE = 5000;
     private static final int MAX_EXCHANGE_INFO_BATCH_SIZE = 100;
 
-    public CmcExchangeBatchReader(CoinMarketCapComponent coinMarketCapComponent, CmcBatchDao cmcBatchDao) {
+    public CmcExchangeBatchReader(CoinMarketCapComponent coinMarketCapComponent, CmcBatchDao cmcBatchDao,
+                                  SyncFreshnessService syncFreshnessService) {
         this.coinMarketCapComponent = coinMarketCapComponent;
         this.cmcBatchDao = cmcBatchDao;
+        this.syncFreshnessService = syncFreshnessService;
     }
 
     @StepScope
     public ItemReader<CmcExchangeDto> getExchangeMapReader() {
+        // Step 실행 시점에 조회 (Job ExecutionContext 의 동기화 필요 여부 사용)
+        return new ItemReader<CmcExchangeDto>() {
+            private ItemReader<CmcExchangeDto> delegate;
+            
+            @Override
+            public CmcExchangeDto read() throws Exception {
+                if (delegate == null) {
+                    delegate = createExchangeMapReader();
+                }
+                return delegate.read();
+            }
+        };
+    }
+    
+    private ItemReader<CmcExchangeDto> createExchangeMapReader() {
         log.info("거래소 맵 데이터 Reader 시작");
         
         // 거래소 동기화 필요 여부 체크
-        if (!cmcBatchDao.shouldRunExchangeSync()) {
+        if (!syncFreshnessService.isSyncRequired(CmcSyncDataset.EXCHANGE_MAP)) {
             log.info("거래소 맵 데이터가 최신 상태입니다. API 호출을 건너뜁니다.");
             return new ListItemReader<>(new ArrayList<>());
         }
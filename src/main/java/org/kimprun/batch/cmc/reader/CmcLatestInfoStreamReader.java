@@ -0,0 +1,127 @@
+package org.kimprun.batch.cmc.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.component.CoinMarketCapComponent;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
+import org.kimprun.batch.common.json.JsonArrayStream;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.io.IOException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CMC listings/latest 응답을 스트리밍으로 읽는 ItemStreamReader
+ *
+ * 페이지(start, limit) 응답을 List 로 만들지 않고 "data" 배열 원소를 하나씩 반환한다.
+ * 메모리에는 chunk 크기만큼의 아이템만 남으므로, 전체 코인 수가 늘어도 peak heap 이 늘지 않는다.
+ * 마지막 페이지가 pageSize 보다 적게 오면 다음 페이지는 호출하지 않으며,
+ * 재시작 시에는 저장된 아이템 수로 중단된 페이지부터 이어서 읽는다.
+ */
+@Slf4j
+public class CmcLatestInfoStreamReader extends AbstractItemCountingItemStreamItemReader<CmcApiDataDto> {
+
+    private final CoinMarketCapComponent coinMarketCapComponent;
+    private final int pageSize;
+    private final int maxPages;
+    private final BooleanSupplier shouldRun;
+
+    private JsonArrayStream<CmcApiDataDto> currentPage;
+    private int pageIndex = 0;
+    private int pageItemCount = 0;
+    private boolean exhausted = false;
+
+    public CmcLatestInfoStreamReader(CoinMarketCapComponent coinMarketCapComponent, int pageSize, int maxPages) {
+        this(coinMarketCapComponent, pageSize, maxPages, () -> true);
+    }
+
+    /**
+     * @param shouldRun step 시작 시 조회 필요 여부 (false 면 API 호출 없이 종료)
+     */
+    public CmcLatestInfoStreamReader(CoinMarketCapComponent coinMarketCapComponent, int pageSize, int maxPages,
+                                     BooleanSupplier shouldRun) {
+        this.coinMarketCapComponent = coinMarketCapComponent;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.shouldRun = shouldRun;
+        setName("cmcLatestInfoStreamReader");
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        // step 빈이 재사용되므로 실행마다 커서 초기화
+        closeCurrentPage();
+        pageIndex = 0;
+        pageItemCount = 0;
+        exhausted = !shouldRun.getAsBoolean();
+    }
+
+    @Override
+    protected CmcApiDataDto doRead() throws Exception {
+        while (!exhausted) {
+            if (currentPage == null) {
+                if (pageIndex >= maxPages) {
+                    exhausted = true;
+                    break;
+                }
+                openPage();
+            }
+
+            CmcApiDataDto item = currentPage.next();
+            if (item != null) {
+                pageItemCount++;
+                return item;
+            }
+
+            // 현재 페이지 종료
+            closeCurrentPage();
+            log.info("코인 최신 정보 {} 번째 페이지 스트리밍 완료: {} 건", pageIndex + 1, pageItemCount);
+            pageIndex++;
+            if (pageItemCount < pageSize) {
+                exhausted = true;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 재시작 시 이미 읽은 아이템 수로 페이지를 계산해 해당 페이지부터 다시 조회
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        pageIndex = itemIndex / pageSize;
+        int skip = itemIndex % pageSize;
+        if (exhausted || pageIndex >= maxPages) {
+            return;
+        }
+
+        openPage();
+        while (pageItemCount < skip && currentPage.next() != null) {
+            pageItemCount++;
+        }
+        log.info("코인 최신 정보 재시작 - {} 번째 페이지의 {} 번째 아이템부터 이어서 조회", pageIndex + 1, skip + 1);
+    }
+
+    @Override
+    protected void doClose() {
+        closeCurrentPage();
+    }
+
+    private void openPage() {
+        int start = (pageIndex * pageSize) + 1;
+        currentPage = coinMarketCapComponent.openLatestCoinInfoStream(start, pageSize);
+        pageItemCount = 0;
+    }
+
+    private void closeCurrentPage() {
+        if (currentPage == null) {
+            return;
+        }
+        try {
+            currentPage.close();
+        } catch (IOException e) {
+            log.warn("코인 최신 정보 스트림 종료 중 오류 발생", e);
+        } finally {
+            currentPage = null;
+        }
+    }
+}
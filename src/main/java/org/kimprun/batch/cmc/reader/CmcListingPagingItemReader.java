@@ -0,0 +1,101 @@
+package org.kimprun.batch.cmc.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.data.AbstractPaginatedDataItemReader;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CMC 목록형 API(start/limit) 페이징 ItemReader
+ *
+ * 현재 페이지를 다 읽었을 때만 다음 페이지를 호출하고, pageSize 보다 적은 페이지가 오면 종료한다.
+ * 전체 코인 수가 늘어도 코드 변경 없이 모두 순회하며 (최대 maxPages 페이지),
+ * 읽은 아이템 수를 ExecutionContext 에 저장하므로 재시작 시 중단된 페이지의 다음 아이템부터 이어서 읽는다.
+ */
+@Slf4j
+public class CmcListingPagingItemReader<T> extends AbstractPaginatedDataItemReader<T> {
+
+    private static final String PAGE_START_KEY = "page.start";
+
+    private final String name;
+    private final BiFunction<Integer, Integer, List<T>> pageFetcher;
+    private final BooleanSupplier shouldRun;
+    private final int maxPages;
+
+    private boolean lastPage = false;
+
+    /**
+     * @param name        ExecutionContext 키 prefix 및 로그용 이름
+     * @param pageFetcher (start, limit) 로 한 페이지를 조회하는 함수 (start 는 1부터 시작)
+     * @param pageSize    페이지 크기 (CMC limit)
+     * @param maxPages    최대 조회 페이지 수 (안전장치)
+     * @param shouldRun   step 시작 시 조회 필요 여부 (false 면 API 호출 없이 종료)
+     */
+    public CmcListingPagingItemReader(String name, BiFunction<Integer, Integer, List<T>> pageFetcher,
+                                      int pageSize, int maxPages, BooleanSupplier shouldRun) {
+        this.name = name;
+        this.pageFetcher = pageFetcher;
+        this.shouldRun = shouldRun;
+        this.maxPages = maxPages;
+        setName(name);
+        setPageSize(pageSize);
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        // step 빈이 재사용되므로 실행마다 커서 초기화
+        page = 0;
+        results = null;
+        lastPage = !shouldRun.getAsBoolean();
+    }
+
+    @Override
+    protected Iterator<T> doPageRead() {
+        if (lastPage || page >= maxPages) {
+            return Collections.emptyIterator();
+        }
+
+        int start = (page * pageSize) + 1;
+        List<T> items = pageFetcher.apply(start, pageSize);
+        if (items == null) {
+            items = List.of();
+        }
+
+        if (items.size() < pageSize) {
+            lastPage = true;
+        }
+        log.info("[{}] {} 번째 페이지 수집 완료 (start: {}): {} 건", name, page + 1, start, items.size());
+        return items.iterator();
+    }
+
+    /**
+     * 재시작 시 이미 읽은 아이템 수로 페이지를 계산해 해당 페이지만 다시 조회
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        page = itemIndex / pageSize;
+        int skip = itemIndex % pageSize;
+
+        results = doPageRead();
+        page++;
+        for (int i = 0; i < skip && results.hasNext(); i++) {
+            results.next();
+        }
+        log.info("[{}] 재시작 - {} 번째 페이지의 {} 번째 아이템부터 이어서 조회", name, page, skip + 1);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (isSaveState()) {
+            // 다음에 조회할 CMC start 파라미터 (운영 확인용, 재시작 위치는 read.count 로 계산)
+            executionContext.putInt(getExecutionContextKey(PAGE_START_KEY), (page * pageSize) + 1);
+        }
+    }
+}
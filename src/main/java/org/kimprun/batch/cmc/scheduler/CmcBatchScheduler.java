@@ -1,16 +1,25 @@
 package org.kimprun.batch.cmc.scheduler;
 
 import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Configuration
@@ -18,8 +27,17 @@ import java.time.LocalDateTime;
 public class CmcBatchScheduler {
 
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
     private final Job cmcDataSyncJob;
     private final CmcBatchDao cmcBatchDao;
+    private final SyncFreshnessService syncFreshnessService;
+
+    // 실패한 Job 인스턴스를 재시작하는 조건: 첫 실행 후 경과 시간, 최대 재시작 횟수
+    // (넘으면 새 인스턴스로 실행해 완료된 Step 도 다시 동기화)
+    @Value("${cmc.batch.restart.max-age-hours:24}")
+    private int restartMaxAgeHours;
+    @Value("${cmc.batch.restart.max-attempts:3}")
+    private int restartMaxAttempts;
 
     /**
      * 매일 새벽 2시에 CoinMarketCap 데이터 동기화 실행
@@ -31,21 +49,22 @@ public class CmcBatchScheduler {
             log.info("CMC 데이터 동기화 시작");
             log.info("실행 시간: {}", LocalDateTime.now());
 
-            // 동기화 필요 여부 사전 확인
-            boolean coinMapSync = cmcBatchDao.shouldRunCoinMapSync();
-            boolean coinInfoSync = cmcBatchDao.shouldRunCoinInfoSync();
-            boolean exchangeSync = cmcBatchDao.shouldRunExchangeSync();
-            boolean coinRankSync = cmcBatchDao.shouldRunCoinRankSync();
-            boolean coinMetaSync = cmcBatchDao.shouldRunCoinMetaSync();
-
-            log.info("동기화 필요 여부 - 코인 맵: {}, 코인 상세: {}, 거래소: {}, 코인 랭킹: {}, 코인 메타: {}",
-                    coinMapSync, coinInfoSync, exchangeSync, coinRankSync, coinMetaSync);
-
-            if (!coinMapSync && !coinInfoSync && !exchangeSync && !coinRankSync && !coinMetaSync) {
+            // 동기화 필요 여부 사전 확인 (결합 쿼리 1회)
+            if (!syncFreshnessService.evaluate().isAnySyncRequired()) {
                 log.info("모든 데이터가 최신 상태입니다. 배치 작업을 건너뜁니다.");
                 return;
             }
 
+            // 직전 실행이 실패/중단되었으면 같은 JobParameters 로 재시작 (완료된 Step 과 체크포인트 이전 배치는 건너뜀)
+            JobExecution restartableExecution = findRestartableExecution();
+            if (restartableExecution != null) {
+                log.info("직전 CMC 동기화 실행 재시작 - executionId: {}, 상태: {}",
+                        restartableExecution.getId(), restartableExecution.getStatus());
+                jobLauncher.run(cmcDataSyncJob, restartableExecution.getJobParameters());
+                log.info("CMC 데이터 동기화 재시작 완료");
+                return;
+            }
+
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLocalDateTime("executeTime", LocalDateTime.now())
                     .toJobParameters();
@@ -59,6 +78,48 @@ public class CmcBatchScheduler {
         }
     }
 
+    /**
+     * 재시작 대상 실행 조회 (가장 최근 Job 인스턴스의 마지막 실행이 FAILED/STOPPED 인 경우)
+     * 인스턴스의 첫 실행이 restartMaxAgeHours 보다 오래되었거나 이미 restartMaxAttempts 번 재시작했으면
+     * 완료된 Step 의 데이터가 계속 갱신되지 않으므로 재시작하지 않음
+     */
+    private JobExecution findRestartableExecution() {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(cmcDataSyncJob.getName());
+        if (lastInstance == null) {
+            return null;
+        }
+
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return null;
+        }
+
+        BatchStatus status = lastExecution.getStatus();
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            return null;
+        }
+
+        List<JobExecution> executions = jobExplorer.getJobExecutions(lastInstance);
+        int restarts = executions.size() - 1;
+        if (restarts >= restartMaxAttempts) {
+            log.warn("직전 CMC 동기화 실행을 재시작하지 않음 - 재시작 {}회로 최대 {}회 도달, 새 인스턴스로 실행",
+                    restarts, restartMaxAttempts);
+            return null;
+        }
+
+        LocalDateTime firstCreateTime = executions.stream()
+                .map(JobExecution::getCreateTime)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        if (firstCreateTime == null || firstCreateTime.isBefore(LocalDateTime.now().minusHours(restartMaxAgeHours))) {
+            log.warn("직전 CMC 동기화 실행을 재시작하지 않음 - 첫 실행 시각 {} 이 {}시간보다 오래됨, 새 인스턴스로 실행",
+                    firstCreateTime, restartMaxAgeHours);
+            return null;
+        }
+        return lastExecution;
+    }
+
     /**
      * 수동 실행용 메서드 (Controller에서 호출)
      */
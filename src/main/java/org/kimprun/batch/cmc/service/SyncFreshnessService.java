@@ -0,0 +1,48 @@
+package org.kimprun.batch.cmc.service;
+
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncFreshnessDto;
+import org.springframework.batch.core.JobExecution;
+
+public interface SyncFreshnessService {
+
+    /**
+     * 데이터셋별 동기화 필요 여부를 결합 쿼리 1회로 조회
+     * @return 동기화 필요 여부
+     */
+    CmcSyncFreshnessDto evaluate();
+
+    /**
+     * Job 시작 시 동기화 필요 여부를 조회해 Job ExecutionContext 에 저장
+     * @param jobExecution 시작하는 Job 실행
+     * @return 동기화 필요 여부
+     */
+    CmcSyncFreshnessDto initialize(JobExecution jobExecution);
+
+    /**
+     * Step 이 바꾼 데이터에 따라 달라지는 값(gated 가 아닌 데이터셋, 코인 데이터 존재 여부)을 다시 조회해 Job ExecutionContext 갱신
+     * (gated 데이터셋은 실행 여부를 결정한 Job 시작 시점 값을 유지)
+     * @param jobExecution 실행 중인 Job
+     */
+    void refresh(JobExecution jobExecution);
+
+    /**
+     * 현재 Job 의 동기화 필요 여부 조회 (Job ExecutionContext 에 없으면 DB 조회)
+     * @param dataset 데이터셋
+     * @return 동기화 필요 여부
+     */
+    boolean isSyncRequired(CmcSyncDataset dataset);
+
+    /**
+     * 현재 Job 에서 마지막으로 조회한 시점에 CMC 코인 데이터가 있었는지 여부
+     * @return 코인 데이터 존재 여부
+     */
+    boolean hasCoinData();
+
+    /**
+     * 데이터셋 동기화 성공 watermark 기록
+     * @param dataset 데이터셋
+     * @param rowCount 동기화한 건수
+     */
+    void recordSuccess(CmcSyncDataset dataset, long rowCount);
+}
@@ -0,0 +1,106 @@
+package org.kimprun.batch.cmc.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncFreshnessDto;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Job 시작 시 조회한 동기화 필요 여부를 Job ExecutionContext 에서 제공
+ *
+ * reader 마다 shouldRun*Sync 쿼리를 다시 실행하지 않고 ExecutionContext 조회로 판단한다.
+ * Job 시작 값은 gated 데이터셋(코인 맵 / 거래소 맵) 실행 여부에만 쓰고, 앞 Step 이 바꾸는 값(코인 상세 / 랭킹 / 메타,
+ * 코인 데이터 존재 여부)은 데이터를 쓴 Step 이 끝날 때마다 다시 조회한다. (첫 실행에서 코인 맵 저장 후 최신 정보를 건너뛰지 않도록)
+ * (ExecutionContext 는 Jackson 으로 직렬화되므로 DTO 대신 boolean 값을 키별로 저장)
+ */
+@Slf4j
+@Service
+public class SyncFreshnessServiceImpl implements SyncFreshnessService {
+
+    private static final String KEY_PREFIX = "syncFreshness.";
+    private static final String COIN_DATA_EXISTS_KEY = KEY_PREFIX + "coinDataExists";
+
+    private final CmcBatchDao cmcBatchDao;
+
+    // 마지막 동기화 성공 후 다시 동기화할 때까지의 시간
+    @Value("${cmc.batch.freshness.coin-map-refresh-hours:24}")
+    private int coinMapRefreshHours;
+    @Value("${cmc.batch.freshness.exchange-refresh-hours:168}")
+    private int exchangeRefreshHours;
+
+    public SyncFreshnessServiceImpl(CmcBatchDao cmcBatchDao) {
+        this.cmcBatchDao = cmcBatchDao;
+    }
+
+    @Override
+    public CmcSyncFreshnessDto evaluate() {
+        CmcSyncFreshnessDto freshness = cmcBatchDao.getSyncFreshness(coinMapRefreshHours, exchangeRefreshHours);
+        log.info("동기화 필요 여부 - {}", freshness);
+        return freshness;
+    }
+
+    @Override
+    public CmcSyncFreshnessDto initialize(JobExecution jobExecution) {
+        CmcSyncFreshnessDto freshness = evaluate();
+
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        for (CmcSyncDataset dataset : CmcSyncDataset.values()) {
+            executionContext.put(KEY_PREFIX + dataset.getKey(), freshness.isSyncRequired(dataset));
+        }
+        executionContext.put(COIN_DATA_EXISTS_KEY, freshness.isCoinDataExists());
+        return freshness;
+    }
+
+    @Override
+    public void refresh(JobExecution jobExecution) {
+        CmcSyncFreshnessDto freshness = evaluate();
+
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        for (CmcSyncDataset dataset : CmcSyncDataset.values()) {
+            if (!dataset.isGated()) {
+                executionContext.put(KEY_PREFIX + dataset.getKey(), freshness.isSyncRequired(dataset));
+            }
+        }
+        executionContext.put(COIN_DATA_EXISTS_KEY, freshness.isCoinDataExists());
+    }
+
+    @Override
+    public boolean isSyncRequired(CmcSyncDataset dataset) {
+        ExecutionContext executionContext = currentJobExecutionContext();
+        String key = KEY_PREFIX + dataset.getKey();
+        if (executionContext != null && executionContext.containsKey(key)) {
+            return (Boolean) executionContext.get(key);
+        }
+        return evaluate().isSyncRequired(dataset);
+    }
+
+    @Override
+    public boolean hasCoinData() {
+        ExecutionContext executionContext = currentJobExecutionContext();
+        if (executionContext != null && executionContext.containsKey(COIN_DATA_EXISTS_KEY)) {
+            return (Boolean) executionContext.get(COIN_DATA_EXISTS_KEY);
+        }
+        return evaluate().isCoinDataExists();
+    }
+
+    @Override
+    public void recordSuccess(CmcSyncDataset dataset, long rowCount) {
+        cmcBatchDao.upsertSyncWatermark(dataset, rowCount);
+        log.info("동기화 watermark 기록 - 데이터셋: {}, 건수: {}", dataset.getKey(), rowCount);
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 Step 의 Job ExecutionContext (Step 밖이면 null)
+     */
+    private ExecutionContext currentJobExecutionContext() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? null : context.getStepExecution().getJobExecution().getExecutionContext();
+    }
+}
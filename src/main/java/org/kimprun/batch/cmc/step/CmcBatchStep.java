@@ -4,39 +4,69 @@ import org.kimprun.batch.cmc.processor.CmcCoinBatchProcessor;
 import org.kimprun.batch.cmc.processor.CmcExchangeBatchProcessor;
 import org.kimprun.batch.cmc.reader.CmcCoinBatchReader;
 import org.kimprun.batch.cmc.reader.CmcExchangeBatchReader;
+import org.kimprun.batch.cmc.reader.CmcLatestInfoStreamReader;
 import org.kimprun.batch.cmc.writer.CmcCoinBatchWriter;
 import org.kimprun.batch.cmc.writer.CmcExchangeBatchWriter;
 import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.kimprun.batch.cmc.dao.CmcLoadMode;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataMapDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
+import org.kimprun.batch.cmc.dto.internal.coin.CmcSymbolMappingResultDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
+import org.kimprun.batch.cmc.dto.internal.sync.CmcSyncDataset;
+import org.kimprun.batch.cmc.component.CmcRequestPriority;
+import org.kimprun.batch.cmc.component.CoinMarketCapAsyncClient;
+import org.kimprun.batch.cmc.hash.CmcCoinInfoContentHasher;
+import org.kimprun.batch.cmc.listener.CmcSyncWatermarkListener;
+import org.kimprun.batch.cmc.metrics.CmcSymbolMappingMetrics;
+import org.kimprun.batch.cmc.partition.CmcCoinIdRangePartitioner;
+import org.kimprun.batch.cmc.service.SyncFreshnessService;
+import org.kimprun.batch.common.checkpoint.IdRangeCheckpoint;
+import org.kimprun.batch.common.executor.BatchExecutor;
+import org.kimprun.batch.common.pipeline.FetchWritePipeline;
+import org.kimprun.batch.common.pipeline.PipelineMetrics;
+import org.kimprun.batch.common.upsert.UpsertResult;
+import org.kimprun.batch.common.upsert.UpsertStepCounts;
+import io.micrometer.core.instrument.Counter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class CmcBatchStep {
 
+    // 일괄 처리 tasklet 의 완료 ID 범위 체크포인트 키 (Step ExecutionContext)
+    private static final String COIN_INFO_CHECKPOINT_KEY = "coinInfoBulk.completedIdRanges";
+    private static final String EXCHANGE_INFO_CHECKPOINT_KEY = "exchangeInfoBulk.completedIdRanges";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     
@@ -47,6 +77,44 @@ public class CmcBatchStep {
     private final CmcCoinBatchWriter cmcCoinBatchWriter;
     private final CmcExchangeBatchWriter cmcExchangeBatchWriter;
     private final CmcBatchDao cmcBatchDao;
+    private final PipelineMetrics pipelineMetrics;
+    private final CmcCoinIdRangePartitioner cmcCoinIdRangePartitioner;
+    private final BatchExecutor cmcApiExecutor;
+    private final CoinMarketCapAsyncClient coinMarketCapAsyncClient;
+    private final CmcCoinInfoContentHasher cmcCoinInfoContentHasher;
+    private final CmcSymbolMappingMetrics cmcSymbolMappingMetrics;
+    private final SyncFreshnessService syncFreshnessService;
+
+    // Step별 대량 UPSERT 적재 방식 (FOREACH: MyBatis multi-row VALUES, COPY: PgJDBC COPY 스테이징)
+    // 기본값 COPY: e2eBench(코인 1만/5만) 에서 코인 맵 1.2~2.3배, 최신 정보 1.1~1.6배 rows/sec 가 높음
+    @Value("${cmc.batch.coin-map.load-mode:COPY}")
+    private CmcLoadMode coinMapLoadMode;
+    @Value("${cmc.batch.coin-latest-info.load-mode:COPY}")
+    private CmcLoadMode coinLatestInfoLoadMode;
+
+    // coinMetaTasklet 에서 스트리밍으로 읽은 아이템을 한 번에 저장하는 단위
+    @Value("${cmc.batch.coin-meta.flush-size:1000}")
+    private int coinMetaFlushSize;
+
+    // coinInfoBulkStep 파티션 수 (파티션마다 별도 StepExecution, 동시 API 호출 수는 공유 실행기가 제한)
+    @Value("${cmc.batch.coin-info.partition.grid-size:4}")
+    private int coinInfoPartitionGridSize;
+
+    // coinInfoBulkTasklet 증분 동기화 (해시가 같으면 저장 생략, 갱신 주기가 지난 코인만 최대 N개 조회)
+    @Value("${cmc.batch.coin-info.delta.enabled:true}")
+    private boolean coinInfoDeltaEnabled;
+    @Value("${cmc.batch.coin-info.delta.refresh-hours:24}")
+    private int coinInfoDeltaRefreshHours;
+    @Value("${cmc.batch.coin-info.delta.max-coins-per-run:5000}")
+    private int coinInfoDeltaMaxCoinsPerRun;
+
+    // coinInfoBulkTasklet 파이프라인 설정 (조회 결과 큐 깊이, 저장 스레드 수, 한 트랜잭션에 병합할 최대 API 배치 수)
+    @Value("${cmc.batch.coin-info.pipeline.queue-depth:8}")
+    private int coinInfoPipelineQueueDepth;
+    @Value("${cmc.batch.coin-info.pipeline.writer-threads:1}")
+    private int coinInfoPipelineWriterThreads;
+    @Value("${cmc.batch.coin-info.pipeline.coalesce-batches:4}")
+    private int coinInfoPipelineCoalesceBatches;
 
     /**
      * 코인 맵 데이터 수집 및 저장
@@ -57,7 +125,8 @@ public class CmcBatchStep {
                 .<CmcCoinMapDataDto, CmcCoinMapDataDto>chunk(1000, transactionManager)
                 .reader(cmcCoinBatchReader.getCoinMapReader())
                 .processor(cmcCoinBatchProcessor.getCoinMapProcessor())
-                .writer(cmcCoinBatchWriter.getCoinMapWriter())
+                .writer(cmcCoinBatchWriter.getCoinMapWriter(coinMapLoadMode))
+                .listener(new CmcSyncWatermarkListener(syncFreshnessService, CmcSyncDataset.COIN_MAP))
                 .build();
     }
 
@@ -70,7 +139,8 @@ public class CmcBatchStep {
                 .<CmcApiDataDto, CmcApiDataDto>chunk(1000, transactionManager)
                 .reader(cmcCoinBatchReader.getLatestCoinInfoReader())
                 .processor(cmcCoinBatchProcessor.getLatestCoinInfoProcessor())
-                .writer(cmcCoinBatchWriter.getLatestCoinInfoWriter())
+                .writer(cmcCoinBatchWriter.getLatestCoinInfoWriter(coinLatestInfoLoadMode))
+                .listener(new CmcSyncWatermarkListener(syncFreshnessService, CmcSyncDataset.COIN_RANK))
                 .build();
     }
 
@@ -97,6 +167,7 @@ public class CmcBatchStep {
                 .reader(cmcExchangeBatchReader.getExchangeMapReader())
                 .processor(cmcExchangeBatchProcessor.getExchangeMapProcessor())
                 .writer(cmcExchangeBatchWriter.getExchangeMapWriter())
+                .listener(new CmcSyncWatermarkListener(syncFreshnessService, CmcSyncDataset.EXCHANGE_MAP))
                 .build();
     }
 
@@ -118,63 +189,59 @@ public class CmcBatchStep {
             List<Integer> allExchangeIds = cmcBatchDao.getCmcExchangeIds(1000);
             log.info("총 {} 개의 CMC Exchange ID 조회됨", allExchangeIds.size());
             
+            // 재시작이면 이전 실행에서 저장 완료된 ID 범위는 제외
+            IdRangeCheckpoint checkpoint = IdRangeCheckpoint.load(jobRepository,
+                chunkContext.getStepContext().getStepExecution(), EXCHANGE_INFO_CHECKPOINT_KEY);
+            List<Integer> pendingExchangeIds = checkpoint.filterPending(allExchangeIds);
+            if (pendingExchangeIds.size() < allExchangeIds.size()) {
+                log.info("체크포인트 적용 - 완료 {} 건 건너뜀, 남은 {} 건만 조회", 
+                    allExchangeIds.size() - pendingExchangeIds.size(), pendingExchangeIds.size());
+            }
+            
             // 100개씩 나누어서 배치 생성
             int batchSize = 100;
             List<List<Integer>> batches = new ArrayList<>();
-            for (int i = 0; i < allExchangeIds.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, allExchangeIds.size());
-                batches.add(allExchangeIds.subList(i, endIndex));
+            for (int i = 0; i < pendingExchangeIds.size(); i += batchSize) {
+                int endIndex = Math.min(i + batchSize, pendingExchangeIds.size());
+                batches.add(pendingExchangeIds.subList(i, endIndex));
             }
             
-            log.info("총 {} 개의 배치로 분할하여 멀티스레드 처리", batches.size());
+            int concurrency = cmcApiExecutor.getMaxConcurrency();
+            log.info("총 {} 개의 배치로 분할하여 비동기 처리 (최대 동시 요청: {})", batches.size(), concurrency);
 
-            // 스레드 풀 생성
-            ExecutorService executor = Executors.newFixedThreadPool(Math.min(4, batches.size())); // 30회 제한 + 강화된 동기화로 4개까지 안전
             AtomicInteger processedCount = new AtomicInteger(0);
             AtomicInteger errorCount = new AtomicInteger(0);
+            AtomicReference<UpsertResult> upsertResult = new AtomicReference<>(UpsertResult.EMPTY);
+            Counter failureCounter = pipelineMetrics.failures("exchangeInfoBulk", PipelineMetrics.STAGE_BATCH);
             
-            try {
-                // 각 배치를 병렬로 처리
-                List<CompletableFuture<Void>> futures = batches.stream()
-                    .map(batch -> CompletableFuture.runAsync(() -> {
-                        try {
-                            // CMC API 호출 (Rate Limiter가 자동으로 대기 처리)
-                            var exchangeInfoMap = cmcExchangeBatchReader.getCmcExchangeInfoComponent().getExchangeInfo(batch);
-                            
-                            if (exchangeInfoMap != null && !exchangeInfoMap.isEmpty()) {
-                                List<CmcExchangeDetailDto> exchangeInfoList = exchangeInfoMap.values().stream().toList();
-                                cmcBatchDao.upsertCmcExchangeInfo(exchangeInfoList);
-                                int processed = processedCount.addAndGet(exchangeInfoList.size());
-                                log.info("Exchange 배치 처리 완료: {} 건 (전체 진행률: {}/{})", 
-                                    exchangeInfoList.size(), processed, allExchangeIds.size());
-                            }
-                        } catch (org.springframework.web.client.RestClientException e) {
-                            errorCount.incrementAndGet();
-                            log.error("CmcExchange API 호출 중 JSON 파싱 오류 발생 - Exchange IDs: {}", batch, e);
-                        } catch (Exception e) {
-                            errorCount.incrementAndGet();
-                            log.error("CmcExchange 배치 처리 중 예상치 못한 오류 발생 - Exchange IDs: {}", batch, e);
+            // 각 배치를 비동기로 요청 (Rate Limit/HTTP 대기 중에는 스레드를 점유하지 않음)
+            // DB 저장은 blocking 이므로 boundedElastic 스케줄러에서 실행
+            Flux.fromIterable(batches)
+                .flatMap(batch -> coinMarketCapAsyncClient.getExchangeInfo(batch)
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(exchangeInfoMap -> {
+                        if (!exchangeInfoMap.isEmpty()) {
+                            List<CmcExchangeDetailDto> exchangeInfoList = exchangeInfoMap.values().stream().toList();
+                            upsertResult.accumulateAndGet(cmcBatchDao.upsertCmcExchangeInfo(exchangeInfoList), UpsertResult::plus);
+                            int processed = processedCount.addAndGet(exchangeInfoList.size());
+                            log.info("Exchange 배치 처리 완료: {} 건 (전체 진행률: {}/{})", 
+                                exchangeInfoList.size(), processed, pendingExchangeIds.size());
                         }
-                    }, executor))
-                    .toList();
-                
-                // 모든 작업 완료 대기
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-                
-            } finally {
-                executor.shutdown();
-                try {
-                    if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-                        executor.shutdownNow();
-                    }
-                } catch (InterruptedException e) {
-                    executor.shutdownNow();
-                    Thread.currentThread().interrupt();
-                }
-            }
+                        // 저장까지 끝난 배치의 ID 범위를 체크포인트로 기록
+                        checkpoint.markDone(batch);
+                    })
+                    .onErrorResume(e -> {
+                        errorCount.incrementAndGet();
+                        failureCounter.increment();
+                        log.error("CmcExchange 배치 처리 중 오류 발생 - Exchange IDs: {}", batch, e);
+                        return Mono.empty();
+                    }), concurrency)
+                .blockLast();
+            
+            UpsertStepCounts.add(chunkContext.getStepContext().getStepExecution(), upsertResult.get());
             
-            log.info("CmcExchange 상세 정보 일괄 처리 작업 완료 - 처리: {} 건, 오류: {} 건", 
-                processedCount.get(), errorCount.get());
+            log.info("CmcExchange 상세 정보 일괄 처리 작업 완료 - 처리: {} 건 ({}), 오류: {} 건", 
+                processedCount.get(), upsertResult.get(), errorCount.get());
             return RepeatStatus.FINISHED;
         };
     }
@@ -184,7 +251,33 @@ public class CmcBatchStep {
      */
     @Bean
     public Step coinInfoBulkStep() {
+        // CMC Coin ID 를 범위로 나누어 파티션마다 별도 StepExecution 으로 실행 (Rate Limit 은 Redis 로 전역 공유)
         return new StepBuilder("coinInfoBulkStep", jobRepository)
+                .partitioner("coinInfoBulkWorkerStep", cmcCoinIdRangePartitioner)
+                .partitionHandler(coinInfoBulkPartitionHandler())
+                .listener(new CmcSyncWatermarkListener(syncFreshnessService, CmcSyncDataset.COIN_INFO))
+                .build();
+    }
+
+    @Bean
+    public PartitionHandler coinInfoBulkPartitionHandler() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("cmc-coin-info-partition-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(coinInfoPartitionGridSize);
+
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(coinInfoBulkWorkerStep());
+        partitionHandler.setTaskExecutor(taskExecutor);
+        partitionHandler.setGridSize(coinInfoPartitionGridSize);
+        return partitionHandler;
+    }
+
+    /**
+     * CmcCoinInfo 일괄 처리 파티션 worker (파티션의 ID 범위만 처리)
+     */
+    @Bean
+    public Step coinInfoBulkWorkerStep() {
+        return new StepBuilder("coinInfoBulkWorkerStep", jobRepository)
                 .tasklet(coinInfoBulkTasklet(), transactionManager)
                 .build();
     }
@@ -192,91 +285,121 @@ public class CmcBatchStep {
     @Bean
     public Tasklet coinInfoBulkTasklet() {
         return (contribution, chunkContext) -> {
-            log.info("CmcCoinInfo 멀티스레딩 작업 시작");
+            log.info("CmcCoinInfo 파이프라인 작업 시작");
+            
+            StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            ExecutionContext stepContext = stepExecution.getExecutionContext();
             
-            // 모든 CMC Coin ID 조회
-            List<Long> allCmcCoinIds = cmcBatchDao.getAllCmcCoinIds();
-            log.info("총 {} 개의 CMC Coin ID 조회됨", allCmcCoinIds.size());
+            // 파티션으로 실행되면 파티션의 ID 범위만, 아니면 모든 CMC Coin ID 조회
+            // 증분 동기화면 갱신 주기가 지난 코인 중 우선순위가 높은 slice 만 조회
+            List<Long> allCmcCoinIds;
+            boolean deltaSelection = stepContext.containsKey(CmcCoinIdRangePartitioner.SLICE_SIZE_KEY)
+                || (!stepContext.containsKey(CmcCoinIdRangePartitioner.MIN_ID_KEY) && coinInfoDeltaEnabled);
+            if (stepContext.containsKey(CmcCoinIdRangePartitioner.SLICE_SIZE_KEY)) {
+                long minId = stepContext.getLong(CmcCoinIdRangePartitioner.MIN_ID_KEY);
+                long maxId = stepContext.getLong(CmcCoinIdRangePartitioner.MAX_ID_KEY);
+                int sliceSize = stepContext.getInt(CmcCoinIdRangePartitioner.SLICE_SIZE_KEY);
+                allCmcCoinIds = cmcBatchDao.getStaleCmcCoinIds(minId, maxId, coinInfoDeltaRefreshHours, sliceSize);
+                log.info("[{}] ID 범위 {} ~ {} 의 증분 동기화 대상 CMC Coin ID {} 개 조회됨", 
+                    stepExecution.getStepName(), minId, maxId, allCmcCoinIds.size());
+            } else if (stepContext.containsKey(CmcCoinIdRangePartitioner.MIN_ID_KEY)) {
+                long minId = stepContext.getLong(CmcCoinIdRangePartitioner.MIN_ID_KEY);
+                long maxId = stepContext.getLong(CmcCoinIdRangePartitioner.MAX_ID_KEY);
+                allCmcCoinIds = cmcBatchDao.getCmcCoinIdsBetween(minId, maxId);
+                log.info("[{}] ID 범위 {} ~ {} 의 CMC Coin ID {} 개 조회됨", 
+                    stepExecution.getStepName(), minId, maxId, allCmcCoinIds.size());
+            } else if (coinInfoDeltaEnabled) {
+                allCmcCoinIds = cmcBatchDao.getStaleCmcCoinIds(null, null, coinInfoDeltaRefreshHours, coinInfoDeltaMaxCoinsPerRun);
+                log.info("증분 동기화 대상 CMC Coin ID {} 개 조회됨", allCmcCoinIds.size());
+            } else {
+                allCmcCoinIds = cmcBatchDao.getAllCmcCoinIds();
+                log.info("총 {} 개의 CMC Coin ID 조회됨", allCmcCoinIds.size());
+            }
+            
+            // 재시작이면 이전 실행에서 저장 완료된 ID 범위는 제외
+            // 증분 동기화는 ID 가 우선순위 순이라 범위 체크포인트를 쓸 수 없고, 저장된 코인은 fetched_at 이 갱신되어
+            // 재시작 시 대상 조회에서 이미 빠지므로 체크포인트를 사용하지 않음
+            IdRangeCheckpoint checkpoint = deltaSelection
+                ? null : IdRangeCheckpoint.load(jobRepository, stepExecution, COIN_INFO_CHECKPOINT_KEY);
+            List<Long> pendingCmcCoinIds = checkpoint == null ? allCmcCoinIds : checkpoint.filterPending(allCmcCoinIds);
+            if (pendingCmcCoinIds.size() < allCmcCoinIds.size()) {
+                log.info("체크포인트 적용 - 완료 {} 건 건너뜀, 남은 {} 건만 조회", 
+                    allCmcCoinIds.size() - pendingCmcCoinIds.size(), pendingCmcCoinIds.size());
+            }
+            
+            // 증분 동기화면 상세 정보를 한 번도 조회하지 않은 신규 코인이 포함된 배치를 갱신 재조회보다 먼저 요청
+            // (전체 동기화는 모두 갱신 재조회로 요청)
+            Set<Integer> newCmcCoinIds = new HashSet<>();
+            if (deltaSelection && !pendingCmcCoinIds.isEmpty()) {
+                Set<Long> fetchedCmcCoinIds = cmcBatchDao.getFetchedCmcCoinInfoIds(pendingCmcCoinIds);
+                for (Long cmcCoinId : pendingCmcCoinIds) {
+                    if (!fetchedCmcCoinIds.contains(cmcCoinId)) {
+                        newCmcCoinIds.add(cmcCoinId.intValue());
+                    }
+                }
+                log.info("신규 코인 {} 건 / 갱신 재조회 {} 건", newCmcCoinIds.size(), pendingCmcCoinIds.size() - newCmcCoinIds.size());
+            }
             
             // 100개씩 나누어서 배치 생성
             int batchSize = 100;
-            List<List<Long>> batches = new ArrayList<>();
-            for (int i = 0; i < allCmcCoinIds.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, allCmcCoinIds.size());
-                batches.add(allCmcCoinIds.subList(i, endIndex));
+            List<List<Integer>> batches = new ArrayList<>();
+            for (int i = 0; i < pendingCmcCoinIds.size(); i += batchSize) {
+                int endIndex = Math.min(i + batchSize, pendingCmcCoinIds.size());
+                batches.add(pendingCmcCoinIds.subList(i, endIndex).stream()
+                    .map(Long::intValue)
+                    .toList());
             }
             
-            log.info("총 {} 개의 배치로 분할하여 멀티스레드 처리", batches.size());
+            log.info("총 {} 개의 배치로 분할하여 파이프라인 처리 (큐 깊이: {}, 저장 스레드: {}, 최대 병합 배치: {})",
+                batches.size(), coinInfoPipelineQueueDepth, coinInfoPipelineWriterThreads, coinInfoPipelineCoalesceBatches);
             
-            // 스레드 풀 생성
-            ExecutorService executor = Executors.newFixedThreadPool(Math.min(4, batches.size())); // 30회 제한 + 강화된 동기화로 4개까지 안전
-            AtomicInteger processedCount = new AtomicInteger(0);
-            AtomicInteger errorCount = new AtomicInteger(0);
+            // API 조회 단계(Rate Limit 대기 포함)와 DB 저장 단계를 분리하여 서로 대기하지 않도록 처리
+            FetchWritePipeline<List<Integer>, CmcCoinInfoDataDto> pipeline = new FetchWritePipeline<>(
+                "cmc-coin-info", cmcApiExecutor,
+                coinInfoPipelineWriterThreads, coinInfoPipelineQueueDepth, coinInfoPipelineCoalesceBatches,
+                pipelineMetrics);
             
-            try {
-                // 각 배치를 병렬로 처리
-                List<CompletableFuture<Void>> futures = batches.stream()
-                    .map(batch -> CompletableFuture.runAsync(() -> {
-                        List<Integer> intBatchIds = batch.stream()
-                            .map(Long::intValue)
-                            .toList();
-                        
-                        try {
-                            // CMC API 호출 (Rate Limiter가 자동으로 대기 처리)
-                            CmcCoinInfoDataMapDto coinInfoMap = cmcCoinBatchReader.getCmcCoinInfoComponent().getCmcCoinInfos(intBatchIds);
-                            
-                            if (coinInfoMap != null && !coinInfoMap.isEmpty()) {
-                                List<CmcCoinInfoDataDto> coinInfoList = coinInfoMap.values().stream().toList();
-                                
-                                // CmcCoinInfo 데이터 저장
-                                cmcBatchDao.upsertCmcCoinInfoBulk(coinInfoList);
-                                
-                                // CmcMainnet 데이터 처리 (explorer URLs)
-                                cmcBatchDao.upsertCmcMainnet(coinInfoList);
-                                
-                                // CmcPlatform 데이터 처리 (platform 정보)
-                                cmcBatchDao.upsertCmcPlatform(coinInfoList);
-                                
-                                int processed = processedCount.addAndGet(coinInfoList.size());
-                                log.info("배치 처리 완료: {} 건 (전체 진행률: {}/{})", 
-                                    coinInfoList.size(), processed, allCmcCoinIds.size());
-                            }
-                        } catch (org.springframework.web.client.RestClientException e) {
-                            errorCount.incrementAndGet();
-                            log.error("CmcCoinInfo API 호출 중 JSON 파싱 오류 발생 - Coin IDs: {}", intBatchIds, e);
-                        } catch (Exception e) {
-                            errorCount.incrementAndGet();
-                            log.error("CmcCoinInfo 배치 처리 중 예상치 못한 오류 발생 - Coin IDs: {}", intBatchIds, e);
-                        }
-                    }, executor))
-                    .toList();
-                
-                // 모든 작업 완료 대기
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-                
-            } finally {
-                executor.shutdown();
-                try {
-                    if (!executor.awaitTermination(300, TimeUnit.SECONDS)) { // 5분으로 증가
-                        log.warn("일부 작업이 완료되지 않아 강제 종료합니다.");
-                        executor.shutdownNow();
+            // 저장 스레드에서 누적 (Step ExecutionContext 에는 작업 종료 시 한 번에 기록)
+            AtomicReference<UpsertResult> upsertResult = new AtomicReference<>(UpsertResult.EMPTY);
+            FetchWritePipeline.PipelineResult result = pipeline.run(
+                batches,
+                // CMC API 호출 (Rate Limiter가 자동으로 대기 처리)
+                batch -> {
+                    CmcRequestPriority priority = batch.stream().anyMatch(newCmcCoinIds::contains)
+                        ? CmcRequestPriority.NEW_COIN_INFO : CmcRequestPriority.STALE_INFO;
+                    CmcCoinInfoDataMapDto coinInfoMap = cmcCoinBatchReader.getCmcCoinInfoComponent().getCmcCoinInfos(batch, priority);
+                    return coinInfoMap == null ? List.of() : new ArrayList<>(coinInfoMap.values());
+                },
+                // CmcCoinInfo, CmcMainnet, CmcPlatform 을 여러 배치 단위로 모아 한 트랜잭션으로 저장
+                // 증분 동기화면 콘텐츠 해시가 바뀐 코인만 저장
+                items -> {
+                    UpsertResult batchResult = coinInfoDeltaEnabled
+                        ? cmcBatchDao.upsertChangedCmcCoinInfoDetails(items, cmcCoinInfoContentHasher.hashAll(items))
+                        : cmcBatchDao.upsertCmcCoinInfoDetails(items);
+                    upsertResult.accumulateAndGet(batchResult, UpsertResult::plus);
+                },
+                // 저장이 커밋된 배치의 ID 범위를 체크포인트로 기록 (전체 동기화만, ID 오름차순 배치)
+                completedBatches -> {
+                    if (checkpoint != null) {
+                        completedBatches.forEach(checkpoint::markDone);
                     }
-                } catch (InterruptedException e) {
-                    executor.shutdownNow();
-                    Thread.currentThread().interrupt();
-                }
-            }
+                });
             
-            long totalExpected = allCmcCoinIds.size();
-            long actualProcessed = processedCount.get();
+            long totalExpected = pendingCmcCoinIds.size();
+            long actualProcessed = result.getWrittenItems();
             
-            log.info("CmcCoinInfo 일괄 처리 작업 완료 - 처리: {} 건 / 예상: {} 건, 오류: {} 건", 
-                actualProcessed, totalExpected, errorCount.get());
+            // 파티션별 StepExecution 에 조회/저장 건수 반영 (tasklet 은 chunk 처럼 자동 집계되지 않음)
+            stepExecution.setReadCount(stepExecution.getReadCount() + result.getFetchedItems());
+            contribution.incrementWriteCount(actualProcessed);
+            UpsertStepCounts.add(stepExecution, upsertResult.get());
+            
+            log.info("CmcCoinInfo 일괄 처리 작업 완료 - 처리: {} 건 ({}) / 예상: {} 건, 오류: 조회 {} 건, 저장 {} 건", 
+                actualProcessed, upsertResult.get(), totalExpected, result.getFetchErrors(), result.getWriteErrors());
             
             // 처리되지 않은 코인이 많으면 경고
             if (actualProcessed < totalExpected * 0.8) { // 80% 미만이면 경고
-                log.warn("예상보다 적은 코인이 처리되었습니다. 처리율: {:.1f}%", 
-                    (double) actualProcessed / totalExpected * 100);
+                log.warn("예상보다 적은 코인이 처리되었습니다. 처리율: {}%", 
+                    String.format("%.1f", (double) actualProcessed / Math.max(1L, totalExpected) * 100));
             }
             
             return RepeatStatus.FINISHED;
@@ -290,6 +413,7 @@ public class CmcBatchStep {
     public Step coinMetaStep() {
         return new StepBuilder("coinMetaStep", jobRepository)
                 .tasklet(coinMetaTasklet(), transactionManager)
+                .listener(new CmcSyncWatermarkListener(syncFreshnessService, CmcSyncDataset.COIN_META))
                 .build();
     }
 
@@ -299,7 +423,6 @@ public class CmcBatchStep {
             log.info("CmcCoinMeta 데이터 처리 시작");
             
             try {
-                List<CmcApiDataDto> allLatestData = new ArrayList<>();
                 int batchSize = 5000;
                 
                 // 코인 개수 확인
@@ -307,22 +430,35 @@ public class CmcBatchStep {
                 int totalBatches = (int) Math.ceil((double) totalCoins / batchSize);
                 log.info("총 {} 개의 코인, {} 개의 배치로 처리", totalCoins, totalBatches);
                 
-                // 여러 배치로 나누어서 모든 코인의 메타 데이터 수집
-                for (int i = 0; i < totalBatches; i++) {
-                    int start = (i * batchSize) + 1;
-                    log.info("CmcCoinMeta {} 번째 배치 처리 시작 (start: {}, limit: {})", i + 1, start, batchSize);
-                    
-                    var batchData = cmcCoinBatchReader.getCmcCoinInfoComponent().getLatestCoinInfoFromCMC(start, batchSize);
-                    if (batchData != null && !batchData.isEmpty()) {
-                        allLatestData.addAll(batchData);
-                        log.info("CmcCoinMeta {} 번째 배치 수집 완료: {} 건", i + 1, batchData.size());
+                // 응답 전체를 모으지 않고 스트리밍으로 읽으면서 coinMetaFlushSize 건씩 저장
+                CmcLatestInfoStreamReader latestInfoReader = new CmcLatestInfoStreamReader(
+                    cmcCoinBatchReader.getCmcCoinInfoComponent(), batchSize, totalBatches);
+                List<CmcApiDataDto> buffer = new ArrayList<>(coinMetaFlushSize);
+                int totalCount = 0;
+                UpsertResult upsertResult = UpsertResult.EMPTY;
+                
+                try {
+                    CmcApiDataDto item;
+                    while ((item = latestInfoReader.read()) != null) {
+                        buffer.add(item);
+                        if (buffer.size() >= coinMetaFlushSize) {
+                            upsertResult = upsertResult.plus(cmcBatchDao.upsertCmcCoinMeta(buffer));
+                            totalCount += buffer.size();
+                            buffer.clear();
+                        }
+                    }
+                    if (!buffer.isEmpty()) {
+                        upsertResult = upsertResult.plus(cmcBatchDao.upsertCmcCoinMeta(buffer));
+                        totalCount += buffer.size();
                     }
+                } finally {
+                    latestInfoReader.close();
                 }
                 
-                if (!allLatestData.isEmpty()) {
-                    // 모든 CmcCoinMeta 데이터 저장 및 매핑
-                    cmcBatchDao.upsertCmcCoinMeta(allLatestData);
-                    log.info("CmcCoinMeta 전체 데이터 {} 건 처리 완료", allLatestData.size());
+                UpsertStepCounts.add(chunkContext.getStepContext().getStepExecution(), upsertResult);
+                
+                if (totalCount > 0) {
+                    log.info("CmcCoinMeta 전체 데이터 {} 건 처리 완료 ({})", totalCount, upsertResult);
                 } else {
                     log.warn("CmcCoinMeta 처리할 데이터가 없습니다.");
                 }
@@ -350,8 +486,11 @@ public class CmcBatchStep {
     public Tasklet coinMappingTasklet() {
         return (contribution, chunkContext) -> {
             log.info("CMC Coin과 기존 Coin 매핑 작업 시작");
-            cmcBatchDao.linkCmcCoinWithExistingCoin();
-            log.info("CMC Coin과 기존 Coin 매핑 작업 완료");
+            CmcSymbolMappingResultDto result = cmcBatchDao.linkCmcCoinWithExistingCoin();
+            cmcSymbolMappingMetrics.record(result);
+            contribution.incrementWriteCount(result.getLinkedCount());
+            log.info("CMC Coin과 기존 Coin 매핑 작업 완료 - 매핑: {}, 모호 심볼: {}, 미매칭 심볼: {}",
+                result.getLinkedCount(), result.getAmbiguousSymbols(), result.getUnmatchedSymbols());
             return RepeatStatus.FINISHED;
         };
     }
@@ -1,9 +1,13 @@
 package org.kimprun.batch.cmc.writer;
 
 import org.kimprun.batch.cmc.dao.CmcBatchDao;
+import org.kimprun.batch.cmc.dao.CmcLoadMode;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcApiDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinInfoDataDto;
 import org.kimprun.batch.cmc.dto.internal.coin.CmcCoinMapDataDto;
+import org.kimprun.batch.cmc.index.KnownCmcIdIndex;
+import org.kimprun.batch.common.upsert.UpsertResult;
+import org.kimprun.batch.common.upsert.UpsertStepCounts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
@@ -17,16 +21,20 @@ import java.util.List;
 public class CmcCoinBatchWriter {
 
     private final CmcBatchDao cmcBatchDao;
+    private final KnownCmcIdIndex knownCmcIdIndex;
 
-    public CmcCoinBatchWriter(CmcBatchDao cmcBatchDao) {
+    public CmcCoinBatchWriter(CmcBatchDao cmcBatchDao, KnownCmcIdIndex knownCmcIdIndex) {
         this.cmcBatchDao = cmcBatchDao;
+        this.knownCmcIdIndex = knownCmcIdIndex;
     }
 
     /**
      * 코인 맵 데이터 Writer
+     *
+     * @param loadMode 대량 UPSERT 적재 방식 (FOREACH / COPY)
      */
     @Transactional
-    public ItemWriter<CmcCoinMapDataDto> getCoinMapWriter() {
+    public ItemWriter<CmcCoinMapDataDto> getCoinMapWriter(CmcLoadMode loadMode) {
         return new ItemWriter<CmcCoinMapDataDto>() {
             @Override
             public void write(Chunk<? extends CmcCoinMapDataDto> chunk) throws Exception {
@@ -38,8 +46,12 @@ public class CmcCoinBatchWriter {
                     List<CmcCoinMapDataDto> coinMapItems = (List<CmcCoinMapDataDto>) items;
                     
                     // 1. 코인 맵 데이터 저장
-                    cmcBatchDao.upsertCmcCoinMap(coinMapItems);
-                    log.info("코인 맵 데이터 저장 완료: {} 건", items.size());
+                    UpsertResult upsertResult = cmcBatchDao.upsertCmcCoinMap(coinMapItems, loadMode);
+                    UpsertStepCounts.addToCurrentStep(upsertResult);
+                    log.info("코인 맵 데이터 저장 완료: {} 건 ({})", items.size(), upsertResult);
+                    
+                    // 저장된 코인 ID를 인덱스에 반영 (커밋 후 적용, 이후 Step에서 DB 재조회 없이 사용)
+                    knownCmcIdIndex.addAll(coinMapItems.stream().map(CmcCoinMapDataDto::getId).toList());
                     
                     // 2. 랭킹 데이터가 있는 코인들에 대해 cmc_rank 테이블 처리
                     List<CmcCoinMapDataDto> rankedCoins = coinMapItems.stream()
@@ -47,8 +59,9 @@ public class CmcCoinBatchWriter {
                         .toList();
                     
                     if (!rankedCoins.isEmpty()) {
-                        cmcBatchDao.upsertCmcCoinMapRank(rankedCoins);
-                        log.info("코인 랭킹 데이터 저장 완료: {} 건", rankedCoins.size());
+                        // Step 건수는 cmc_coin 기준이므로 랭킹 건수는 로그와 cmc_rank 지표로만 남김
+                        UpsertResult rankResult = cmcBatchDao.upsertCmcCoinMapRank(rankedCoins, loadMode);
+                        log.info("코인 랭킹 데이터 저장 완료: {} 건 ({})", rankedCoins.size(), rankResult);
                     }
                     
                     log.info("코인 맵 데이터 Writer 완료: {} 건", items.size());
@@ -59,20 +72,29 @@ public class CmcCoinBatchWriter {
 
     /**
      * 코인 최신 정보 Writer
+     *
+     * @param loadMode 대량 UPSERT 적재 방식 (FOREACH / COPY)
      */
     @Transactional
-    public ItemWriter<CmcApiDataDto> getLatestCoinInfoWriter() {
+    public ItemWriter<CmcApiDataDto> getLatestCoinInfoWriter(CmcLoadMode loadMode) {
         return new ItemWriter<CmcApiDataDto>() {
             @Override
             public void write(Chunk<? extends CmcApiDataDto> chunk) throws Exception {
                 List<? extends CmcApiDataDto> items = chunk.getItems();
                 if (!items.isEmpty()) {
                     log.info("코인 최신 정보 Writer 시작: {} 건", items.size());
-                    // 안전한 타입 변환
-                    @SuppressWarnings("unchecked")
-                    List<CmcApiDataDto> latestInfoItems = (List<CmcApiDataDto>) items;
-                    cmcBatchDao.updateCmcCoinLatestInfo(latestInfoItems);
-                    log.info("코인 최신 정보 Writer 완료: {} 건", items.size());
+                    // cmc_coin 에 없는 코인은 인메모리 인덱스로 미리 제외
+                    List<CmcApiDataDto> latestInfoItems = items.stream()
+                        .filter(item -> item.getId() != null && knownCmcIdIndex.contains(item.getId()))
+                        .map(item -> (CmcApiDataDto) item)
+                        .toList();
+                    if (latestInfoItems.isEmpty()) {
+                        log.info("코인 최신 정보 Writer: 저장된 코인과 일치하는 항목이 없습니다.");
+                        return;
+                    }
+                    UpsertResult upsertResult = cmcBatchDao.updateCmcCoinLatestInfo(latestInfoItems, loadMode);
+                    UpsertStepCounts.addToCurrentStep(upsertResult);
+                    log.info("코인 최신 정보 Writer 완료: {}/{} 건 ({})", latestInfoItems.size(), items.size(), upsertResult);
                 }
             }
         };
@@ -89,8 +111,9 @@ public class CmcCoinBatchWriter {
                 for (List<CmcCoinInfoDataDto> batchItems : chunk.getItems()) {
                     if (batchItems != null && !batchItems.isEmpty()) {
                         log.info("코인 상세 정보 배치 Writer 시작: {} 건", batchItems.size());
-                        cmcBatchDao.upsertCmcCoinInfo(batchItems);
-                        log.info("코인 상세 정보 배치 Writer 완료: {} 건", batchItems.size());
+                        UpsertResult upsertResult = cmcBatchDao.upsertCmcCoinInfo(batchItems);
+                        UpsertStepCounts.addToCurrentStep(upsertResult);
+                        log.info("코인 상세 정보 배치 Writer 완료: {} 건 ({})", batchItems.size(), upsertResult);
                     }
                 }
             }
@@ -3,6 +3,8 @@ package org.kimprun.batch.cmc.writer;
 import org.kimprun.batch.cmc.dao.CmcBatchDao;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDetailDto;
 import org.kimprun.batch.cmc.dto.internal.exchange.CmcExchangeDto;
+import org.kimprun.batch.common.upsert.UpsertResult;
+import org.kimprun.batch.common.upsert.UpsertStepCounts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
@@ -35,8 +37,9 @@ public class CmcExchangeBatchWriter {
                     // 안전한 타입 변환
                     @SuppressWarnings("unchecked")
                     List<CmcExchangeDto> exchangeMapItems = (List<CmcExchangeDto>) items;
-                    cmcBatchDao.upsertCmcExchangeMap(exchangeMapItems);
-                    log.info("거래소 맵 데이터 Writer 완료: {} 건", items.size());
+                    UpsertResult upsertResult = cmcBatchDao.upsertCmcExchangeMap(exchangeMapItems);
+                    UpsertStepCounts.addToCurrentStep(upsertResult);
+                    log.info("거래소 맵 데이터 Writer 완료: {} 건 ({})", items.size(), upsertResult);
                 }
             }
         };
@@ -53,8 +56,9 @@ public class CmcExchangeBatchWriter {
                 for (List<CmcExchangeDetailDto> batchItems : chunk.getItems()) {
                     if (batchItems != null && !batchItems.isEmpty()) {
                         log.info("거래소 상세 정보 배치 Writer 시작: {} 건", batchItems.size());
-                        cmcBatchDao.upsertCmcExchangeInfo(batchItems);
-                        log.info("거래소 상세 정보 배치 Writer 완료: {} 건", batchItems.size());
+                        UpsertResult upsertResult = cmcBatchDao.upsertCmcExchangeInfo(batchItems);
+                        UpsertStepCounts.addToCurrentStep(upsertResult);
+                        log.info("거래소 상세 정보 배치 Writer 완료: {} 건 ({})", batchItems.size(), upsertResult);
                     }
                 }
             }
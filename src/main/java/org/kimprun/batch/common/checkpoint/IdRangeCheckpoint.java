@@ -0,0 +1,131 @@
+package org.kimprun.batch.common.checkpoint;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 처리 완료된 ID 범위를 Step ExecutionContext 에 저장하는 체크포인트
+ *
+ * 정렬된 ID 목록을 배치 단위로 처리할 때, 배치 하나가 저장될 때마다 [첫 ID, 마지막 ID] 범위를 기록한다.
+ * 인접한 범위는 병합되어 "1-100,101-5000" 처럼 짧은 문자열로 저장되며,
+ * Job 재시작 시 Spring Batch 가 이전 StepExecution 의 ExecutionContext 를 복원하므로
+ * 이미 완료된 범위의 ID 는 다시 조회하지 않는다.
+ */
+@Slf4j
+public class IdRangeCheckpoint {
+
+    private final JobRepository jobRepository;
+    private final StepExecution stepExecution;
+    private final String key;
+
+    // 범위 시작 ID -> 범위 끝 ID (겹치거나 인접한 범위는 병합)
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+    private IdRangeCheckpoint(JobRepository jobRepository, StepExecution stepExecution, String key) {
+        this.jobRepository = jobRepository;
+        this.stepExecution = stepExecution;
+        this.key = key;
+    }
+
+    /**
+     * StepExecution 의 ExecutionContext 에서 체크포인트 복원 (없으면 빈 체크포인트)
+     *
+     * @param jobRepository 체크포인트 저장에 사용할 JobRepository
+     * @param stepExecution 현재 StepExecution
+     * @param key ExecutionContext 키
+     */
+    public static IdRangeCheckpoint load(JobRepository jobRepository, StepExecution stepExecution, String key) {
+        IdRangeCheckpoint checkpoint = new IdRangeCheckpoint(jobRepository, stepExecution, key);
+        String encoded = stepExecution.getExecutionContext().getString(key, "");
+        if (!encoded.isEmpty()) {
+            for (String range : encoded.split(",")) {
+                int separator = range.indexOf('-', 1);
+                checkpoint.merge(Long.parseLong(range.substring(0, separator)), Long.parseLong(range.substring(separator + 1)));
+            }
+            log.info("체크포인트 복원 - step: {}, 완료 범위: {}", stepExecution.getStepName(), encoded);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 이미 완료된 ID 인지 확인
+     */
+    public synchronized boolean isDone(long id) {
+        Map.Entry<Long, Long> floor = ranges.floorEntry(id);
+        return floor != null && id <= floor.getValue();
+    }
+
+    /**
+     * 완료되지 않은 ID 만 남기기 (입력 순서 유지)
+     */
+    public <T extends Number> List<T> filterPending(List<T> ids) {
+        List<T> pending = new ArrayList<>(ids.size());
+        for (T id : ids) {
+            if (!isDone(id.longValue())) {
+                pending.add(id);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 정렬된 ID 배치를 완료 처리하고 즉시 JobRepository 에 저장
+     * (프로세스가 강제 종료되어도 마지막으로 저장된 배치까지는 재시작 시 건너뜀)
+     *
+     * @param sortedIds 오름차순 정렬된 ID 배치 (정렬된 전체 목록의 연속 구간)
+     * @throws IllegalArgumentException 오름차순이 아닌 배치 (범위가 처리하지 않은 ID 까지 덮게 되므로 기록하지 않음)
+     */
+    public synchronized <T extends Number> void markDone(List<T> sortedIds) {
+        if (sortedIds.isEmpty()) {
+            return;
+        }
+        for (int i = 1; i < sortedIds.size(); i++) {
+            if (sortedIds.get(i - 1).longValue() >= sortedIds.get(i).longValue()) {
+                throw new IllegalArgumentException("오름차순 정렬된 ID 배치만 완료 처리할 수 있습니다 - step: "
+                    + stepExecution.getStepName() + ", 위치: " + i);
+            }
+        }
+        merge(sortedIds.get(0).longValue(), sortedIds.get(sortedIds.size() - 1).longValue());
+        stepExecution.getExecutionContext().putString(key, encode());
+        jobRepository.updateExecutionContext(stepExecution);
+    }
+
+    /**
+     * 완료된 범위 개수
+     */
+    public synchronized int rangeCount() {
+        return ranges.size();
+    }
+
+    private void merge(long from, long to) {
+        Map.Entry<Long, Long> lower = ranges.floorEntry(from);
+        if (lower != null && lower.getValue() >= from - 1) {
+            from = lower.getKey();
+            to = Math.max(to, lower.getValue());
+        }
+
+        Map.Entry<Long, Long> higher;
+        while ((higher = ranges.ceilingEntry(from)) != null && higher.getKey() <= to + 1) {
+            to = Math.max(to, higher.getValue());
+            ranges.remove(higher.getKey());
+        }
+        ranges.put(from, to);
+    }
+
+    private String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(range.getKey()).append('-').append(range.getValue());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package org.kimprun.batch.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * primitive long 전용 open addressing 해시 셋
+ *
+ * 박싱된 Long 없이 ID 집합을 보관하기 위한 최소 구현 (선형 탐사, 삭제 미지원).
+ * 스레드 안전하지 않으므로 공유 시에는 생성 후 읽기 전용으로만 사용한다.
+ */
+public class LongHashSet {
+
+    // 빈 슬롯 표시값 (0은 별도 플래그로 관리)
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] slots;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.slots = new long[tableSizeFor(expectedSize)];
+    }
+
+    /**
+     * 다른 셋의 내용을 복사하여 생성
+     */
+    public LongHashSet(LongHashSet source, int additionalSize) {
+        this.slots = new long[tableSizeFor(source.size() + additionalSize)];
+        for (long value : source.slots) {
+            if (value != EMPTY) {
+                insert(value);
+            }
+        }
+        this.containsZero = source.containsZero;
+        this.size = source.size;
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) > slots.length * LOAD_FACTOR) {
+            rehash(slots.length << 1);
+        }
+        if (insert(value)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long slot = slots[index];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    private boolean insert(long value) {
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long slot = slots[index];
+            if (slot == EMPTY) {
+                slots[index] = value;
+                return true;
+            }
+            if (slot == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldSlots = slots;
+        slots = new long[newCapacity];
+        for (long value : oldSlots) {
+            if (value != EMPTY) {
+                insert(value);
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        // 연속된 ID가 인접 슬롯에 몰리지 않도록 비트 혼합 (MurmurHash3 finalizer)
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) Math.ceil(expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(16, capacity);
+    }
+}
@@ -0,0 +1,118 @@
+package org.kimprun.batch.common.copy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PgJDBC CopyManager 기반 스테이징 로더
+ *
+ * 행을 CSV로 인코딩하여 COPY ... FROM STDIN 으로 스트리밍한다.
+ * Spring 트랜잭션에 바인딩된 커넥션을 사용하므로, 같은 트랜잭션 안의 MyBatis 구문과
+ * 동일한 세션(임시 테이블 포함)을 공유한다.
+ */
+@Slf4j
+@Component
+public class PgCopyLoader {
+
+    // COPY 스트림으로 내보내기 전 버퍼 크기 (약 64KB 단위로 flush)
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public PgCopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 행 목록을 COPY FROM STDIN (CSV) 으로 적재
+     *
+     * @param copySql   COPY 구문 (예: COPY stage (a, b) FROM STDIN WITH (FORMAT csv))
+     * @param rows      적재할 행 목록
+     * @param columnsOf 행을 컬럼 값 배열로 변환하는 함수 (null은 SQL NULL로 적재)
+     * @return 적재된 행 수
+     */
+    public <T> long copyIn(String copySql, List<T> rows, Function<T, Object[]> columnsOf) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+        try {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            for (T row : rows) {
+                appendCsvRow(buffer, columnsOf.apply(row));
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    writeBuffer(copyIn, buffer);
+                }
+            }
+            if (!buffer.isEmpty()) {
+                writeBuffer(copyIn, buffer);
+            }
+
+            long copiedRows = copyIn.endCopy();
+            copyIn = null;
+            return copiedRows;
+        } catch (SQLException e) {
+            log.error("COPY 적재 중 오류 발생 - sql: {}", copySql, e);
+            throw new IllegalStateException("COPY 적재 실패: " + e.getMessage(), e);
+        } finally {
+            cancelQuietly(copyIn);
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void writeBuffer(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void appendCsvRow(StringBuilder buffer, Object[] columns) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = columns[i];
+            if (value == null) {
+                // CSV 포맷에서 따옴표 없는 빈 값은 NULL
+                continue;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                buffer.append(value);
+                continue;
+            }
+            // 문자열은 항상 따옴표로 감싸 빈 문자열과 NULL을 구분
+            String text = value.toString();
+            buffer.append('"');
+            for (int c = 0; c < text.length(); c++) {
+                char ch = text.charAt(c);
+                if (ch == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(ch);
+            }
+            buffer.append('"');
+        }
+        buffer.append('\n');
+    }
+
+    private void cancelQuietly(CopyIn copyIn) {
+        if (copyIn == null || !copyIn.isActive()) {
+            return;
+        }
+        try {
+            copyIn.cancelCopy();
+        } catch (SQLException e) {
+            log.warn("COPY 취소 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.kimprun.batch.common.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 배치 작업용 공유 실행기 인터페이스
+ *
+ * 스레드 수가 아니라 동시 실행 permit(semaphore) 수로 동시성을 제한한다.
+ * 대부분의 시간을 Rate Limit 대기나 HTTP I/O 로 보내는 작업을 위한 실행기.
+ */
+public interface BatchExecutor {
+
+    /**
+     * 결과를 반환하는 작업 비동기 실행
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 Future
+     */
+    <T> CompletableFuture<T> supplyAsync(Supplier<T> task);
+
+    /**
+     * 결과가 없는 작업 비동기 실행
+     *
+     * @param task 실행할 작업
+     * @return 작업 완료 Future
+     */
+    CompletableFuture<Void> runAsync(Runnable task);
+
+    /**
+     * 동시에 실행 가능한 최대 작업 수
+     */
+    int getMaxConcurrency();
+
+    /**
+     * 실행기 종료 (Spring 컨테이너 종료 시 호출)
+     */
+    void shutdown();
+}
@@ -0,0 +1,77 @@
+package org.kimprun.batch.common.executor.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.executor.BatchExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore 로 동시 실행 수를 제한하는 BatchExecutor 구현체
+ *
+ * 실제 스레드는 주입된 ExecutorService (가상 스레드 또는 플랫폼 스레드 풀)가 제공하고,
+ * 동시에 실행되는 작업 수는 Rate Limit 예산에 맞춘 semaphore permit 수로 제한한다.
+ */
+@Slf4j
+public class BoundedBatchExecutor implements BatchExecutor {
+
+    private final String name;
+    private final ExecutorService executorService;
+    private final Semaphore concurrencyPermits;
+    private final int maxConcurrency;
+
+    public BoundedBatchExecutor(String name, ExecutorService executorService, int maxConcurrency) {
+        this.name = name;
+        this.executorService = executorService;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.concurrencyPermits = new Semaphore(this.maxConcurrency, true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                concurrencyPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return task.get();
+            } finally {
+                concurrencyPermits.release();
+            }
+        }, executorService);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAsync(Runnable task) {
+        return supplyAsync(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("[{}] 일부 작업이 완료되지 않아 강제 종료합니다.", name);
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.kimprun.batch.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON 응답 안의 배열 필드를 원소 단위로 읽어오는 스트림
+ *
+ * 응답 전체를 List 로 역직렬화하지 않고 JsonParser 로 배열 원소를 하나씩 읽으므로,
+ * 메모리에는 현재 원소와 파서 버퍼만 남는다.
+ * 예) {"status": {...}, "data": [ {...}, {...} ]} 에서 "data" 배열을 순회
+ */
+public class JsonArrayStream<T> implements Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader elementReader;
+    private final String arrayField;
+    private final Closeable source;
+
+    private boolean positioned = false;
+    private boolean finished = false;
+
+    /**
+     * @param objectMapper 역직렬화에 사용할 ObjectMapper
+     * @param inputStream  응답 본문
+     * @param arrayField   순회할 최상위 배열 필드명
+     * @param elementType  배열 원소 타입
+     * @param source       스트림 종료 시 함께 닫을 리소스 (HTTP 응답 등, null 가능)
+     */
+    public JsonArrayStream(ObjectMapper objectMapper, InputStream inputStream, String arrayField,
+                           Class<T> elementType, Closeable source) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+        this.elementReader = objectMapper.readerFor(elementType);
+        this.arrayField = arrayField;
+        this.source = source;
+    }
+
+    /**
+     * 다음 배열 원소 읽기
+     *
+     * @return 다음 원소, 배열 끝이면 null
+     */
+    public T next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (!positioned && !moveToArray()) {
+            finished = true;
+            return null;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            finished = true;
+            return null;
+        }
+        return elementReader.readValue(parser);
+    }
+
+    /**
+     * 최상위 객체에서 arrayField 배열 시작 위치로 이동 (다른 필드는 건너뜀)
+     */
+    private boolean moveToArray() throws IOException {
+        positioned = true;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if (arrayField.equals(fieldName)) {
+                return valueToken == JsonToken.START_ARRAY;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            parser.close();
+        } finally {
+            if (source != null) {
+                source.close();
+            }
+        }
+    }
+}
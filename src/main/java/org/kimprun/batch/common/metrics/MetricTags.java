@@ -0,0 +1,25 @@
+package org.kimprun.batch.common.metrics;
+
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * 배치 지표 공통 태그
+ */
+public final class MetricTags {
+
+    public static final String STEP = "step";
+    // Step 밖(스케줄러, 비동기 콜백 스레드 등)에서 기록된 지표의 step 태그 값
+    public static final String NO_STEP = "none";
+
+    private MetricTags() {
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 Step 이름 (Step 밖이면 none)
+     */
+    public static String currentStep() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? NO_STEP : context.getStepName();
+    }
+}
@@ -0,0 +1,63 @@
+package org.kimprun.batch.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 구문 실행 시간 Micrometer 지표 (MyBatis auto-configuration 이 Interceptor 빈을 자동 등록)
+ *
+ * - batch.db.statement.duration{statement, command, step, outcome}: 매퍼 구문별 실행 시간
+ *
+ * statement 태그는 매퍼 메서드 이름 (네임스페이스 제외), COPY 적재(PgCopyLoader)는 MyBatis 를 거치지 않아 포함되지 않음
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class MyBatisStatementMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public MyBatisStatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("batch.db.statement.duration")
+                .description("MyBatis 매퍼 구문 실행 시간")
+                .tag("statement", statementName(statement.getId()))
+                .tag("command", statement.getSqlCommandType().name().toLowerCase())
+                .tag(MetricTags.STEP, MetricTags.currentStep())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String statementName(String statementId) {
+        return statementId.substring(statementId.lastIndexOf('.') + 1);
+    }
+}
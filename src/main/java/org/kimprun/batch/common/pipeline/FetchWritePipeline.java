@@ -0,0 +1,297 @@
+package org.kimprun.batch.common.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.executor.BatchExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 2단계 Fetch/Write 파이프라인
+ *
+ * Rate Limit 이 걸린 API 호출(fetch) 단계는 공유 BatchExecutor 에서, DB 저장(write) 단계는 별도 스레드 풀에서 실행하고,
+ * 그 사이를 크기가 제한된 큐로 연결한다.
+ * - 큐가 가득 차면 fetch 스레드가 대기하여 DB가 느릴 때 메모리가 무한정 늘지 않는다 (backpressure)
+ * - write 스레드는 큐에 쌓인 배치를 최대 coalesceBatches 개까지 모아 한 번에 저장한다
+ * - write 스레드가 모두 비정상 종료되면 fetch 스레드는 대기를 멈추고, 실행은 예외로 실패한다 (교착 방지)
+ *
+ * @param <B> fetch 입력 배치 타입 (예: CMC ID 목록)
+ * @param <R> fetch 결과 아이템 타입
+ */
+@Slf4j
+public class FetchWritePipeline<B, R> {
+
+    // 큐가 가득 찼을 때 write 스레드 생존 여부를 다시 확인하는 간격
+    private static final long ENQUEUE_RETRY_MILLIS = 500;
+
+    private final String name;
+    private final BatchExecutor fetchExecutor;
+    private final int writerThreads;
+    private final int queueDepth;
+    private final int coalesceBatches;
+    private final PipelineMetrics pipelineMetrics;
+
+    // write 스레드 종료 신호 (identity 비교)
+    private final Fetched<B, R> endOfStream = new Fetched<>(null, List.of());
+
+    public FetchWritePipeline(String name, BatchExecutor fetchExecutor, int writerThreads, int queueDepth,
+                              int coalesceBatches, PipelineMetrics pipelineMetrics) {
+        this.name = name;
+        this.fetchExecutor = fetchExecutor;
+        this.writerThreads = Math.max(1, writerThreads);
+        this.queueDepth = Math.max(1, queueDepth);
+        this.coalesceBatches = Math.max(1, coalesceBatches);
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * 파이프라인 실행 (모든 배치의 fetch/write 가 끝날 때까지 대기)
+     *
+     * @param batches 입력 배치 목록
+     * @param fetcher 배치 하나를 아이템 목록으로 가져오는 함수 (공유 fetch 실행기에서 실행)
+     * @param writer  모아진 아이템 목록을 저장하는 함수 (write 스레드에서 실행, 한 번의 트랜잭션 단위)
+     * @return 단계별 처리 결과
+     */
+    public PipelineResult run(List<B> batches, Function<B, List<R>> fetcher, Consumer<List<R>> writer) {
+        return run(batches, fetcher, writer, completedBatches -> { });
+    }
+
+    /**
+     * 파이프라인 실행 (배치 완료 콜백 포함)
+     *
+     * @param batches 입력 배치 목록
+     * @param fetcher 배치 하나를 아이템 목록으로 가져오는 함수 (공유 fetch 실행기에서 실행)
+     * @param writer  모아진 아이템 목록을 저장하는 함수 (write 스레드에서 실행, 한 번의 트랜잭션 단위)
+     * @param onBatchesCompleted 저장이 끝난 입력 배치 목록을 받는 콜백 (체크포인트 기록용, 조회 결과가 비어 있는 배치는 제외)
+     * @return 단계별 처리 결과
+     */
+    public PipelineResult run(List<B> batches, Function<B, List<R>> fetcher, Consumer<List<R>> writer,
+                              Consumer<List<B>> onBatchesCompleted) {
+        if (batches.isEmpty()) {
+            return new PipelineResult(0, 0, 0, 0, 0, 0L);
+        }
+
+        long startNanos = System.nanoTime();
+        BlockingQueue<Fetched<B, R>> queue = new ArrayBlockingQueue<>(queueDepth);
+        AtomicInteger queueDepthGauge = pipelineMetrics.queueDepth(name);
+        Timer fetchTimer = pipelineMetrics.stageTimer(name, PipelineMetrics.STAGE_FETCH);
+        Timer writeTimer = pipelineMetrics.stageTimer(name, PipelineMetrics.STAGE_WRITE);
+        Counter fetchedCounter = pipelineMetrics.items(name, PipelineMetrics.STAGE_FETCH);
+        Counter writtenCounter = pipelineMetrics.items(name, PipelineMetrics.STAGE_WRITE);
+        Counter fetchFailures = pipelineMetrics.failures(name, PipelineMetrics.STAGE_FETCH);
+        Counter writeFailures = pipelineMetrics.failures(name, PipelineMetrics.STAGE_WRITE);
+
+        AtomicLong fetchedItems = new AtomicLong();
+        AtomicLong writtenItems = new AtomicLong();
+        AtomicInteger fetchErrors = new AtomicInteger();
+        AtomicInteger writeErrors = new AtomicInteger();
+        AtomicInteger writeTransactions = new AtomicInteger();
+        AtomicInteger liveWriters = new AtomicInteger(writerThreads);
+        AtomicReference<Throwable> writeStageFailure = new AtomicReference<>();
+
+        ExecutorService writePool = Executors.newFixedThreadPool(writerThreads);
+
+        try {
+            // 1. write 단계: 큐에서 배치를 꺼내 최대 coalesceBatches 개까지 모아서 저장
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int i = 0; i < writerThreads; i++) {
+                writers.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        while (true) {
+                            Fetched<B, R> first = queue.take();
+                            if (first == endOfStream) {
+                                return;
+                            }
+
+                            List<R> coalesced = new ArrayList<>(first.items());
+                            List<B> coalescedSources = new ArrayList<>();
+                            coalescedSources.add(first.batch());
+                            int coalescedBatches = 1;
+                            boolean finished = false;
+                            while (coalescedBatches < coalesceBatches) {
+                                Fetched<B, R> next = queue.poll();
+                                if (next == null) {
+                                    break;
+                                }
+                                if (next == endOfStream) {
+                                    finished = true;
+                                    break;
+                                }
+                                coalesced.addAll(next.items());
+                                coalescedSources.add(next.batch());
+                                coalescedBatches++;
+                            }
+                            queueDepthGauge.set(queue.size());
+
+                            try {
+                                writeTimer.record(() -> writer.accept(coalesced));
+                                writtenItems.addAndGet(coalesced.size());
+                                writtenCounter.increment(coalesced.size());
+                                writeTransactions.incrementAndGet();
+                                log.debug("[{}] 저장 완료: {} 배치 / {} 건", name, coalescedBatches, coalesced.size());
+                                notifyCompleted(onBatchesCompleted, coalescedSources);
+                            } catch (Throwable e) {
+                                // Error 도 해당 저장 건의 오류로만 처리하고 write 스레드는 계속 큐를 비움
+                                writeErrors.incrementAndGet();
+                                writeFailures.increment();
+                                log.error("[{}] 저장 단계 오류 발생 - {} 배치 / {} 건", name, coalescedBatches, coalesced.size(), e);
+                            }
+
+                            if (finished) {
+                                return;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.warn("[{}] 저장 스레드 중단", name);
+                    } catch (Throwable e) {
+                        writeStageFailure.compareAndSet(null, e);
+                        log.error("[{}] 저장 스레드 비정상 종료", name, e);
+                    } finally {
+                        liveWriters.decrementAndGet();
+                    }
+                }, writePool));
+            }
+
+            // 2. fetch 단계: 결과를 큐에 넣고, 큐가 가득 차면 대기 (backpressure)
+            List<CompletableFuture<Void>> fetchers = batches.stream()
+                .map(batch -> fetchExecutor.runAsync(() -> {
+                    try {
+                        long fetchStartNanos = System.nanoTime();
+                        List<R> items = fetcher.apply(batch);
+                        fetchTimer.record(System.nanoTime() - fetchStartNanos, TimeUnit.NANOSECONDS);
+
+                        if (items != null && !items.isEmpty()) {
+                            fetchedItems.addAndGet(items.size());
+                            fetchedCounter.increment(items.size());
+                            enqueue(queue, new Fetched<>(batch, items), liveWriters);
+                            queueDepthGauge.set(queue.size());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        fetchErrors.incrementAndGet();
+                        fetchFailures.increment();
+                        log.warn("[{}] 조회 스레드 중단 - batch: {}", name, batch);
+                    } catch (Exception e) {
+                        fetchErrors.incrementAndGet();
+                        fetchFailures.increment();
+                        log.error("[{}] 조회 단계 오류 발생 - batch: {}", name, batch, e);
+                    }
+                }))
+                .toList();
+
+            CompletableFuture.allOf(fetchers.toArray(new CompletableFuture[0])).join();
+
+            // 3. 모든 fetch 완료 후 write 스레드마다 종료 신호 전달 (이미 모두 종료되었으면 생략)
+            for (int i = 0; i < writerThreads && liveWriters.get() > 0; i++) {
+                enqueue(queue, endOfStream, liveWriters);
+            }
+            CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[{}] 파이프라인 실행 중단", name);
+        } catch (WriteStageTerminatedException e) {
+            log.error("[{}] 저장 스레드가 모두 종료되어 종료 신호를 보내지 못함", name);
+        } finally {
+            queueDepthGauge.set(0);
+            shutdown(writePool);
+        }
+
+        if (writeStageFailure.get() != null) {
+            throw new IllegalStateException("[" + name + "] 저장 단계가 비정상 종료되었습니다.", writeStageFailure.get());
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        PipelineResult result = new PipelineResult(batches.size(), fetchedItems.get(), writtenItems.get(),
+            fetchErrors.get(), writeErrors.get(), elapsedMillis);
+
+        log.info("[{}] 파이프라인 완료 - 배치: {}, 조회: {} 건 ({}/s), 저장: {} 건 ({}/s, 트랜잭션 {} 회), 오류: 조회 {} / 저장 {}, 소요: {}ms",
+            name, batches.size(), result.getFetchedItems(), perSecond(result.getFetchedItems(), elapsedMillis),
+            result.getWrittenItems(), perSecond(result.getWrittenItems(), elapsedMillis), writeTransactions.get(),
+            result.getFetchErrors(), result.getWriteErrors(), elapsedMillis);
+        return result;
+    }
+
+    /**
+     * 큐에 넣되, 가득 찬 동안 write 스레드가 모두 종료되면 대기를 멈춤
+     */
+    private void enqueue(BlockingQueue<Fetched<B, R>> queue, Fetched<B, R> fetched, AtomicInteger liveWriters)
+            throws InterruptedException {
+        while (!queue.offer(fetched, ENQUEUE_RETRY_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (liveWriters.get() == 0) {
+                throw new WriteStageTerminatedException();
+            }
+        }
+    }
+
+    private void notifyCompleted(Consumer<List<B>> onBatchesCompleted, List<B> completedBatches) {
+        try {
+            onBatchesCompleted.accept(completedBatches);
+        } catch (Throwable e) {
+            // 완료 콜백(체크포인트 기록) 실패는 저장 결과에 영향을 주지 않음
+            log.warn("[{}] 배치 완료 콜백 처리 중 오류 발생 - {} 배치", name, completedBatches.size(), e);
+        }
+    }
+
+    private long perSecond(long items, long elapsedMillis) {
+        return items * 1000L / Math.max(1L, elapsedMillis);
+    }
+
+    private void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("[{}] 일부 작업이 완료되지 않아 강제 종료합니다.", name);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 큐에 넣는 동안 write 스레드가 모두 종료됨
+     */
+    private static class WriteStageTerminatedException extends IllegalStateException {
+        private WriteStageTerminatedException() {
+            super("저장 스레드가 모두 종료되었습니다.");
+        }
+    }
+
+    /**
+     * 조회 단계 결과 (입력 배치와 조회된 아이템)
+     */
+    private record Fetched<B, R>(B batch, List<R> items) {
+    }
+
+    /**
+     * 파이프라인 실행 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PipelineResult {
+        private final int batchCount;
+        private final long fetchedItems;
+        private final long writtenItems;
+        private final int fetchErrors;
+        private final int writeErrors;
+        private final long elapsedMillis;
+    }
+}
@@ -0,0 +1,71 @@
+package org.kimprun.batch.common.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetch/Write 파이프라인 Micrometer 지표
+ *
+ * - batch.pipeline.queue.depth{pipeline}        : 단계 사이 큐에 대기 중인 배치 수
+ * - batch.pipeline.items{pipeline, stage}        : 단계별 처리 아이템 수 (throughput = rate)
+ * - batch.pipeline.stage.duration{pipeline, stage}: 단계별 배치 처리 시간
+ * - batch.pipeline.failures{pipeline, stage}      : 단계별 실패한 배치 수
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String STAGE_FETCH = "fetch";
+    public static final String STAGE_WRITE = "write";
+    // 조회와 저장을 한 번에 처리하는 배치 (단계 구분 없음)
+    public static final String STAGE_BATCH = "batch";
+
+    private final MeterRegistry meterRegistry;
+    // 파이프라인 실행마다 큐가 새로 생성되므로 Gauge는 이름별 holder에 한 번만 등록
+    private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public AtomicInteger queueDepth(String pipeline) {
+        return queueDepths.computeIfAbsent(pipeline, name -> {
+            AtomicInteger depth = new AtomicInteger();
+            Gauge.builder("batch.pipeline.queue.depth", depth, AtomicInteger::get)
+                .description("Fetch/Write 단계 사이 큐에 대기 중인 배치 수")
+                .tag("pipeline", name)
+                .register(meterRegistry);
+            return depth;
+        });
+    }
+
+    public Counter items(String pipeline, String stage) {
+        return Counter.builder("batch.pipeline.items")
+            .description("파이프라인 단계별 처리 아이템 수")
+            .tag("pipeline", pipeline)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+
+    public Timer stageTimer(String pipeline, String stage) {
+        return Timer.builder("batch.pipeline.stage.duration")
+            .description("파이프라인 단계별 배치 처리 시간")
+            .tag("pipeline", pipeline)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+
+    public Counter failures(String pipeline, String stage) {
+        return Counter.builder("batch.pipeline.failures")
+            .description("파이프라인 단계별 실패한 배치 수")
+            .tag("pipeline", pipeline)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+}
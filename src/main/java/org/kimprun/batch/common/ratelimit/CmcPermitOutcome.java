@@ -0,0 +1,14 @@
+package org.kimprun.batch.common.ratelimit;
+
+/**
+ * CMC API permit 즉시 획득 결과 (요청 permit + 요청 클래스 할당량 + 크레딧)
+ */
+public enum CmcPermitOutcome {
+
+    // 모두 획득
+    ACQUIRED,
+    // 요청 클래스 할당량 소진 (다른 클래스는 획득 가능할 수 있음)
+    QUOTA_EXHAUSTED,
+    // 요청 수 또는 크레딧 예산 소진 / 호출 중단 중 (모든 클래스 획득 불가)
+    BUDGET_EXHAUSTED
+}
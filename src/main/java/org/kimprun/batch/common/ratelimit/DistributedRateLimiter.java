@@ -1,5 +1,7 @@
 package org.kimprun.batch.common.ratelimit;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Redis 기반 Rate Limiter 인터페이스
  *
@@ -7,6 +9,16 @@ package org.kimprun.batch.common.ratelimit;
  */
 public interface DistributedRateLimiter {
 
+    /**
+     * CoinMarketCap API 윈도우당 허용 요청 수
+     */
+    int CMC_API_LIMIT = 30;
+
+    /**
+     * CoinMarketCap API Rate Limit 윈도우 (초)
+     */
+    int CMC_API_WINDOW_SECONDS = 60;
+
     /**
      * CoinMarketCap API Rate Limiter (동시성 보장)
      *
@@ -21,7 +33,77 @@ public interface DistributedRateLimiter {
      * @param timeoutSeconds 최대 대기 시간 (초)
      * @return {허용여부, 남은요청수}
      */
-    RateLimitResult tryAcquireCmcApiLimitBlocking(long timeoutSeconds);
+    default RateLimitResult tryAcquireCmcApiLimitBlocking(long timeoutSeconds) {
+        return tryAcquireCmcApiLimitBlocking(timeoutSeconds, 1);
+    }
+
+    /**
+     * CoinMarketCap API Rate Limiter (blocking, 크레딧 가중)
+     * 요청 permit 과 함께 호출 비용만큼의 크레딧 permit 을 획득 (크레딧 예산 미설정 시 요청 permit 만)
+     *
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @param credits 호출 예상 크레딧 (CmcCreditCost)
+     * @return {허용여부, 남은요청수}
+     */
+    RateLimitResult tryAcquireCmcApiLimitBlocking(long timeoutSeconds, int credits);
+
+    /**
+     * CoinMarketCap API Rate Limiter (non-blocking)
+     * permit이 사용 가능해질 때까지 스레드를 점유하지 않고 최대 timeout만큼 대기
+     *
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @return {허용여부, 남은요청수} Future
+     */
+    default CompletableFuture<RateLimitResult> acquireCmcApiLimitAsync(long timeoutSeconds) {
+        return acquireCmcApiLimitAsync(timeoutSeconds, 1);
+    }
+
+    /**
+     * CoinMarketCap API Rate Limiter (non-blocking, 크레딧 가중)
+     *
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @param credits 호출 예상 크레딧 (CmcCreditCost)
+     * @return {허용여부, 남은요청수} Future
+     */
+    CompletableFuture<RateLimitResult> acquireCmcApiLimitAsync(long timeoutSeconds, int credits);
+
+    /**
+     * CoinMarketCap API permit 즉시 획득 (요청 permit, 요청 클래스 할당량, 크레딧을 모두 얻거나 하나도 쓰지 않음)
+     * 클래스마다 윈도우당 현재 CMC 허용량의 quotaPercent % 까지만 요청하도록 제한 (서버 간 공유)
+     *
+     * @param requestClass 요청 클래스 (CmcRequestPriority)
+     * @param quotaPercent 허용량 대비 할당 비율 (100 이상이면 제한 없음)
+     * @param credits 호출 예상 크레딧 (CmcCreditCost)
+     * @return 획득 결과 (실패 시 부족한 예산)
+     */
+    CmcPermitOutcome tryAcquireCmcApiPermit(String requestClass, int quotaPercent, int credits);
+
+    /**
+     * 요청 수 / 크레딧 예산을 다시 임대해 볼 수 있을 때까지 남은 시간 (ms, 지금 가능하면 0)
+     */
+    long getCmcApiRetryDelayMillis();
+
+    /**
+     * 이 서버가 임대해 둔 남은 CMC API 요청 permit 수 (Redis 조회 없음)
+     */
+    int getCmcApiLocalPermits();
+
+    /**
+     * CoinMarketCap API 정상 응답 반영
+     * 허용량을 점진적으로 늘리고, 실제 소모 크레딧이 예상보다 많으면 차이만큼 크레딧 예산에서 차감
+     *
+     * @param estimatedCredits 획득 시 사용한 예상 크레딧
+     * @param actualCredits 응답 status.credit_count (없으면 null)
+     */
+    void onCmcApiSuccess(int estimatedCredits, Long actualCredits);
+
+    /**
+     * CoinMarketCap API 제한 응답 반영 (HTTP 429 또는 status.error_code)
+     * 일정 시간 호출을 멈추고 허용량을 줄임
+     *
+     * @param retryAfterMillis 재시도까지 대기 시간 (Retry-After, 모르면 0 → 기본 중단 시간)
+     */
+    void onCmcApiThrottled(long retryAfterMillis);
 
     /**
      * 재시도 로직이 포함된 Rate Limiter (동시성 문제 해결)
@@ -0,0 +1,85 @@
+package org.kimprun.batch.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Rate Limiter Micrometer 지표
+ *
+ * - batch.ratelimit.acquire.wait{resource, mode, outcome, step}: permit 획득 대기 시간 (outcome = acquired / timeout)
+ * - batch.ratelimit.timeouts{resource, mode}                    : 대기 시간 초과 횟수
+ * - batch.ratelimit.permits.local{resource}                     : 로컬에 임대해 둔 남은 permit 수
+ * - batch.ratelimit.limit{resource}                              : 현재 윈도우당 허용량 (AIMD 조절)
+ * - batch.ratelimit.throttled{resource}                          : 외부 API 제한 응답 횟수
+ */
+@Component
+public class RateLimitMetrics {
+
+    public static final String MODE_BLOCKING = "blocking";
+    public static final String MODE_ASYNC = "async";
+    public static final String MODE_SCHEDULED = "scheduled";
+
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordAcquire(String resource, String mode, boolean acquired, long waitNanos) {
+        recordAcquire(resource, mode, acquired, waitNanos, MetricTags.currentStep());
+    }
+
+    /**
+     * 요청 스레드가 아닌 곳(스케줄러 스레드)에서 기록할 때 요청한 Step 이름을 지정
+     */
+    public void recordAcquire(String resource, String mode, boolean acquired, long waitNanos, String step) {
+        String outcome = acquired ? "acquired" : "timeout";
+        Timer.builder("batch.ratelimit.acquire.wait")
+            .description("Rate Limit permit 획득 대기 시간")
+            .tag("resource", resource)
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .tag(MetricTags.STEP, step)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            Counter.builder("batch.ratelimit.timeouts")
+                .description("Rate Limit permit 획득 대기 시간 초과 횟수")
+                .tag("resource", resource)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    public void registerLocalPermits(String resource, IntSupplier localPermits) {
+        Gauge.builder("batch.ratelimit.permits.local", localPermits, IntSupplier::getAsInt)
+            .description("로컬에 임대해 둔 남은 permit 수")
+            .tag("resource", resource)
+            .register(meterRegistry);
+    }
+
+    public void registerLimit(String resource, IntSupplier limit) {
+        Gauge.builder("batch.ratelimit.limit", limit, IntSupplier::getAsInt)
+            .description("현재 윈도우당 허용량")
+            .tag("resource", resource)
+            .register(meterRegistry);
+    }
+
+    public void recordThrottled(String resource) {
+        Counter.builder("batch.ratelimit.throttled")
+            .description("외부 API 제한 응답 횟수")
+            .tag("resource", resource)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,87 @@
+package org.kimprun.batch.common.ratelimit.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD(가산 증가 / 곱셈 감소) 방식 허용량 조절기
+ *
+ * - 제한 응답을 받으면 허용량을 decreaseFactor 배로 줄인다 (decreaseGuard 안의 연속 제한 응답은 한 번만 반영)
+ * - 마지막 감소 후 cooldown 이 지나면 정상 응답이 올 때마다 increaseInterval 간격으로 1씩 최대치까지 늘린다
+ */
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseFactor;
+    private final long increaseIntervalNanos;
+    private final long cooldownNanos;
+    private final long decreaseGuardNanos;
+
+    private int current;
+    private long lastIncreaseNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+
+    public AimdLimit(int minLimit, int maxLimit, double decreaseFactor,
+                     long increaseIntervalMillis, long cooldownMillis, long decreaseGuardMillis) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.decreaseFactor = Math.min(Math.max(decreaseFactor, 0.1), 0.9);
+        this.increaseIntervalNanos = TimeUnit.MILLISECONDS.toNanos(increaseIntervalMillis);
+        this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(cooldownMillis);
+        this.decreaseGuardNanos = TimeUnit.MILLISECONDS.toNanos(decreaseGuardMillis);
+        this.current = this.maxLimit;
+        this.lastIncreaseNanos = System.nanoTime();
+    }
+
+    public synchronized int current() {
+        return current;
+    }
+
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * 정상 응답 반영
+     *
+     * @return 허용량이 바뀌었는지 여부
+     */
+    public synchronized boolean onSuccess() {
+        if (current >= maxLimit) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (decreased && now - lastDecreaseNanos < cooldownNanos) {
+            return false;
+        }
+        if (now - lastIncreaseNanos < increaseIntervalNanos) {
+            return false;
+        }
+        current++;
+        lastIncreaseNanos = now;
+        return true;
+    }
+
+    /**
+     * 제한 응답 반영
+     *
+     * @return 허용량이 바뀌었는지 여부
+     */
+    public synchronized boolean onThrottle() {
+        long now = System.nanoTime();
+        if (decreased && now - lastDecreaseNanos < decreaseGuardNanos) {
+            return false;
+        }
+        decreased = true;
+        lastDecreaseNanos = now;
+        lastIncreaseNanos = now;
+
+        int next = Math.max(minLimit, (int) (current * decreaseFactor));
+        if (next == current) {
+            return false;
+        }
+        current = next;
+        return true;
+    }
+}
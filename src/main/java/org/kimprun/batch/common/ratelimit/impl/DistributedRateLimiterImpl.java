@@ -1,15 +1,23 @@
 package org.kimprun.batch.common.ratelimit.impl;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.ratelimit.CmcPermitOutcome;
 import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
+import org.kimprun.batch.common.ratelimit.RateLimitMetrics;
 import org.kimprun.batch.common.ratelimit.RateLimitResult;
 import org.redisson.api.RRateLimiter;
 import org.redisson.api.RateIntervalUnit;
 import org.redisson.api.RateType;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,68 +25,303 @@ import java.util.concurrent.TimeUnit;
  *
  * 기존의 복잡한 Lua 스크립트 대신 Redisson의 RRateLimiter를 사용하여
  * 간단하고 안정적인 Rate Limiting 기능을 제공
+ *
+ * CMC API 는 호출마다 Redis 를 거치지 않도록 LeasedPermitBucket 으로 permit 을 묶음 임대하여 사용
+ * - 요청 수 허용량은 제한 응답(429 / status.error_code)에 따라 AIMD 로 조절
+ * - ratelimit.cmc.credit-limit 설정 시 호출 비용(크레딧)만큼 별도 크레딧 예산에서도 차감
+ * - 요청 클래스별 할당량은 클래스마다 별도 버킷으로 관리 (CmcRequestScheduler)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedRateLimiterImpl implements DistributedRateLimiter {
 
+    private static final String RATE_LIMIT_KEY_PREFIX = "kimprun:ratelimit:";
+    private static final String CMC_API_RESOURCE = "cmc-api";
+    private static final String CMC_CREDIT_RESOURCE = "cmc-credit";
+
     private final RedissonClient redissonClient;
     private final String serverInstanceId;
+    private final RateLimitMetrics rateLimitMetrics;
 
     // 로컬 멀티스레드 간 Redis 접근 직렬화용 락
     private final Object rateLimitLock = new Object();
 
+    // CMC API 윈도우당 최대 허용 요청 수 (부하 테스트 등에서 상향할 때만 변경)
+    @Value("${ratelimit.cmc.limit:" + CMC_API_LIMIT + "}")
+    private int cmcApiLimit;
+
+    // 제한 응답으로 줄어들 수 있는 최소 허용 요청 수
+    @Value("${ratelimit.cmc.min-limit:5}")
+    private int cmcApiMinLimit;
+
+    // 제한 응답 시 허용량 감소 비율
+    @Value("${ratelimit.cmc.decrease-factor:0.5}")
+    private double cmcDecreaseFactor;
+
+    // 허용량을 1씩 다시 늘리는 최소 간격 (ms)
+    @Value("${ratelimit.cmc.increase-interval-ms:2000}")
+    private long cmcIncreaseIntervalMs;
+
+    // Retry-After 가 없는 제한 응답 시 호출 중단 시간 (초)
+    @Value("${ratelimit.cmc.throttle-pause-seconds:15}")
+    private int cmcThrottlePauseSeconds;
+
+    // 크레딧 예산 (윈도우당 크레딧, 0 이면 크레딧 예산 미사용)
+    @Value("${ratelimit.cmc.credit-limit:0}")
+    private int cmcCreditLimit;
+
+    // 크레딧 예산 윈도우 (초, 기본 1일)
+    @Value("${ratelimit.cmc.credit-window-seconds:86400}")
+    private int cmcCreditWindowSeconds;
+
+    // CMC API permit 을 Redis 에서 한 번에 임대하는 개수
+    @Value("${ratelimit.cmc.lease-batch-size:5}")
+    private int cmcLeaseBatchSize;
+
+    // 임대한 permit 의 로컬 사용 기한 (초, 기한이 지나면 반납)
+    @Value("${ratelimit.cmc.lease-ttl-seconds:10}")
+    private int cmcLeaseTtlSeconds;
+
+    private LeasedPermitBucket cmcPermitBucket;
+    private AimdLimit cmcApiAimdLimit;
+
+    // 크레딧 예산 미사용 시 null
+    private LeasedPermitBucket cmcCreditBucket;
+
+    // 요청 클래스별 할당량 버킷 (처음 요청할 때 생성)
+    private final Map<String, LeasedPermitBucket> cmcQuotaBuckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initCmcPermitBucket() {
+        cmcPermitBucket = new LeasedPermitBucket(redissonClient, RATE_LIMIT_KEY_PREFIX + CMC_API_RESOURCE,
+            serverInstanceId, cmcApiLimit, CMC_API_WINDOW_SECONDS, cmcLeaseBatchSize, cmcLeaseTtlSeconds);
+        // 감소 후 한 윈도우 동안은 늘리지 않고, 중단 시간 안에 도착한 제한 응답은 같은 제한으로 보고 한 번만 줄임
+        cmcApiAimdLimit = new AimdLimit(cmcApiMinLimit, cmcApiLimit, cmcDecreaseFactor, cmcIncreaseIntervalMs,
+            TimeUnit.SECONDS.toMillis(CMC_API_WINDOW_SECONDS), TimeUnit.SECONDS.toMillis(cmcThrottlePauseSeconds));
+        log.info("CMC API permit 임대 버킷 초기화 - 서버: {}, 임대 단위: {}, 임대 기한: {}초, 허용량: {}~{}",
+            serverInstanceId, cmcLeaseBatchSize, cmcLeaseTtlSeconds, cmcApiMinLimit, cmcApiLimit);
+        rateLimitMetrics.registerLocalPermits(CMC_API_RESOURCE, cmcPermitBucket::localAvailable);
+        rateLimitMetrics.registerLimit(CMC_API_RESOURCE, cmcPermitBucket::getLimit);
+
+        if (cmcCreditLimit > 0) {
+            // 크레딧은 호출당 최대 수십 개씩 쓰므로 한 번에 listings 한 페이지(25) 분량을 임대
+            cmcCreditBucket = new LeasedPermitBucket(redissonClient, RATE_LIMIT_KEY_PREFIX + CMC_CREDIT_RESOURCE,
+                serverInstanceId, cmcCreditLimit, cmcCreditWindowSeconds, 25, cmcLeaseTtlSeconds);
+            log.info("CMC API 크레딧 예산 초기화 - 서버: {}, 예산: {} credits/{}초",
+                serverInstanceId, cmcCreditLimit, cmcCreditWindowSeconds);
+            rateLimitMetrics.registerLocalPermits(CMC_CREDIT_RESOURCE, cmcCreditBucket::localAvailable);
+        }
+    }
+
+    /**
+     * 종료 시 사용하지 않은 임대 permit 반납
+     */
+    @PreDestroy
+    public void releaseCmcPermits() {
+        try {
+            long released = cmcPermitBucket.releaseAll();
+            if (cmcCreditBucket != null) {
+                cmcCreditBucket.releaseAll();
+            }
+            for (LeasedPermitBucket quotaBucket : cmcQuotaBuckets.values()) {
+                quotaBucket.releaseAll();
+            }
+            log.info("CMC API 미사용 permit 반납 완료 - 서버: {}, 반납: {}", serverInstanceId, released);
+        } catch (Exception e) {
+            log.warn("CMC API 미사용 permit 반납 실패 - 서버: {} (임대 기한 경과 후 자동 회수)", serverInstanceId, e);
+        }
+    }
+
     /**
      * CoinMarketCap API Rate Limiter (동시성 보장)
+     * 로컬 임대 permit 을 먼저 사용하고, 비었을 때만 Redis 에서 묶음 임대
      *
      * @return {허용여부, 남은요청수}
      */
     @Override
     public RateLimitResult tryAcquireCmcApiLimit() {
-        return tryAcquireWithRetry("cmc-api", 30, 60, 3); // 1분당 30회, 최대 3회 재시도
+        if (cmcPermitBucket.tryAcquire()) {
+            return new RateLimitResult(true, cmcPermitBucket.localAvailable(), cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+        }
+
+        log.warn("CMC API Rate Limit 초과 - 서버: {}, 제한: {} requests/{}초",
+            serverInstanceId, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+        return new RateLimitResult(false, 0, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
     }
 
     /**
-     * CoinMarketCap API Rate Limiter (blocking)
+     * CoinMarketCap API Rate Limiter (blocking, 크레딧 가중)
      * permit이 사용 가능해질 때까지 최대 timeout만큼 대기
+     * 로컬 임대 permit 은 lock-free 로 꺼내 쓰므로 스레드 간 직렬화가 필요 없음
+     * 크레딧은 요청 permit 을 얻은 뒤 남은 대기 시간 안에서 획득 (크레딧을 얻지 못하면 요청 permit 은 되돌림)
      *
      * @param timeoutSeconds 최대 대기 시간 (초)
+     * @param credits 호출 예상 크레딧
      * @return {허용여부, 남은요청수}
      */
     @Override
-    public RateLimitResult tryAcquireCmcApiLimitBlocking(long timeoutSeconds) {
-        String rateLimiterKey = "kimprun:ratelimit:cmc-api";
-        int limit = 30;
-        int windowSeconds = 60;
+    public RateLimitResult tryAcquireCmcApiLimitBlocking(long timeoutSeconds, int credits) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        LeasedPermitBucket.Reservation requestPermit = cmcPermitBucket.reserve(1, timeoutSeconds, TimeUnit.SECONDS);
+        boolean acquired = requestPermit != null && acquireCredits(requestPermit, credits,
+            cmcCreditBucket == null || cmcCreditBucket.acquire(credits, deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS));
+        rateLimitMetrics.recordAcquire(CMC_API_RESOURCE, RateLimitMetrics.MODE_BLOCKING, acquired, System.nanoTime() - startNanos);
+
+        if (acquired) {
+            int localPermits = cmcPermitBucket.localAvailable();
+            log.debug("CMC API Rate Limit 통과 (blocking) - 서버: {}, 로컬 임대 permits: {}",
+                serverInstanceId, localPermits);
+            return new RateLimitResult(true, localPermits, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+        }
 
-        // 로컬 멀티스레드 간 Redis 접근 직렬화 (네트워크 레이턴시 race condition 방지)
-        synchronized (rateLimitLock) {
-            try {
-                RRateLimiter rateLimiter = redissonClient.getRateLimiter(rateLimiterKey);
+        log.error("CMC API Rate Limit 타임아웃 - 서버: {}, 대기시간: {}초 초과, 크레딧: {}",
+            serverInstanceId, timeoutSeconds, credits);
+        return new RateLimitResult(false, 0, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+    }
 
-                // Rate Limiter 설정 (초기화는 한 번만 수행됨)
-                rateLimiter.trySetRate(RateType.OVERALL, limit, windowSeconds, RateIntervalUnit.SECONDS);
+    /**
+     * CoinMarketCap API Rate Limiter (non-blocking, 크레딧 가중)
+     * 로컬 permit 이 없으면 Redis 임대와 재시도 대기를 모두 비동기로 처리
+     *
+     * @param timeoutSeconds 최대 대기 시간 (초)
+     * @param credits 호출 예상 크레딧
+     * @return {허용여부, 남은요청수} Future
+     */
+    @Override
+    public CompletableFuture<RateLimitResult> acquireCmcApiLimitAsync(long timeoutSeconds, int credits) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        return cmcPermitBucket.reserveAsync(1, timeoutSeconds, TimeUnit.SECONDS)
+            .thenCompose(requestPermit -> requestPermit == null || cmcCreditBucket == null
+                ? CompletableFuture.completedFuture(requestPermit != null)
+                : cmcCreditBucket.acquireAsync(credits, deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+                    .handle((creditsAcquired, e) -> acquireCredits(requestPermit, credits, e == null && creditsAcquired)))
+            .thenApply(acquired -> {
+                rateLimitMetrics.recordAcquire(CMC_API_RESOURCE, RateLimitMetrics.MODE_ASYNC, acquired, System.nanoTime() - startNanos);
+                if (!acquired) {
+                    log.error("CMC API Rate Limit 타임아웃 (async) - 서버: {}, 대기시간: {}초 초과, 크레딧: {}",
+                        serverInstanceId, timeoutSeconds, credits);
+                    return new RateLimitResult(false, 0, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+                }
+                return new RateLimitResult(true, cmcPermitBucket.localAvailable(), cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+            });
+    }
 
-                // permit이 사용 가능해질 때까지 blocking (최대 timeoutSeconds 대기)
-                boolean acquired = rateLimiter.tryAcquire(1, timeoutSeconds, TimeUnit.SECONDS);
+    /**
+     * 크레딧 획득에 실패하면 먼저 얻은 요청 permit 을 되돌려 요청 수 예산이 새지 않게 함
+     *
+     * @return 크레딧 획득 여부
+     */
+    private boolean acquireCredits(LeasedPermitBucket.Reservation requestPermit, int credits, boolean creditsAcquired) {
+        if (!creditsAcquired) {
+            requestPermit.cancel();
+            log.warn("CMC API 크레딧 부족 - 서버: {}, 크레딧: {}, 요청 permit 반환", serverInstanceId, credits);
+        }
+        return creditsAcquired;
+    }
 
-                if (acquired) {
-                    long remainingPermits = rateLimiter.availablePermits();
-                    log.info("CMC API Rate Limit 통과 (blocking) - 서버: {}, 남은 permits: {}/{}",
-                        serverInstanceId, remainingPermits, limit);
-                    return new RateLimitResult(true, remainingPermits, limit, windowSeconds);
-                } else {
-                    log.error("CMC API Rate Limit 타임아웃 - 서버: {}, 대기시간: {}초 초과",
-                        serverInstanceId, timeoutSeconds);
-                    return new RateLimitResult(false, 0, limit, windowSeconds);
-                }
+    /**
+     * CoinMarketCap API permit 즉시 획득 (요청 permit → 클래스 할당량 → 크레딧 순, 하나라도 실패하면 앞서 얻은 permit 을 되돌림)
+     * 할당량은 현재 허용량(AIMD 조절)을 따라가도록 호출할 때마다 다시 계산
+     *
+     * @param requestClass 요청 클래스
+     * @param quotaPercent 허용량 대비 할당 비율 (100 이상이면 제한 없음)
+     * @param credits 호출 예상 크레딧
+     * @return 획득 결과
+     */
+    @Override
+    public CmcPermitOutcome tryAcquireCmcApiPermit(String requestClass, int quotaPercent, int credits) {
+        LeasedPermitBucket.Reservation requestPermit = cmcPermitBucket.reserve(1, 0L, TimeUnit.MILLISECONDS);
+        if (requestPermit == null) {
+            return CmcPermitOutcome.BUDGET_EXHAUSTED;
+        }
 
-            } catch (Exception e) {
-                log.error("CMC API Rate Limit (blocking) 확인 중 오류 발생 - 서버: {}",
-                    serverInstanceId, e);
-                return new RateLimitResult(false, 0, limit, windowSeconds);
+        LeasedPermitBucket.Reservation quotaPermit = null;
+        if (quotaPercent < 100) {
+            int quota = Math.max(1, cmcPermitBucket.getLimit() * quotaPercent / 100);
+            LeasedPermitBucket quotaBucket = cmcQuotaBuckets.computeIfAbsent(requestClass, key -> new LeasedPermitBucket(
+                redissonClient, RATE_LIMIT_KEY_PREFIX + CMC_API_RESOURCE + ":" + key, serverInstanceId,
+                quota, CMC_API_WINDOW_SECONDS, cmcLeaseBatchSize, cmcLeaseTtlSeconds));
+            quotaBucket.setLimit(quota);
+            quotaPermit = quotaBucket.reserve(1, 0L, TimeUnit.MILLISECONDS);
+            if (quotaPermit == null) {
+                requestPermit.cancel();
+                return CmcPermitOutcome.QUOTA_EXHAUSTED;
+            }
+        }
+
+        if (cmcCreditBucket != null && !cmcCreditBucket.tryAcquire(credits)) {
+            requestPermit.cancel();
+            if (quotaPermit != null) {
+                quotaPermit.cancel();
             }
+            return CmcPermitOutcome.BUDGET_EXHAUSTED;
+        }
+        return CmcPermitOutcome.ACQUIRED;
+    }
+
+    /**
+     * 요청 수 / 크레딧 버킷 중 늦게 임대 가능해지는 쪽 기준
+     */
+    @Override
+    public long getCmcApiRetryDelayMillis() {
+        long nanos = cmcPermitBucket.nanosUntilRefill();
+        if (cmcCreditBucket != null) {
+            nanos = Math.max(nanos, cmcCreditBucket.nanosUntilRefill());
+        }
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public int getCmcApiLocalPermits() {
+        return cmcPermitBucket.localAvailable();
+    }
+
+    /**
+     * CoinMarketCap API 정상 응답 반영
+     * 허용량을 한 단계 늘리고, 실제 소모 크레딧이 예상보다 많으면 차이만큼 크레딧 예산에서 즉시 차감 (남은 예산이 부족하면 생략)
+     *
+     * @param estimatedCredits 획득 시 사용한 예상 크레딧
+     * @param actualCredits 응답 status.credit_count (없으면 null)
+     */
+    @Override
+    public void onCmcApiSuccess(int estimatedCredits, Long actualCredits) {
+        if (cmcApiAimdLimit.onSuccess()) {
+            cmcPermitBucket.setLimit(cmcApiAimdLimit.current());
+            log.debug("CMC API 허용량 증가 - 서버: {}, 허용량: {}/{}",
+                serverInstanceId, cmcApiAimdLimit.current(), cmcApiAimdLimit.maxLimit());
+        }
+
+        if (cmcCreditBucket != null && actualCredits != null && actualCredits > estimatedCredits) {
+            int extra = (int) Math.min(Integer.MAX_VALUE, actualCredits - estimatedCredits);
+            if (!cmcCreditBucket.tryAcquire(extra)) {
+                log.debug("CMC API 초과 크레딧 차감 생략 - 서버: {}, 예상: {}, 실제: {}",
+                    serverInstanceId, estimatedCredits, actualCredits);
+            }
+        }
+    }
+
+    /**
+     * CoinMarketCap API 제한 응답 반영
+     * 이 서버의 호출을 중단 시간 동안 멈추고 (로컬 임대 permit 반납) 허용량을 줄임
+     *
+     * @param retryAfterMillis 재시도까지 대기 시간 (모르면 0 → 기본 중단 시간)
+     */
+    @Override
+    public void onCmcApiThrottled(long retryAfterMillis) {
+        long pauseMillis = retryAfterMillis > 0 ? retryAfterMillis : TimeUnit.SECONDS.toMillis(cmcThrottlePauseSeconds);
+        cmcPermitBucket.pause(pauseMillis, TimeUnit.MILLISECONDS);
+        rateLimitMetrics.recordThrottled(CMC_API_RESOURCE);
+
+        if (cmcApiAimdLimit.onThrottle()) {
+            cmcPermitBucket.setLimit(cmcApiAimdLimit.current());
+            log.warn("CMC API 제한 응답 - 서버: {}, {}ms 호출 중단, 허용량 감소: {}/{}",
+                serverInstanceId, pauseMillis, cmcApiAimdLimit.current(), cmcApiAimdLimit.maxLimit());
+        } else {
+            log.warn("CMC API 제한 응답 - 서버: {}, {}ms 호출 중단, 허용량: {}/{}",
+                serverInstanceId, pauseMillis, cmcApiAimdLimit.current(), cmcApiAimdLimit.maxLimit());
         }
     }
 
@@ -136,7 +379,13 @@ public class DistributedRateLimiterImpl implements DistributedRateLimiter {
      */
     @Override
     public RateLimitResult checkCmcApiLimit() {
-        return checkRateLimit("cmc-api", 30, 60);
+        try {
+            long availablePermits = cmcPermitBucket.localAvailable() + cmcPermitBucket.globalAvailable();
+            return new RateLimitResult(availablePermits > 0, availablePermits, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+        } catch (Exception e) {
+            log.error("CMC API Rate Limit 상태 확인 중 오류 발생", e);
+            return new RateLimitResult(false, 0, cmcPermitBucket.getLimit(), CMC_API_WINDOW_SECONDS);
+        }
     }
 
     /**
@@ -256,6 +505,12 @@ public class DistributedRateLimiterImpl implements DistributedRateLimiter {
 
             // Rate Limiter 삭제
             rateLimiter.delete();
+            if (CMC_API_RESOURCE.equals(resource)) {
+                cmcPermitBucket.reset();
+                cmcQuotaBuckets.values().forEach(LeasedPermitBucket::reset);
+            } else if (CMC_CREDIT_RESOURCE.equals(resource) && cmcCreditBucket != null) {
+                cmcCreditBucket.reset();
+            }
 
             log.info("Rate Limit 초기화 완료 - 서버: {}, 리소스: {}", serverInstanceId, resource);
 
@@ -0,0 +1,538 @@
+package org.kimprun.batch.common.ratelimit.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Redis 전역 예산에서 permit 을 묶음으로 임대(lease)해 두고 로컬에서 lock-free 로 나눠주는 버킷
+ *
+ * - 로컬 permit 이 남아 있으면 Redis 호출 없이 큐에서 꺼내 사용한다
+ * - 비었을 때만 한 스레드(CAS)가 Lua 스크립트 한 번으로 최대 leaseBatchSize 개를 임대한다
+ * - 임대 permit 은 Redis 에 "임대 시각 + leaseTtl" 점수로 기록되고, 로컬에서는 leaseTtl 안에만 사용한다.
+ *   따라서 실제 호출 시각이 항상 기록 점수 이전이 되어, 여러 인스턴스가 나눠 가져도
+ *   임의의 windowSeconds 구간에서 limit 을 넘지 않는다 (sliding log)
+ * - 사용하지 않고 만료된 permit 과 종료 시 남은 permit 은 Redis 에 반납한다
+ * - 한 번에 여러 permit 을 가중치로 획득할 수 있고 (CMC 크레딧), limit 은 실행 중 조절되며 (AIMD),
+ *   제한 응답을 받으면 일정 시간 임대와 사용을 모두 멈춘다
+ * - reserve 로 획득한 permit 은 다른 예산 획득에 실패했을 때 cancel 로 로컬에 되돌릴 수 있다
+ *
+ * RRateLimiter 는 획득한 permit 을 되돌리는 API 가 없어 반납이 가능한 sorted set 기반 스크립트로 구현했다.
+ */
+@Slf4j
+public class LeasedPermitBucket {
+
+    /**
+     * KEYS[1]: 임대 기록 (sorted set, score = 사용 가능 기한), KEYS[2]: 임대 번호 시퀀스
+     * ARGV: limit, windowMillis, leaseTtlMillis, 요청 수, 최소 임대 수, 소유자 ID, 반납할 member...
+     * 반환: {임대 수, 마지막 시퀀스} 또는 {0, 재시도까지 남은 ms} (최소 임대 수만큼 남아 있지 않으면 임대하지 않음)
+     */
+    private static final String LEASE_SCRIPT = """
+        local t = redis.call('TIME')
+        local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+        local limit = tonumber(ARGV[1])
+        local windowMs = tonumber(ARGV[2])
+        local ttlMs = tonumber(ARGV[3])
+        local minGrant = tonumber(ARGV[5])
+        if #ARGV > 6 then
+            redis.call('ZREM', KEYS[1], unpack(ARGV, 7))
+        end
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - windowMs)
+        local available = limit - redis.call('ZCARD', KEYS[1])
+        if available < minGrant then
+            -- minGrant 개가 비려면 오래된 순으로 (minGrant - available) 번째 기록까지 만료되어야 함
+            local index = minGrant - available - 1
+            local entry = redis.call('ZRANGE', KEYS[1], index, index, 'WITHSCORES')
+            local retryMs = windowMs
+            if entry[2] then
+                retryMs = math.max(1, tonumber(entry[2]) + windowMs - now + 1)
+            end
+            return {0, retryMs}
+        end
+        local grant = math.min(tonumber(ARGV[4]), available)
+        local seq = redis.call('INCRBY', KEYS[2], grant)
+        for i = seq - grant + 1, seq do
+            redis.call('ZADD', KEYS[1], now + ttlMs, ARGV[6] .. ':' .. i)
+        end
+        redis.call('PEXPIRE', KEYS[1], windowMs + ttlMs)
+        return {grant, seq}
+        """;
+
+    /**
+     * KEYS[1]: 임대 기록, ARGV: 반납할 member...
+     */
+    private static final String RELEASE_SCRIPT = """
+        return redis.call('ZREM', KEYS[1], unpack(ARGV))
+        """;
+
+    /**
+     * KEYS[1]: 임대 기록, ARGV: limit, windowMillis
+     * 반환: 전역 예산에서 아직 임대되지 않은 permit 수
+     */
+    private static final String AVAILABLE_SCRIPT = """
+        local t = redis.call('TIME')
+        local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+        local used = redis.call('ZCOUNT', KEYS[1], '(' .. (now - tonumber(ARGV[2])), '+inf')
+        return math.max(0, tonumber(ARGV[1]) - used)
+        """;
+
+    // 로컬 사용 기한을 Redis 기록보다 앞당겨 HTTP 요청 전송까지의 지연을 흡수
+    private static final long LEASE_SAFETY_MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    // 다른 스레드가 임대 중일 때 대기 간격
+    private static final long REFILL_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    // Redis 오류 시 재시도 간격
+    private static final long ERROR_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RScript script;
+    private final List<Object> keys;
+    private final String ownerId;
+    private final long windowMillis;
+    private final long leaseTtlMillis;
+    private final int leaseBatchSize;
+
+    private final ConcurrentLinkedQueue<Lease> leases = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> expiredLeases = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    // 윈도우당 허용 permit 수 (AIMD 로 조절)
+    private volatile int limit;
+
+    // 전역 예산이 소진되었을 때 다음 임대 시도 가능 시각 (System.nanoTime 기준)
+    private volatile long nextRefillAtNanos;
+
+    // 제한 응답 후 임대 / 사용을 멈추는 기한 (System.nanoTime 기준)
+    private volatile long pausedUntilNanos;
+
+    public LeasedPermitBucket(RedissonClient redissonClient, String key, String ownerId,
+                              int limit, int windowSeconds, int leaseBatchSize, int leaseTtlSeconds) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+        // 같은 hash slot 에 두기 위해 hash tag 사용
+        this.keys = List.of("{" + key + "}:leases", "{" + key + "}:seq");
+        this.ownerId = ownerId;
+        this.limit = Math.max(1, limit);
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.leaseTtlMillis = TimeUnit.SECONDS.toMillis(Math.max(1, leaseTtlSeconds));
+        this.leaseBatchSize = Math.max(1, leaseBatchSize);
+        this.nextRefillAtNanos = System.nanoTime();
+        this.pausedUntilNanos = nextRefillAtNanos;
+    }
+
+    /**
+     * 윈도우당 허용 permit 수 변경 (이미 임대한 permit 은 그대로 사용)
+     */
+    public void setLimit(int limit) {
+        this.limit = Math.max(1, limit);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 제한 응답을 받았을 때 duration 동안 임대와 로컬 permit 사용을 멈춤
+     * 로컬에 남은 permit 은 다음 임대 때 Redis 에 반납한다
+     */
+    public void pause(long duration, TimeUnit unit) {
+        long until = System.nanoTime() + unit.toNanos(duration);
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+        if (until - nextRefillAtNanos > 0) {
+            nextRefillAtNanos = until;
+        }
+        Lease lease;
+        while ((lease = leases.poll()) != null) {
+            expiredLeases.add(lease.member);
+        }
+    }
+
+    /**
+     * permit 1개 즉시 획득 시도 (로컬에 없으면 Redis 임대 1회 시도)
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * permits 개 즉시 획득 시도
+     *
+     * @param permits 획득할 permit 수 (limit 보다 크면 limit 개)
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(int permits) {
+        return acquire(permits, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * permit 1개 획득 (최대 timeout 만큼 대기)
+     *
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부
+     */
+    public boolean acquire(long timeout, TimeUnit unit) {
+        return acquire(1, timeout, unit);
+    }
+
+    /**
+     * permits 개 획득 (최대 timeout 만큼 대기, 일부만 획득한 상태로 반환하지 않음)
+     *
+     * @param permits 획득할 permit 수 (limit 보다 크면 limit 개)
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부
+     */
+    public boolean acquire(int permits, long timeout, TimeUnit unit) {
+        return reserve(permits, timeout, unit) != null;
+    }
+
+    /**
+     * permits 개 획득 후 되돌릴 수 있는 예약으로 반환 (최대 timeout 만큼 대기)
+     *
+     * @param permits 획득할 permit 수 (limit 보다 크면 limit 개)
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득한 permit 예약 (획득 실패 시 null)
+     */
+    public Reservation reserve(int permits, long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (true) {
+            int required = requiredPermits(permits);
+            List<Lease> taken = pollLocal(required);
+            if (taken != null) {
+                return new Reservation(taken);
+            }
+
+            long now = System.nanoTime();
+            if (now - nextRefillAtNanos >= 0 && refilling.compareAndSet(false, true)) {
+                try {
+                    refill(required);
+                } finally {
+                    refilling.set(false);
+                }
+                taken = pollLocal(required);
+                if (taken != null) {
+                    return new Reservation(taken);
+                }
+                now = System.nanoTime();
+            }
+
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return null;
+            }
+
+            long untilRefill = nextRefillAtNanos - now;
+            LockSupport.parkNanos(Math.min(remaining, Math.max(untilRefill, REFILL_WAIT_NANOS)));
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * permit 1개 비동기 획득 (대기 중에도 스레드를 점유하지 않음)
+     *
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부 Future
+     */
+    public CompletableFuture<Boolean> acquireAsync(long timeout, TimeUnit unit) {
+        return acquireAsync(1, timeout, unit);
+    }
+
+    /**
+     * permits 개 비동기 획득
+     *
+     * @param permits 획득할 permit 수 (limit 보다 크면 limit 개)
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부 Future
+     */
+    public CompletableFuture<Boolean> acquireAsync(int permits, long timeout, TimeUnit unit) {
+        return reserveAsync(permits, timeout, unit).thenApply(Objects::nonNull);
+    }
+
+    /**
+     * reserve 의 비동기 버전
+     *
+     * @return 획득한 permit 예약 Future (획득 실패 시 null)
+     */
+    public CompletableFuture<Reservation> reserveAsync(int permits, long timeout, TimeUnit unit) {
+        return reserveAsync(permits, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    private CompletableFuture<Reservation> reserveAsync(int permits, long deadline) {
+        int required = requiredPermits(permits);
+        List<Lease> taken = pollLocal(required);
+        if (taken != null) {
+            return CompletableFuture.completedFuture(new Reservation(taken));
+        }
+
+        if (System.nanoTime() - nextRefillAtNanos >= 0 && refilling.compareAndSet(false, true)) {
+            return refillAsync(required)
+                .whenComplete((ignored, e) -> refilling.set(false))
+                .thenCompose(ignored -> {
+                    List<Lease> refilled = pollLocal(required);
+                    return refilled != null
+                        ? CompletableFuture.completedFuture(new Reservation(refilled))
+                        : retryAsyncLater(permits, deadline);
+                });
+        }
+        return retryAsyncLater(permits, deadline);
+    }
+
+    private CompletableFuture<Reservation> retryAsyncLater(int permits, long deadline) {
+        long now = System.nanoTime();
+        long remaining = deadline - now;
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long delay = Math.min(remaining, Math.max(nextRefillAtNanos - now, REFILL_WAIT_NANOS));
+        Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+        return CompletableFuture.supplyAsync(() -> deadline, delayed)
+            .thenCompose(ignored -> reserveAsync(permits, deadline));
+    }
+
+    /**
+     * 로컬에 남아 있는 사용 가능한 permit 수
+     */
+    public int localAvailable() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (Lease lease : leases) {
+            if (lease.expiresAtNanos - now > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 다음 임대를 시도할 수 있을 때까지 남은 시간 (ns, 전역 예산 소진 / 호출 중단 기준, 지금 가능하면 0)
+     */
+    public long nanosUntilRefill() {
+        long now = System.nanoTime();
+        return Math.max(0L, Math.max(nextRefillAtNanos - now, pausedUntilNanos - now));
+    }
+
+    /**
+     * 전역 예산에서 아직 임대되지 않은 permit 수 (Redis 조회)
+     */
+    public long globalAvailable() {
+        Long available = script.eval(RScript.Mode.READ_ONLY, AVAILABLE_SCRIPT,
+            RScript.ReturnType.INTEGER, keys.subList(0, 1), String.valueOf(limit), String.valueOf(windowMillis));
+        return available == null ? 0L : available;
+    }
+
+    /**
+     * 사용하지 않은 로컬 permit 을 모두 Redis 에 반납 (종료 시 호출)
+     *
+     * @return 반납한 permit 수
+     */
+    public long releaseAll() {
+        List<String> members = new ArrayList<>();
+        drainTo(members);
+        Lease lease;
+        while ((lease = leases.poll()) != null) {
+            members.add(lease.member);
+        }
+        if (members.isEmpty()) {
+            return 0L;
+        }
+
+        Long released = script.eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+            RScript.ReturnType.INTEGER, keys.subList(0, 1), members.toArray());
+        return released == null ? 0L : released;
+    }
+
+    /**
+     * 로컬 permit 과 Redis 임대 기록 초기화 (긴급상황용)
+     */
+    public void reset() {
+        leases.clear();
+        expiredLeases.clear();
+        nextRefillAtNanos = System.nanoTime();
+        pausedUntilNanos = nextRefillAtNanos;
+        script.eval(RScript.Mode.READ_WRITE, "return redis.call('DEL', KEYS[1], KEYS[2])",
+            RScript.ReturnType.INTEGER, keys);
+    }
+
+    private int requiredPermits(int permits) {
+        return Math.max(1, Math.min(permits, limit));
+    }
+
+    /**
+     * 로컬 큐에서 유효한 permit permits 개 꺼내기 (만료된 permit 은 다음 임대 때 반납)
+     * 모자라면 꺼낸 permit 을 다시 넣고 실패 처리한다
+     *
+     * @return 꺼낸 permit (실패 시 null)
+     */
+    private List<Lease> pollLocal(int permits) {
+        if (System.nanoTime() - pausedUntilNanos < 0) {
+            return null;
+        }
+
+        List<Lease> taken = new ArrayList<>(permits);
+        Lease lease;
+        while (taken.size() < permits && (lease = leases.poll()) != null) {
+            if (lease.expiresAtNanos - System.nanoTime() > 0) {
+                taken.add(lease);
+            } else {
+                expiredLeases.add(lease.member);
+            }
+        }
+        if (taken.size() == permits) {
+            return taken;
+        }
+        leases.addAll(taken);
+        return null;
+    }
+
+    /**
+     * Redis 에서 permit 묶음 임대 (만료 permit 반납과 한 번의 스크립트 호출로 처리)
+     *
+     * @param required 이번 획득에 필요한 permit 수 (이보다 적게 남아 있으면 임대하지 않음)
+     */
+    private void refill(int required) {
+        List<String> expired = new ArrayList<>();
+        drainTo(expired);
+
+        long sentAtNanos = System.nanoTime();
+        try {
+            List<Long> result = script.eval(RScript.Mode.READ_WRITE, LEASE_SCRIPT,
+                RScript.ReturnType.MULTI, keys, leaseArgs(expired, required));
+            applyLeaseResult(result, expired, sentAtNanos);
+        } catch (Exception e) {
+            handleLeaseFailure(expired, e);
+        }
+    }
+
+    /**
+     * refill 의 비동기 버전 (호출 스레드를 점유하지 않음)
+     */
+    private CompletableFuture<Void> refillAsync(int required) {
+        List<String> expired = new ArrayList<>();
+        drainTo(expired);
+
+        long sentAtNanos = System.nanoTime();
+        try {
+            return script.<List<Long>>evalAsync(RScript.Mode.READ_WRITE, LEASE_SCRIPT,
+                    RScript.ReturnType.MULTI, keys, leaseArgs(expired, required))
+                .toCompletableFuture()
+                .handle((result, e) -> {
+                    if (e != null) {
+                        handleLeaseFailure(expired, e);
+                    } else {
+                        applyLeaseResult(result, expired, sentAtNanos);
+                    }
+                    return null;
+                });
+        } catch (Exception e) {
+            handleLeaseFailure(expired, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private Object[] leaseArgs(List<String> expired, int required) {
+        int currentLimit = limit;
+        List<Object> args = new ArrayList<>(6 + expired.size());
+        args.add(String.valueOf(currentLimit));
+        args.add(String.valueOf(windowMillis));
+        args.add(String.valueOf(leaseTtlMillis));
+        args.add(String.valueOf(Math.max(required, Math.min(leaseBatchSize, currentLimit))));
+        args.add(String.valueOf(required));
+        args.add(ownerId);
+        args.addAll(expired);
+        return args.toArray();
+    }
+
+    private void applyLeaseResult(List<Long> result, List<String> expired, long sentAtNanos) {
+        long granted = result.get(0);
+        if (granted > 0) {
+            long lastSeq = result.get(1);
+            long expiresAtNanos = sentAtNanos + TimeUnit.MILLISECONDS.toNanos(leaseTtlMillis) - LEASE_SAFETY_MARGIN_NANOS;
+            for (long seq = lastSeq - granted + 1; seq <= lastSeq; seq++) {
+                leases.add(new Lease(ownerId + ":" + seq, expiresAtNanos));
+            }
+            nextRefillAtNanos = notBeforePause(System.nanoTime());
+            log.debug("Rate Limit permit 임대 - 소유자: {}, 임대: {}, 반납: {}", ownerId, granted, expired.size());
+        } else {
+            nextRefillAtNanos = notBeforePause(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(result.get(1)));
+            log.debug("Rate Limit 전역 예산 소진 - 소유자: {}, 재시도까지: {}ms", ownerId, result.get(1));
+        }
+    }
+
+    private void handleLeaseFailure(List<String> expired, Throwable e) {
+        // 반납하지 못한 permit 은 다음 임대 때 다시 반납 시도
+        expiredLeases.addAll(expired);
+        nextRefillAtNanos = notBeforePause(System.nanoTime() + ERROR_BACKOFF_NANOS);
+        log.error("Rate Limit permit 임대 중 오류 발생 - 소유자: {}", ownerId, e);
+    }
+
+    private long notBeforePause(long nanos) {
+        long pausedUntil = pausedUntilNanos;
+        return nanos - pausedUntil < 0 ? pausedUntil : nanos;
+    }
+
+    private void drainTo(List<String> target) {
+        String member;
+        while ((member = expiredLeases.poll()) != null) {
+            target.add(member);
+        }
+    }
+
+    private record Lease(String member, long expiresAtNanos) {
+    }
+
+    /**
+     * 획득한 permit 묶음 (함께 필요한 다른 예산을 얻지 못하면 cancel 로 되돌림)
+     */
+    public final class Reservation {
+
+        private final List<Lease> taken;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        private Reservation(List<Lease> taken) {
+            this.taken = taken;
+        }
+
+        public int permits() {
+            return taken.size();
+        }
+
+        /**
+         * 사용하지 않은 permit 을 로컬 버킷에 되돌림 (기한이 지난 permit 은 다음 임대 때 반납, 중복 호출은 무시)
+         */
+        public void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            long now = System.nanoTime();
+            for (Lease lease : taken) {
+                if (lease.expiresAtNanos - now > 0) {
+                    leases.add(lease);
+                } else {
+                    expiredLeases.add(lease.member);
+                }
+            }
+        }
+    }
+}
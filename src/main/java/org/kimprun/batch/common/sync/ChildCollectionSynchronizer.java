@@ -0,0 +1,104 @@
+package org.kimprun.batch.common.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 1:N 자식 테이블 diff 동기화
+ *
+ * 부모 ID 묶음의 기존 자식 행을 쿼리 1회로 읽어 메모리에서 추가/삭제 집합을 계산하고,
+ * 삭제 1회 + 추가 1회의 일괄 구문으로 반영한다. 이미 같은 값이 있는 자식 행은 건드리지 않는다.
+ * 자식 행 타입 R 은 equals/hashCode 로 (부모 ID, 값) 이 같은지 비교할 수 있어야 한다.
+ *
+ * @param <R> 자식 행 타입
+ */
+@Slf4j
+public class ChildCollectionSynchronizer<R> {
+
+    private final String name;
+    private final Function<R, Long> parentIdOf;
+    private final Function<Long[], List<R>> existingLoader;
+    private final Function<List<R>, Integer> deleter;
+    private final Function<List<R>, Integer> inserter;
+
+    /**
+     * @param name 로그용 이름 (예: cmc_mainnet)
+     * @param parentIdOf 자식 행의 부모 ID
+     * @param existingLoader 부모 ID 배열에 속한 기존 자식 행 조회
+     * @param deleter 자식 행 일괄 삭제 (삭제 건수 반환)
+     * @param inserter 자식 행 일괄 추가 (추가 건수 반환)
+     */
+    public ChildCollectionSynchronizer(String name, Function<R, Long> parentIdOf,
+                                       Function<Long[], List<R>> existingLoader,
+                                       Function<List<R>, Integer> deleter,
+                                       Function<List<R>, Integer> inserter) {
+        this.name = name;
+        this.parentIdOf = parentIdOf;
+        this.existingLoader = existingLoader;
+        this.deleter = deleter;
+        this.inserter = inserter;
+    }
+
+    /**
+     * 부모 ID 별 자식 집합을 desiredRows 와 같아지도록 동기화
+     *
+     * @param parentIds 동기화할 부모 ID (desiredRows 에 자식이 없는 부모는 기존 자식이 모두 삭제됨)
+     * @param desiredRows 최종 상태의 자식 행
+     */
+    public SyncResult sync(Collection<Long> parentIds, Collection<R> desiredRows) {
+        if (parentIds.isEmpty()) {
+            return new SyncResult(0, 0, 0);
+        }
+
+        Set<Long> parentIdSet = new HashSet<>(parentIds);
+        Set<R> desired = new LinkedHashSet<>();
+        for (R row : desiredRows) {
+            if (parentIdSet.contains(parentIdOf.apply(row))) {
+                desired.add(row);
+            }
+        }
+        Set<R> existing = new HashSet<>(existingLoader.apply(parentIdSet.toArray(Long[]::new)));
+
+        List<R> toRemove = new ArrayList<>();
+        for (R row : existing) {
+            if (!desired.contains(row)) {
+                toRemove.add(row);
+            }
+        }
+        List<R> toAdd = new ArrayList<>();
+        for (R row : desired) {
+            if (!existing.contains(row)) {
+                toAdd.add(row);
+            }
+        }
+
+        // 부모당 자식이 하나로 제한된 테이블(유니크 키)도 값 교체가 가능하도록 삭제를 먼저 반영
+        int removed = toRemove.isEmpty() ? 0 : deleter.apply(toRemove);
+        int added = toAdd.isEmpty() ? 0 : inserter.apply(toAdd);
+
+        SyncResult result = new SyncResult(added, removed, desired.size() - toAdd.size());
+        log.debug("{} 자식 동기화 - 부모: {} 건, 추가: {} 건, 삭제: {} 건, 유지: {} 건",
+            name, parentIdSet.size(), result.getAdded(), result.getRemoved(), result.getUnchanged());
+        return result;
+    }
+
+    /**
+     * 동기화 결과 건수
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SyncResult {
+        private final int added;
+        private final int removed;
+        private final int unchanged;
+    }
+}
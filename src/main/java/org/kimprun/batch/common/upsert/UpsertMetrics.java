@@ -0,0 +1,41 @@
+package org.kimprun.batch.common.upsert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블별 UPSERT 행 수 Micrometer 지표
+ *
+ * - batch.db.rows{table, result, step}: result = inserted / updated / unchanged
+ */
+@Component
+public class UpsertMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public UpsertMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String table, UpsertResult result) {
+        String step = MetricTags.currentStep();
+        increment(table, "inserted", step, result.getInserted());
+        increment(table, "updated", step, result.getUpdated());
+        increment(table, "unchanged", step, result.getUnchanged());
+    }
+
+    private void increment(String table, String result, String step, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder("batch.db.rows")
+            .description("테이블별 UPSERT 행 수")
+            .tag("table", table)
+            .tag("result", result)
+            .tag(MetricTags.STEP, step)
+            .register(meterRegistry)
+            .increment(amount);
+    }
+}
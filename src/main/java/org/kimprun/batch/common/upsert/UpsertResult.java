@@ -0,0 +1,74 @@
+package org.kimprun.batch.common.upsert;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * UPSERT 결과 건수 (신규 / 변경 / 변경 없음)
+ *
+ * INSERT ... ON CONFLICT DO UPDATE ... WHERE (...) IS DISTINCT FROM (...) RETURNING (xmax = 0) 의 결과로 만든다.
+ * RETURNING 은 실제로 쓰인 행만 반환하므로, 반환되지 않은 행은 값이 같아 갱신을 건너뛴 행이다.
+ */
+@Getter
+public class UpsertResult {
+
+    public static final UpsertResult EMPTY = new UpsertResult(0, 0, 0);
+
+    private final long inserted;
+    private final long updated;
+    private final long unchanged;
+
+    public UpsertResult(long inserted, long updated, long unchanged) {
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * RETURNING (xmax = 0) 결과로 생성
+     *
+     * @param insertedFlags 쓰인 행마다 신규 INSERT 여부 (true: INSERT, false: UPDATE)
+     * @param attempted UPSERT 요청 행 수
+     */
+    public static UpsertResult of(Collection<Boolean> insertedFlags, int attempted) {
+        long inserted = insertedFlags.stream().filter(Boolean.TRUE::equals).count();
+        long updated = insertedFlags.size() - inserted;
+        return new UpsertResult(inserted, updated, Math.max(0, attempted - insertedFlags.size()));
+    }
+
+    /**
+     * 단일 행 UPSERT 결과로 생성 (RETURNING 결과가 없으면 변경 없음)
+     */
+    public static UpsertResult ofRow(Boolean insertedFlag) {
+        if (insertedFlag == null) {
+            return new UpsertResult(0, 0, 1);
+        }
+        return insertedFlag ? new UpsertResult(1, 0, 0) : new UpsertResult(0, 1, 0);
+    }
+
+    /**
+     * 값이 같아 건너뛴 행까지 반환한 결과로 생성 (행마다 ofRow 와 같은 의미, null: 변경 없음)
+     */
+    public static UpsertResult ofRows(Collection<Boolean> insertedFlags) {
+        long inserted = insertedFlags.stream().filter(Boolean.TRUE::equals).count();
+        long updated = insertedFlags.stream().filter(Boolean.FALSE::equals).count();
+        return new UpsertResult(inserted, updated, insertedFlags.size() - inserted - updated);
+    }
+
+    public UpsertResult plus(UpsertResult other) {
+        return new UpsertResult(inserted + other.inserted, updated + other.updated, unchanged + other.unchanged);
+    }
+
+    /**
+     * 실제로 쓰인 행 수 (신규 + 변경)
+     */
+    public long getWritten() {
+        return inserted + updated;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("신규: %d, 변경: %d, 변경 없음: %d", inserted, updated, unchanged);
+    }
+}
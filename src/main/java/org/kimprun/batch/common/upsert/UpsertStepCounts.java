@@ -0,0 +1,55 @@
+package org.kimprun.batch.common.upsert;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Step ExecutionContext 에 UPSERT 결과 건수를 누적
+ *
+ * chunk 커밋 시 ExecutionContext 가 함께 저장되므로 Step 종료 후 JobExecution 에서 조회할 수 있다.
+ * (Slack 실행 결과 알림의 Step 정보에 사용)
+ */
+public final class UpsertStepCounts {
+
+    public static final String INSERTED_KEY = "upsert.inserted";
+    public static final String UPDATED_KEY = "upsert.updated";
+    public static final String UNCHANGED_KEY = "upsert.unchanged";
+
+    private UpsertStepCounts() {
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 Step 에 누적 (Step 밖에서 호출되면 무시)
+     */
+    public static void addToCurrentStep(UpsertResult result) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context != null) {
+            add(context.getStepExecution(), result);
+        }
+    }
+
+    public static void add(StepExecution stepExecution, UpsertResult result) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        synchronized (executionContext) {
+            executionContext.putLong(INSERTED_KEY, executionContext.getLong(INSERTED_KEY, 0L) + result.getInserted());
+            executionContext.putLong(UPDATED_KEY, executionContext.getLong(UPDATED_KEY, 0L) + result.getUpdated());
+            executionContext.putLong(UNCHANGED_KEY, executionContext.getLong(UNCHANGED_KEY, 0L) + result.getUnchanged());
+        }
+    }
+
+    /**
+     * 누적된 결과 조회 (기록이 없으면 null)
+     */
+    public static UpsertResult get(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        if (!executionContext.containsKey(INSERTED_KEY)) {
+            return null;
+        }
+        return new UpsertResult(
+            executionContext.getLong(INSERTED_KEY),
+            executionContext.getLong(UPDATED_KEY, 0L),
+            executionContext.getLong(UNCHANGED_KEY, 0L));
+    }
+}
@@ -0,0 +1,53 @@
+package org.kimprun.batch.config.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.executor.BatchExecutor;
+import org.kimprun.batch.common.executor.impl.BoundedBatchExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 배치 공유 실행기 설정
+ *
+ * - virtual  : 작업마다 가상 스레드 생성 (기본값, Rate Limit/HTTP 대기 중에도 플랫폼 스레드를 점유하지 않음)
+ * - platform : 고정 크기 플랫폼 스레드 풀 (가상 스레드 사용이 어려운 환경용 fallback)
+ *
+ * 동시 실행 수는 스레드 수가 아니라 semaphore 로 제한하며, permit 을 기다리는 요청이 대기 시간 안에 배정될 수 있는 수로 맞춘다.
+ */
+@Slf4j
+@Configuration
+public class BatchExecutorConfig {
+
+    @Value("${batch.executor.mode:virtual}")
+    private String executorMode;
+
+    // 기본값 4: 가장 작은 클래스 할당량(윈도우당 7건) 보다 작게 두어 permit 을 기다리는 요청이 한 윈도우 안에 모두 배정되게 함
+    // (윈도우당 허용 요청 수만큼 동시에 기다리면 할당량이 작은 클래스의 뒤쪽 요청이 대기 시간 초과로 버려짐)
+    @Value("${batch.executor.cmc.max-concurrency:4}")
+    private int cmcMaxConcurrency;
+
+    /**
+     * CMC API 호출용 공유 실행기
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BatchExecutor cmcApiExecutor() {
+        ExecutorService executorService;
+        if ("platform".equalsIgnoreCase(executorMode)) {
+            executorService = Executors.newFixedThreadPool(cmcMaxConcurrency, namedThreadFactory(Thread.ofPlatform()));
+        } else {
+            executorService = Executors.newThreadPerTaskExecutor(namedThreadFactory(Thread.ofVirtual()));
+        }
+
+        log.info("CMC API 공유 실행기 생성 - 모드: {}, 최대 동시 실행: {}", executorMode, cmcMaxConcurrency);
+        return new BoundedBatchExecutor("cmc-api", executorService, cmcMaxConcurrency);
+    }
+
+    private ThreadFactory namedThreadFactory(Thread.Builder builder) {
+        return builder.name("cmc-api-", 0).factory();
+    }
+}
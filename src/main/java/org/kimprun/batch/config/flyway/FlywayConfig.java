@@ -0,0 +1,33 @@
+package org.kimprun.batch.config.flyway;
+
+import org.flywaydb.database.postgresql.PostgreSQLConfigurationExtension;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway 설정
+ *
+ * cmc_* 테이블은 외부 서비스가 관리하므로, 배치가 소유한 테이블만 별도 위치/이력 테이블로 마이그레이션한다.
+ * 이미 테이블이 있는 스키마에서도 실행되도록 버전 0 으로 baseline 후 V1 부터 적용한다.
+ *
+ * PostgreSQL 기본 잠금(트랜잭션 advisory lock)은 마이그레이션 내내 트랜잭션을 열어 두므로,
+ * CREATE INDEX CONCURRENTLY 가 그 트랜잭션이 끝나기를 기다리며 멈춘다. 세션 advisory lock 을 사용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer batchFlywayConfigurationCustomizer() {
+        return configuration -> {
+            configuration
+                .locations("classpath:db/migration/batch")
+                .table("flyway_batch_history")
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+            configuration.getPluginRegister()
+                .getPlugin(PostgreSQLConfigurationExtension.class)
+                .setTransactionalLock(false);
+        };
+    }
+}
@@ -1,11 +1,20 @@
 package org.kimprun.batch.config.http;
 
+import org.kimprun.batch.cmc.metrics.CmcApiMetrics;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+
 @Configuration
 public class RestClientConfig {
 
@@ -30,11 +39,47 @@ public class RestClientConfig {
     }
 
     @Bean
-    public RestClient coinMarketCapClient(){
+    public RestClient coinMarketCapClient(CmcApiMetrics cmcApiMetrics, DistributedRateLimiter distributedRateLimiter){
         return RestClient.builder()
                 .baseUrl(cmcApiUrl)
                 .defaultHeader("X-CMC_PRO_API_KEY", cmcApiKey)
                 .defaultHeader("Content-Type", "application/json")
+                .requestInterceptor(cmcApiMetricsInterceptor(cmcApiMetrics))
+                .requestInterceptor(cmcRateLimitInterceptor(distributedRateLimiter))
                 .build();
     }
+
+    /**
+     * CMC API 요청 시간 / 응답 크기 기록 (응답 본문은 버퍼링하지 않음)
+     */
+    private ClientHttpRequestInterceptor cmcApiMetricsInterceptor(CmcApiMetrics cmcApiMetrics) {
+        return (request, body, execution) -> {
+            String endpoint = CmcApiMetrics.endpointOf(request.getURI());
+            String step = MetricTags.currentStep();
+            long startNanos = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                cmcApiMetrics.recordRequest(endpoint, step, response.getStatusCode().value(), System.nanoTime() - startNanos);
+                cmcApiMetrics.recordResponseSize(endpoint, response.getHeaders().getContentLength());
+                return response;
+            } catch (IOException e) {
+                cmcApiMetrics.recordRequest(endpoint, step, 0, System.nanoTime() - startNanos);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 429 응답을 Rate Limiter 에 알려 호출 중단 / 허용량 감소 (Retry-After 가 있으면 그 시간만큼 중단)
+     */
+    private ClientHttpRequestInterceptor cmcRateLimitInterceptor(DistributedRateLimiter distributedRateLimiter) {
+        return (request, body, execution) -> {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                distributedRateLimiter.onCmcApiThrottled(
+                    RetryAfter.toMillis(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+            }
+            return response;
+        };
+    }
 }
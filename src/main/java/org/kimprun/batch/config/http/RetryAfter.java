@@ -0,0 +1,35 @@
+package org.kimprun.batch.config.http;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Retry-After 헤더 해석 (초 또는 HTTP-date)
+ */
+final class RetryAfter {
+
+    private RetryAfter() {
+    }
+
+    /**
+     * @return 재시도까지 남은 ms (헤더가 없거나 해석할 수 없으면 0)
+     */
+    static long toMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(value.trim()) * 1000L);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0L, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+        } catch (DateTimeParseException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.kimprun.batch.config.http;
+
+import io.netty.channel.ChannelOption;
+import org.kimprun.batch.cmc.metrics.CmcApiMetrics;
+import org.kimprun.batch.common.metrics.MetricTags;
+import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * CoinMarketCap 비동기 호출용 WebClient 설정
+ * 요청마다 연결을 새로 맺지 않도록 Reactor Netty 커넥션 풀을 사용
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${cmc.api.key}")
+    private String cmcApiKey;
+    @Value("${cmc.api.url}")
+    private String cmcApiUrl;
+
+    @Value("${cmc.api.async.max-connections:32}")
+    private int maxConnections;
+
+    // 커넥션 풀이 가득 찼을 때 대기 가능한 최대 시간 (초)
+    @Value("${cmc.api.async.pending-acquire-timeout-seconds:60}")
+    private int pendingAcquireTimeoutSeconds;
+
+    // 응답 본문 최대 크기 (listings/latest 5000건 응답이 기본 256KB 를 넘음)
+    @Value("${cmc.api.async.max-in-memory-size-mb:32}")
+    private int maxInMemorySizeMb;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider coinMarketCapConnectionProvider() {
+        return ConnectionProvider.builder("cmc-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(pendingAcquireTimeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient coinMarketCapWebClient(ConnectionProvider coinMarketCapConnectionProvider, CmcApiMetrics cmcApiMetrics,
+                                            DistributedRateLimiter distributedRateLimiter) {
+        HttpClient httpClient = HttpClient.create(coinMarketCapConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+                .responseTimeout(Duration.ofSeconds(30))
+                .compress(true);
+
+        return WebClient.builder()
+                .baseUrl(cmcApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySizeMb * 1024 * 1024))
+                .defaultHeader("X-CMC_PRO_API_KEY", cmcApiKey)
+                .defaultHeader("Content-Type", "application/json")
+                .filter(cmcApiMetricsFilter(cmcApiMetrics))
+                .filter(cmcRateLimitFilter(distributedRateLimiter))
+                .build();
+    }
+
+    /**
+     * CMC API 요청 시간 / 응답 크기 기록
+     * 응답 콜백은 Step 스레드가 아니므로 step 태그는 요청 attribute 로 전달받음
+     */
+    private ExchangeFilterFunction cmcApiMetricsFilter(CmcApiMetrics cmcApiMetrics) {
+        return (request, next) -> Mono.defer(() -> {
+            String endpoint = CmcApiMetrics.endpointOf(request.url());
+            String step = request.attribute(MetricTags.STEP).map(Object::toString).orElse(MetricTags.NO_STEP);
+            long startNanos = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        cmcApiMetrics.recordRequest(endpoint, step, response.statusCode().value(), System.nanoTime() - startNanos);
+                        cmcApiMetrics.recordResponseSize(endpoint, response.headers().contentLength().orElse(-1L));
+                    })
+                    .doOnError(e -> cmcApiMetrics.recordRequest(endpoint, step, 0, System.nanoTime() - startNanos));
+        });
+    }
+
+    /**
+     * 429 응답을 Rate Limiter 에 알려 호출 중단 / 허용량 감소 (Retry-After 가 있으면 그 시간만큼 중단)
+     */
+    private ExchangeFilterFunction cmcRateLimitFilter(DistributedRateLimiter distributedRateLimiter) {
+        return ExchangeFilterFunction.ofResponseProcessor(response -> {
+            if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                distributedRateLimiter.onCmcApiThrottled(
+                    RetryAfter.toMillis(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+            }
+            return Mono.just(response);
+        });
+    }
+}
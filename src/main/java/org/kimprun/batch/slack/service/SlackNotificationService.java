@@ -2,6 +2,8 @@ package org.kimprun.batch.slack.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kimprun.batch.common.upsert.UpsertResult;
+import org.kimprun.batch.common.upsert.UpsertStepCounts;
 import org.kimprun.batch.slack.dto.SlackAttachment;
 import org.kimprun.batch.slack.dto.SlackField;
 import org.kimprun.batch.slack.dto.SlackMessage;
@@ -110,11 +112,21 @@ public class SlackNotificationService {
     private String buildStepInfo(Collection<StepExecution> stepExecutions) {
         StringBuilder sb = new StringBuilder();
         for (StepExecution stepExecution : stepExecutions) {
-            sb.append(String.format("• %s: %s (Read: %d, Write: %d)\n",
+            sb.append(String.format("• %s: %s (Read: %d, Write: %d)",
                     stepExecution.getStepName(),
                     stepExecution.getStatus(),
                     stepExecution.getReadCount(),
                     stepExecution.getWriteCount()));
+
+            // UPSERT 결과가 기록된 Step 은 신규/변경/변경 없음 건수 추가
+            UpsertResult upsertResult = UpsertStepCounts.get(stepExecution);
+            if (upsertResult != null) {
+                sb.append(String.format(" [신규: %d, 변경: %d, 변경 없음: %d]",
+                        upsertResult.getInserted(),
+                        upsertResult.getUpdated(),
+                        upsertResult.getUnchanged()));
+            }
+            sb.append("\n");
         }
         return sb.toString();
     }
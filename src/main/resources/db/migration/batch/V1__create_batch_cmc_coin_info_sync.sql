@@ -0,0 +1,12 @@
+-- 코인 상세 정보(getCmcCoinInfos) 증분 동기화 상태
+-- cmc_* 테이블은 외부 서비스 소유이므로 배치 전용 테이블에 코인별 콘텐츠 해시와 조회 시각을 기록한다.
+CREATE TABLE IF NOT EXISTS batch_cmc_coin_info_sync (
+    cmc_coin_id  BIGINT    PRIMARY KEY,
+    content_hash BIGINT    NOT NULL,
+    fetched_at   TIMESTAMP NOT NULL DEFAULT NOW(),
+    changed_at   TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 오래된 순 조회 (stale slice 선택)
+CREATE INDEX IF NOT EXISTS idx_batch_cmc_coin_info_sync_fetched_at
+    ON batch_cmc_coin_info_sync (fetched_at);
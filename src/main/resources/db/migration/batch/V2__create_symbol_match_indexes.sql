@@ -0,0 +1,19 @@
+-- CMC Coin / 기존 Coin 심볼 매핑 (linkCmcCoinWithExistingCoin) 용 함수 인덱스
+-- UPPER(symbol) 비교가 인덱스를 사용할 수 있도록 한다.
+-- coin / cmc_coin 은 외부 서비스가 쓰는 테이블이므로 CONCURRENTLY 로 만들어 쓰기를 막지 않는다.
+-- (CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없어 V2__*.sql.conf 에서 executeInTransaction=false 지정,
+--  생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX 후 다시 마이그레이션한다)
+
+-- 아직 매핑되지 않은 CMC 코인 후보 (DISTINCT ON (UPPER(symbol)) 정렬/조인)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_upper_symbol_unlinked
+    ON cmc_coin (UPPER(symbol))
+    WHERE coin_id IS NULL;
+
+-- 기존 코인 심볼 조인
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_coin_upper_symbol
+    ON coin (UPPER(symbol));
+
+-- 이미 매핑된 코인 제외 (NOT EXISTS ... WHERE coin_id = c.id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_coin_id
+    ON cmc_coin (coin_id)
+    WHERE coin_id IS NOT NULL;
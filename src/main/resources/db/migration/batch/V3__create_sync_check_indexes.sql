@@ -0,0 +1,33 @@
+-- 배치 실행 조건 검사 (shouldRun*Sync) 및 FK 연결 누락 조회용 인덱스
+-- UPPER(symbol) 함수 인덱스는 V2 참고
+-- 외부 서비스의 쓰기를 막지 않도록 CONCURRENTLY 로 생성 (트랜잭션 밖에서 실행, V3__*.sql.conf 참고)
+
+-- 최근 갱신 여부 (updated_at > NOW() - INTERVAL ...)
+-- UPSERT 로 행이 계속 갱신되어 물리 순서와 updated_at 상관관계가 낮으므로 BRIN 대신 btree 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_updated_at
+    ON cmc_coin (updated_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_exchange_updated_at
+    ON cmc_exchange (updated_at);
+
+-- 상세 정보 미연결 코인 (shouldRunCoinInfoSync)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_info_id_missing
+    ON cmc_coin (cmc_coin_id)
+    WHERE cmc_coin_info_id IS NULL;
+
+-- 랭킹 미연결 코인 (shouldRunCoinRankSync)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_rank_id_missing
+    ON cmc_coin (cmc_coin_id)
+    WHERE cmc_rank_id IS NULL AND cmc_coin_id IS NOT NULL;
+
+-- 메타 미연결 코인 상세 정보 (shouldRunCoinMetaSync)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cmc_coin_info_meta_id_missing
+    ON cmc_coin_info (cmc_coin_id)
+    WHERE cmc_coin_meta_id IS NULL;
+
+-- 매 실행 UPSERT 되는 테이블은 HOT 업데이트 여유 공간 확보
+-- (기존 페이지에는 VACUUM FULL / 재작성 이후부터 적용)
+ALTER TABLE cmc_coin SET (fillfactor = 80);
+ALTER TABLE cmc_coin_info SET (fillfactor = 80);
+ALTER TABLE cmc_rank SET (fillfactor = 80);
+ALTER TABLE cmc_exchange SET (fillfactor = 85);
@@ -0,0 +1,7 @@
+-- 데이터셋별 마지막 동기화 성공 시각 (SyncFreshnessService)
+-- UPSERT 가 변경 없는 행을 건너뛰면 cmc_* 의 updated_at 이 갱신되지 않으므로 배치 전용 테이블에 기록한다.
+CREATE TABLE IF NOT EXISTS batch_cmc_sync_watermark (
+    dataset         VARCHAR(32) PRIMARY KEY,
+    last_success_at TIMESTAMP   NOT NULL,
+    row_count       BIGINT      NOT NULL DEFAULT 0
+);
@@ -0,0 +1,133 @@
+package org.kimprun.batch.cmc.dao.mybatis;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kimprun.batch.config.flyway.FlywayConfig;
+import org.kimprun.batch.support.TestInfrastructure;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 실행 조건 검사(getSyncFreshness) 의 최근 갱신 / FK 미연결 조회가 V3 인덱스를 사용하는지 EXPLAIN 으로 검증
+ *
+ * cmc_* 스키마(E2E schema/cmc-schema.sql) 위에 애플리케이션과 같은 설정으로 Flyway 배치 마이그레이션을 실행하고,
+ * 운영처럼 대부분의 행은 오래되었고 FK 가 연결된 상태로 채운 뒤 매퍼 XML 의 SQL 을 그대로 EXPLAIN 한다.
+ */
+class SyncCheckIndexUsageTest {
+
+    private static final String CMC_SCHEMA = "schema/cmc-schema.sql";
+    private static final String MAPPER = "mapper/CmcBatchMapper.xml";
+    private static final String SYNC_FRESHNESS_STATEMENT = CmcBatchMapper.class.getName() + ".getSyncFreshness";
+
+    private static final int COINS = 20_000;
+    private static final int EXCHANGES = 5_000;
+
+    private static String jdbcUrl;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        jdbcUrl = TestInfrastructure.createDatabase("cmc_sync_check_index");
+        try (Connection connection = connect()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(CMC_SCHEMA));
+        }
+
+        FluentConfiguration configuration = Flyway.configure()
+            .dataSource(jdbcUrl, TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword());
+        new FlywayConfig().batchFlywayConfigurationCustomizer().customize(configuration);
+        configuration.load().migrate();
+
+        // 동기화가 끝난 상태: 하루 이상 지난 행이 대부분이고 FK 미연결 행은 극소수
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                INSERT INTO cmc_coin (cmc_coin_id, symbol, cmc_coin_info_id, cmc_rank_id, updated_at)
+                SELECT g, 'S' || g,
+                       CASE WHEN g %% 5000 = 0 THEN NULL ELSE g END,
+                       CASE WHEN g %% 4000 = 0 THEN NULL ELSE g END,
+                       NOW() - INTERVAL '30 days'
+                FROM generate_series(1, %d) g
+                """.formatted(COINS));
+            statement.execute("""
+                INSERT INTO cmc_coin_info (cmc_coin_id, cmc_coin_meta_id)
+                SELECT g, CASE WHEN g %% 3000 = 0 THEN NULL ELSE g END
+                FROM generate_series(1, %d) g
+                """.formatted(COINS));
+            statement.execute("INSERT INTO cmc_rank (cmc_coin_id, rank) SELECT g, g FROM generate_series(1, 100) g");
+            statement.execute("INSERT INTO cmc_coin_meta (cmc_coin_id) SELECT g FROM generate_series(1, 100) g");
+            statement.execute("""
+                INSERT INTO cmc_exchange (cmc_exchange_id, name, updated_at)
+                SELECT g, 'Exchange ' || g, NOW() - INTERVAL '30 days'
+                FROM generate_series(1, %d) g
+                """.formatted(EXCHANGES));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    void 최근_갱신_조회는_updated_at_인덱스를_사용한다() throws Exception {
+        String plan = explainSyncFreshness();
+
+        assertThat(plan).contains("idx_cmc_coin_updated_at", "idx_cmc_exchange_updated_at");
+    }
+
+    @Test
+    void FK_미연결_조회는_부분_인덱스를_사용한다() throws Exception {
+        String plan = explainSyncFreshness();
+
+        assertThat(plan).contains(
+            "idx_cmc_coin_info_id_missing",
+            "idx_cmc_coin_rank_id_missing",
+            "idx_cmc_coin_info_meta_id_missing");
+    }
+
+    /**
+     * 매퍼 XML 의 getSyncFreshness SQL 을 기본 갱신 주기(코인 맵 24시간, 거래소 168시간) 로 EXPLAIN
+     */
+    private static String explainSyncFreshness() throws Exception {
+        Configuration configuration = new Configuration();
+        try (InputStream mapper = new ClassPathResource(MAPPER).getInputStream()) {
+            new XMLMapperBuilder(mapper, configuration, MAPPER, configuration.getSqlFragments()).parse();
+        }
+        BoundSql boundSql = configuration.getMappedStatement(SYNC_FRESHNESS_STATEMENT)
+            .getBoundSql(Map.of("coinMapRefreshHours", 24, "exchangeRefreshHours", 168));
+
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+            for (int i = 0; i < parameterMappings.size(); i++) {
+                Map<?, ?> parameters = (Map<?, ?>) boundSql.getParameterObject();
+                statement.setInt(i + 1, (Integer) parameters.get(parameterMappings.get(i).getProperty()));
+            }
+
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection(jdbcUrl, TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword());
+    }
+}
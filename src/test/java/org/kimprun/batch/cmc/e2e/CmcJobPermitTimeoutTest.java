@@ -0,0 +1,107 @@
+package org.kimprun.batch.cmc.e2e;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kimprun.batch.BatchApplication;
+import org.kimprun.batch.common.ratelimit.DistributedRateLimiter;
+import org.kimprun.batch.support.TestInfrastructure;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 Rate Limit(윈도우당 30건) 과 기본 동시 실행 수로 cmcDataSyncJob 을 실행해 permit 대기 시간 초과가 없는지 검증
+ *
+ * 코인 상세 조회가 클래스 할당량(윈도우당 15~18건) 보다 많은 배치를 한꺼번에 기다리거나 대기 시간이 한 윈도우를 덮지 못하면 뒤쪽 배치가
+ * 시간 초과로 조회 오류가 되어 버려지고도 Step 은 COMPLETED 가 되므로, 시간 초과 지표와 상세 정보 누락을 함께 확인한다.
+ */
+class CmcJobPermitTimeoutTest {
+
+    // 상세 조회 배치(100개 단위) 가 클래스 할당량보다 많도록 설정
+    private static final int COINS = 2000;
+    private static final int EXCHANGES = 50;
+    private static final long LATENCY_MS = 50;
+
+    private static final String MISSING_COIN_INFO_SQL = """
+        SELECT COUNT(*) FROM cmc_coin c
+        WHERE NOT EXISTS (SELECT 1 FROM cmc_coin_info i WHERE i.cmc_coin_id = c.cmc_coin_id)
+        """;
+
+    private final SyntheticCmcUniverse universe = new SyntheticCmcUniverse(COINS, EXCHANGES);
+    private CmcStandInServer standIn;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestInfrastructure.clearApplicationKeys();
+        standIn = new CmcStandInServer(universe, LATENCY_MS, 0);
+        standIn.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @Test
+    void 운영_Rate_Limit_에서_기본_동시_실행_수는_permit_대기_시간을_넘지_않는다() throws Exception {
+        String jdbcUrl = TestInfrastructure.createDatabase("cmc_permit_timeout");
+        CmcBenchSchema.prepare(jdbcUrl, TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword(),
+            universe, COINS / 20);
+        Map<String, Object> properties = CmcE2eBenchmark.applicationProperties(jdbcUrl,
+            TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword(),
+            TestInfrastructure.redisHost(), TestInfrastructure.redisPort(), standIn, COINS,
+            DistributedRateLimiter.CMC_API_LIMIT);
+        properties.put("cmc.cache.enabled", "false");
+
+        JobExecution execution;
+        double timeouts;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BatchApplication.class)
+            .web(WebApplicationType.NONE)
+            .initializers(ctx -> ctx.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("cmcJobPermitTimeoutTest", properties)))
+            .run()) {
+            execution = context.getBean(JobLauncher.class).run(context.getBean("cmcDataSyncJob", Job.class),
+                new JobParametersBuilder()
+                    .addLocalDateTime("executeTime", LocalDateTime.now())
+                    .addString("mode", "permit-timeout-test")
+                    .toJobParameters());
+            timeouts = context.getBean(MeterRegistry.class).find("batch.ratelimit.timeouts").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        }
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(timeouts).as("permit 대기 시간 초과 횟수").isZero();
+        assertThat(count(jdbcUrl, MISSING_COIN_INFO_SQL)).as("상세 정보가 없는 코인").isZero();
+    }
+
+    private static long count(String jdbcUrl, String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl,
+                 TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword());
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
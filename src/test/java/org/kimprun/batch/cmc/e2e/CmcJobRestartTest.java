@@ -0,0 +1,317 @@
+package org.kimprun.batch.cmc.e2e;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kimprun.batch.BatchApplication;
+import org.kimprun.batch.support.TestInfrastructure;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * cmcDataSyncJob 을 coinInfoBulkStep 도중에 강제 종료한 뒤 재시작하면 남은 코인만 다시 조회하는지 검증
+ *
+ * 첫 실행은 별도 JVM(KilledRun) 으로 띄워 대역 서버가 일정 수의 코인 ID 를 받으면 프로세스를 kill 하고,
+ * 운영 절차와 같이 STARTED 로 남은 실행을 FAILED 로 표시한 뒤 같은 JobParameters 로 재시작한다.
+ * 재시작 중 대역 서버가 받은 코인 ID 수를 kill 직후 DB 에 남은 미처리 코인 수와 비교한다.
+ *
+ * - 전체 동기화: 완료 ID 범위 체크포인트로 저장된 범위를 건너뜀
+ * - 증분 동기화: 저장된 코인은 fetched_at 이 갱신되어 대상에서 빠짐 (신규 코인이 먼저 오는 우선순위 순이라
+ *   ID 범위 체크포인트를 쓰면 처리하지 않은 코인까지 건너뛰게 되고, 이 테스트가 그 경우를 잡는다)
+ */
+class CmcJobRestartTest {
+
+    private static final int COINS = 3000;
+    private static final int EXCHANGES = 50;
+    private static final long LATENCY_MS = 100;
+    private static final int KILL_AFTER_IDS = 1500;
+    private static final String COIN_INFO_BULK_STEP = "coinInfoBulkStep";
+    private static final long KILL_TIMEOUT_SECONDS = 180;
+
+    // 저장 커밋과 체크포인트 기록 사이에 kill 되면 다시 조회될 수 있는 최대 ID 수 (병합 저장 단위 1회분)
+    private static final int COALESCE_BATCHES = 4;
+    private static final int CHECKPOINT_LAG_IDS = COALESCE_BATCHES * 100;
+
+    private static final String MISSING_COIN_INFO_SQL = """
+        SELECT COUNT(*) FROM cmc_coin c
+        WHERE NOT EXISTS (SELECT 1 FROM cmc_coin_info i WHERE i.cmc_coin_id = c.cmc_coin_id)
+        """;
+    private static final String STALE_COIN_INFO_SQL = """
+        SELECT COUNT(*) FROM cmc_coin c
+        LEFT JOIN batch_cmc_coin_info_sync s ON s.cmc_coin_id = c.cmc_coin_id
+        WHERE s.fetched_at IS NULL OR s.fetched_at < NOW() - INTERVAL '24 hours'
+        """;
+
+    private final SyntheticCmcUniverse universe = new SyntheticCmcUniverse(COINS, EXCHANGES);
+    private CmcStandInServer standIn;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestInfrastructure.clearApplicationKeys();
+        standIn = new CmcStandInServer(universe, LATENCY_MS, 0);
+        standIn.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @Test
+    void 전체_동기화는_kill_후_재시작하면_체크포인트_이후_코인만_조회한다() throws Exception {
+        String jdbcUrl = prepareDatabase("cmc_restart_full");
+        Map<String, Object> properties = properties(jdbcUrl, false);
+
+        runUntilKilled(properties, KILL_AFTER_IDS);
+        long missing = count(jdbcUrl, MISSING_COIN_INFO_SQL);
+        assertThat(missing).as("coinInfoBulkStep 도중에 kill 되어야 함").isBetween(1L, COINS - 1L);
+
+        AtomicLong resumedIds = new AtomicLong();
+        JobExecution resumed = resume(properties, resumedIds);
+
+        assertThat(resumed.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(count(jdbcUrl, MISSING_COIN_INFO_SQL)).as("재시작 후 상세 정보가 없는 코인").isZero();
+        assertThat(resumedIds.get())
+            .as("재시작 시 coinInfoBulkStep 이 조회한 코인 ID 수 (kill 직후 미저장 %d 건)", missing)
+            .isBetween(missing, missing + CHECKPOINT_LAG_IDS);
+    }
+
+    @Test
+    void 증분_동기화는_kill_후_재시작하면_갱신되지_않은_코인만_조회한다() throws Exception {
+        String jdbcUrl = prepareDatabase("cmc_restart_delta");
+        Map<String, Object> properties = properties(jdbcUrl, true);
+
+        // 모든 코인을 한 번 동기화한 뒤 갱신 주기를 넘기고, 3 의 배수 ID 는 신규 코인으로 만들어
+        // 대상 조회 순서(신규 코인 우선)가 ID 오름차순과 다르게 한다
+        assertThat(runToCompletion(properties).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        execute(jdbcUrl,
+            "UPDATE batch_cmc_coin_info_sync SET fetched_at = NOW() - INTERVAL '48 hours'",
+            "DELETE FROM batch_cmc_coin_info_sync WHERE cmc_coin_id % 3 = 0");
+        assertThat(count(jdbcUrl, STALE_COIN_INFO_SQL)).isEqualTo(COINS);
+
+        runUntilKilled(properties, coinInfoRequestedIds() + KILL_AFTER_IDS);
+        long stale = count(jdbcUrl, STALE_COIN_INFO_SQL);
+        assertThat(stale).as("coinInfoBulkStep 도중에 kill 되어야 함").isBetween(1L, COINS - 1L);
+
+        AtomicLong resumedIds = new AtomicLong();
+        JobExecution resumed = resume(properties, resumedIds);
+
+        assertThat(resumed.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(count(jdbcUrl, STALE_COIN_INFO_SQL)).as("재시작 후 갱신되지 않은 코인").isZero();
+        assertThat(resumedIds.get()).as("재시작 시 coinInfoBulkStep 이 조회한 코인 ID 수").isEqualTo(stale);
+    }
+
+    private String prepareDatabase(String name) throws Exception {
+        String jdbcUrl = TestInfrastructure.createDatabase(name);
+        CmcBenchSchema.prepare(jdbcUrl, TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword(),
+            universe, COINS / 20);
+        return jdbcUrl;
+    }
+
+    /**
+     * 벤치마크와 같은 프로퍼티에 응답 캐시를 끔 (kill 전에 받은 응답이 캐시에서 나오면 재조회 수를 셀 수 없음)
+     * 동시 요청 수를 줄여 kill 시점에 coinInfoBulkStep 이 진행 중이도록 함
+     */
+    private Map<String, Object> properties(String jdbcUrl, boolean deltaEnabled) {
+        Map<String, Object> properties = CmcE2eBenchmark.applicationProperties(jdbcUrl,
+            TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword(),
+            TestInfrastructure.redisHost(), TestInfrastructure.redisPort(), standIn, COINS, 100_000);
+        properties.put("cmc.cache.enabled", "false");
+        properties.put("cmc.batch.coin-info.delta.enabled", String.valueOf(deltaEnabled));
+        properties.put("cmc.batch.coin-info.pipeline.coalesce-batches", String.valueOf(COALESCE_BATCHES));
+        properties.put("batch.executor.cmc.max-concurrency", "2");
+        return properties;
+    }
+
+    /**
+     * 별도 JVM 에서 Job 을 시작하고 대역 서버가 받은 코인 ID 수가 killAtIds 에 도달하면 프로세스를 강제 종료
+     * 종료 후 STARTED 로 남은 Job / Step 실행을 FAILED 로 표시 (재시작 가능 상태)
+     */
+    private void runUntilKilled(Map<String, Object> properties, long killAtIds) throws Exception {
+        Path log = Files.createTempFile("cmc-killed-run-", ".log");
+        List<String> command = new ArrayList<>(List.of(
+            ProcessHandle.current().info().command().orElse(System.getProperty("java.home") + "/bin/java"),
+            "-cp", System.getProperty("java.class.path"),
+            KilledRun.class.getName()));
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(KILL_TIMEOUT_SECONDS);
+            while (coinInfoRequestedIds() < killAtIds) {
+                assertThat(process.isAlive()).as("kill 전에 Job 프로세스가 종료됨 - 로그: %s", log).isTrue();
+                assertThat(System.nanoTime() - deadline).as("kill 시점 대기 시간 초과 - 로그: %s", log).isNegative();
+                Thread.sleep(5);
+            }
+        } finally {
+            process.destroyForcibly();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+
+        String jdbcUrl = (String) properties.get("spring.datasource.url");
+        execute(jdbcUrl,
+            "UPDATE batch_step_execution SET status = 'FAILED', exit_code = 'FAILED', end_time = NOW() "
+                + "WHERE status IN ('STARTING', 'STARTED', 'STOPPING')",
+            "UPDATE batch_job_execution SET status = 'FAILED', exit_code = 'FAILED', end_time = NOW() "
+                + "WHERE status IN ('STARTING', 'STARTED', 'STOPPING')");
+        Files.deleteIfExists(log);
+    }
+
+    /**
+     * 마지막 Job 인스턴스를 같은 JobParameters 로 재시작
+     *
+     * @param coinInfoBulkRequestedIds coinInfoBulkStep 실행 중 대역 서버가 받은 코인 ID 수
+     *                                 (뒤의 coinDetailInfoSyncStep 도 상세 정보를 조회하므로 구간을 나눠 셈)
+     */
+    private JobExecution resume(Map<String, Object> properties, AtomicLong coinInfoBulkRequestedIds) throws Exception {
+        try (ConfigurableApplicationContext context = start(properties, countRequestedIds(coinInfoBulkRequestedIds))) {
+            Job job = context.getBean("cmcDataSyncJob", Job.class);
+            JobExplorer jobExplorer = context.getBean(JobExplorer.class);
+            JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+            JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+            assertThat(lastExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+            return context.getBean(JobLauncher.class).run(job, lastExecution.getJobParameters());
+        }
+    }
+
+    private JobExecution runToCompletion(Map<String, Object> properties) throws Exception {
+        try (ConfigurableApplicationContext context = start(properties)) {
+            return context.getBean(JobLauncher.class).run(context.getBean("cmcDataSyncJob", Job.class), jobParameters());
+        }
+    }
+
+    private long coinInfoRequestedIds() {
+        return standIn.requestedIdCounts().getOrDefault(CmcStandInServer.COIN_INFO_PATH, 0L);
+    }
+
+    /**
+     * coinInfoBulkStep 을 감싸 실행 전후 대역 서버가 받은 코인 ID 수 차이를 누적
+     */
+    private BeanPostProcessor countRequestedIds(AtomicLong requestedIds) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!COIN_INFO_BULK_STEP.equals(beanName)) {
+                    return bean;
+                }
+                Step step = (Step) bean;
+                return new Step() {
+                    @Override
+                    public String getName() {
+                        return step.getName();
+                    }
+
+                    @Override
+                    public boolean isAllowStartIfComplete() {
+                        return step.isAllowStartIfComplete();
+                    }
+
+                    @Override
+                    public int getStartLimit() {
+                        return step.getStartLimit();
+                    }
+
+                    @Override
+                    public void execute(StepExecution stepExecution) throws JobInterruptedException {
+                        long before = coinInfoRequestedIds();
+                        try {
+                            step.execute(stepExecution);
+                        } finally {
+                            requestedIds.addAndGet(coinInfoRequestedIds() - before);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    private static ConfigurableApplicationContext start(Map<String, Object> properties,
+                                                        BeanPostProcessor... beanPostProcessors) {
+        return new SpringApplicationBuilder(BatchApplication.class)
+            .web(WebApplicationType.NONE)
+            .initializers(ctx -> {
+                ctx.getEnvironment().getPropertySources()
+                    .addFirst(new MapPropertySource("cmcJobRestartTest", properties));
+                for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+                    ctx.getBeanFactory().addBeanPostProcessor(beanPostProcessor);
+                }
+            })
+            .run();
+    }
+
+    private static JobParameters jobParameters() {
+        return new JobParametersBuilder()
+            .addLocalDateTime("executeTime", LocalDateTime.now())
+            .addString("mode", "restart-test")
+            .toJobParameters();
+    }
+
+    private static long count(String jdbcUrl, String sql) throws Exception {
+        try (Connection connection = connect(jdbcUrl);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(String jdbcUrl, String... sqls) throws Exception {
+        try (Connection connection = connect(jdbcUrl);
+             Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static Connection connect(String jdbcUrl) throws Exception {
+        return DriverManager.getConnection(jdbcUrl, TestInfrastructure.postgresUsername(), TestInfrastructure.postgresPassword());
+    }
+
+    /**
+     * kill 대상 Job 프로세스 (--key=value 인자를 애플리케이션 프로퍼티로 받아 Job 을 1회 실행)
+     */
+    static final class KilledRun {
+
+        public static void main(String[] args) throws Exception {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BatchApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+            context.getBean(JobLauncher.class).run(context.getBean("cmcDataSyncJob", Job.class), jobParameters());
+            // kill 전에 끝났으면 바로 종료해 테스트가 대기 시간 초과 대신 즉시 실패하게 함
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
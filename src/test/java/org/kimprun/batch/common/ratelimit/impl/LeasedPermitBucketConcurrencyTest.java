@@ -0,0 +1,110 @@
+package org.kimprun.batch.common.ratelimit.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kimprun.batch.support.TestInfrastructure;
+import org.redisson.api.RedissonClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 인스턴스가 같은 Redis 예산을 나눠 쓸 때 임의의 windowSeconds 구간에서 limit 을 넘지 않는지 검증
+ *
+ * 운영 설정(60초 윈도우)을 그대로 쓰면 여러 윈도우를 지나는 데 수 분이 걸리므로 윈도우와 임대 기한을 줄여 실행한다.
+ * 보장은 "permit 사용 시각 <= Redis 기록 점수" 와 "기록은 점수 + 윈도우까지 남는다" 에서 나오므로 윈도우 길이와 무관하다.
+ */
+class LeasedPermitBucketConcurrencyTest {
+
+    private static final int LIMIT = 20;
+    private static final int WINDOW_SECONDS = 2;
+    private static final int LEASE_BATCH_SIZE = 5;
+    private static final int LEASE_TTL_SECONDS = 1;
+
+    private static final int INSTANCES = 2;
+    private static final int THREADS_PER_INSTANCE = 4;
+    private static final long RUN_NANOS = TimeUnit.SECONDS.toNanos(WINDOW_SECONDS * 4L);
+
+    private final List<RedissonClient> clients = new ArrayList<>();
+    private final List<LeasedPermitBucket> buckets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String key = "test:leased-permit:" + UUID.randomUUID();
+        for (int i = 0; i < INSTANCES; i++) {
+            // 인스턴스마다 별도 Redis 연결과 소유자 ID (별도 프로세스와 같은 조건)
+            RedissonClient client = TestInfrastructure.newRedissonClient();
+            clients.add(client);
+            buckets.add(new LeasedPermitBucket(client, key, "instance-" + i,
+                LIMIT, WINDOW_SECONDS, LEASE_BATCH_SIZE, LEASE_TTL_SECONDS));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (!buckets.isEmpty()) {
+            buckets.forEach(LeasedPermitBucket::releaseAll);
+            buckets.get(0).reset();
+        }
+        clients.forEach(RedissonClient::shutdown);
+    }
+
+    @Test
+    void 여러_인스턴스가_동시에_획득해도_어떤_윈도우에서도_limit_을_넘지_않는다() throws Exception {
+        ConcurrentLinkedQueue<Long> acquiredAtNanos = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES * THREADS_PER_INSTANCE);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (LeasedPermitBucket bucket : buckets) {
+                for (int t = 0; t < THREADS_PER_INSTANCE; t++) {
+                    workers.add(executor.submit(() -> {
+                        start.await();
+                        long deadline = System.nanoTime() + RUN_NANOS;
+                        while (System.nanoTime() - deadline < 0) {
+                            if (bucket.acquire(100, TimeUnit.MILLISECONDS)) {
+                                acquiredAtNanos.add(System.nanoTime());
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(RUN_NANOS * 2, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long[] timestamps = acquiredAtNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        assertThat(timestamps.length)
+            .as("여러 윈도우에 걸쳐 permit 이 계속 배정되어야 함")
+            .isGreaterThanOrEqualTo(LIMIT * 2);
+
+        // 각 획득 시각에서 시작하는 윈도우 [t, t + window) 의 획득 수 (sliding window 최댓값)
+        long windowNanos = TimeUnit.SECONDS.toNanos(WINDOW_SECONDS);
+        int maxInWindow = 0;
+        int end = 0;
+        for (int begin = 0; begin < timestamps.length; begin++) {
+            while (end < timestamps.length && timestamps[end] - timestamps[begin] < windowNanos) {
+                end++;
+            }
+            maxInWindow = Math.max(maxInWindow, end - begin);
+        }
+        assertThat(maxInWindow)
+            .as("%d초 윈도우 최대 획득 수 (전체 %d 건)", WINDOW_SECONDS, timestamps.length)
+            .isLessThanOrEqualTo(LIMIT);
+    }
+}
@@ -0,0 +1,67 @@
+package org.kimprun.batch.support;
+
+import org.junit.jupiter.api.Assumptions;
+import org.redisson.api.RedissonClient;
+
+import java.sql.SQLException;
+
+/**
+ * 통합 테스트용 PostgreSQL / Redis (JVM 당 하나의 IntegrationInfrastructure, 시스템 프로퍼티 test.*)
+ *
+ * 외부 서버도 Docker 도 없으면 테스트를 건너뛰고, 테스트가 만든 데이터베이스는 JVM 종료 시 삭제한다.
+ */
+public final class TestInfrastructure {
+
+    private static IntegrationInfrastructure infrastructure;
+
+    private TestInfrastructure() {
+    }
+
+    /**
+     * 빈 데이터베이스 생성 후 JDBC URL 반환 (이름 뒤에 실행 ID 가 붙음)
+     */
+    public static String createDatabase(String name) throws SQLException {
+        return infrastructure().createDatabase(name);
+    }
+
+    public static String postgresUsername() {
+        return infrastructure().postgresUsername();
+    }
+
+    public static String postgresPassword() {
+        return infrastructure().postgresPassword();
+    }
+
+    public static String redisHost() {
+        return infrastructure().redisHost();
+    }
+
+    public static int redisPort() {
+        return infrastructure().redisPort();
+    }
+
+    /**
+     * 테스트용 Redis 에 연결된 새 Redisson 클라이언트 (종료는 호출자가 처리)
+     */
+    public static RedissonClient newRedissonClient() {
+        return infrastructure().newRedissonClient();
+    }
+
+    /**
+     * Rate Limiter 키 / 응답 캐시 등 이전 테스트가 남긴 애플리케이션 Redis 키 삭제
+     */
+    public static void clearApplicationKeys() {
+        infrastructure().clearApplicationKeys();
+    }
+
+    private static synchronized IntegrationInfrastructure infrastructure() {
+        if (infrastructure == null) {
+            IntegrationInfrastructure candidate = IntegrationInfrastructure.fromSystemProperties("test");
+            Assumptions.assumeFalse(candidate.isUnavailable(),
+                "Docker 를 사용할 수 없고 외부 서버(test.*)도 지정되지 않아 테스트를 건너뜁니다");
+            Runtime.getRuntime().addShutdownHook(new Thread(candidate::close, "test-infrastructure-close"));
+            infrastructure = candidate;
+        }
+        return infrastructure;
+    }
+}